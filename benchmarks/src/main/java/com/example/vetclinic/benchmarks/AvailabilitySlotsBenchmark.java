@@ -0,0 +1,79 @@
+package com.example.vetclinic.benchmarks;
+
+import com.example.vetclinic.application.service.VetDayOccupancy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Free-slot computation for one vet and day, the server-side replacement of the CLI's
+ * {@code TimeSlotSelector.calculateAvailableSlots}: building the occupancy from the booked
+ * appointments and listing the starts where a service fits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailabilitySlotsBenchmark {
+
+    private static final LocalTime OPENING = LocalTime.of(8, 0);
+    private static final LocalTime CLOSING = LocalTime.of(20, 0);
+    private static final int STEP_MINUTES = 15;
+
+    @Param({"0", "8", "24"})
+    private int bookedAppointments;
+
+    @Param({"30", "90"})
+    private int durationMinutes;
+
+    private List<LocalTime> starts;
+    private List<Integer> durations;
+    private VetDayOccupancy occupancy;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        starts = new ArrayList<>(bookedAppointments);
+        durations = new ArrayList<>(bookedAppointments);
+        for (int i = 0; i < bookedAppointments; i++) {
+            starts.add(OPENING.plusMinutes(15L * random.nextInt(48)));
+            durations.add(15 * (1 + random.nextInt(6)));
+        }
+        occupancy = buildOccupancy();
+    }
+
+    @Benchmark
+    public VetDayOccupancy buildOccupancy() {
+        VetDayOccupancy.Builder builder = VetDayOccupancy.builder();
+        for (int i = 0; i < starts.size(); i++) {
+            builder.occupy(starts.get(i), durations.get(i));
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public List<LocalTime> freeSlots() {
+        return occupancy.freeSlots(OPENING, CLOSING, durationMinutes, STEP_MINUTES, null);
+    }
+
+    @Benchmark
+    public List<LocalTime> buildAndListFreeSlots() {
+        return buildOccupancy().freeSlots(OPENING, CLOSING, durationMinutes, STEP_MINUTES, null);
+    }
+}
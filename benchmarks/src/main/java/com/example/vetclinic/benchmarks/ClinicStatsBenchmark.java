@@ -0,0 +1,73 @@
+package com.example.vetclinic.benchmarks;
+
+import com.example.vetclinic.VetClinicApplication;
+import com.example.vetclinic.application.dto.clinic.ClinicStatsDTO;
+import com.example.vetclinic.application.service.ClinicService;
+import com.example.vetclinic.infrastructure.synthetic.SyntheticDataLoader;
+import com.example.vetclinic.infrastructure.synthetic.SyntheticDataSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ClinicService#getClinicStats()} through the Spring proxy against an embedded H2
+ * database (profile {@code local}) loaded with a synthetic dataset of 5 or 40 vets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClinicStatsBenchmark {
+
+    // Each vet brings 2500 owners and about 3000 appointments a year
+    @Param({"5", "40"})
+    private int vets;
+
+    private ConfigurableApplicationContext context;
+    private ClinicService clinicService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(VetClinicApplication.class)
+                .profiles("local")
+                .properties(
+                        // Security configuration needs the servlet context; the port is never called
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:clinic-stats-" + vets + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.vetclinic.infrastructure.synthetic=INFO")
+                .run();
+        context.getBean(SyntheticDataLoader.class).load(SyntheticDataSpec.builder()
+                .owners(vets * 2_500)
+                .vets(vets)
+                .build());
+        clinicService = context.getBean(ClinicService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ClinicStatsDTO getClinicStats() {
+        return clinicService.getClinicStats();
+    }
+}
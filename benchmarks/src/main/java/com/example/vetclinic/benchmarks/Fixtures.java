@@ -0,0 +1,151 @@
+package com.example.vetclinic.benchmarks;
+
+import com.example.vetclinic.application.dto.appointment.AppointmentDTO;
+import com.example.vetclinic.domain.model.Appointment;
+import com.example.vetclinic.domain.model.AppointmentStatus;
+import com.example.vetclinic.domain.model.MedicalRecord;
+import com.example.vetclinic.domain.model.Owner;
+import com.example.vetclinic.domain.model.Pet;
+import com.example.vetclinic.domain.model.ServiceType;
+import com.example.vetclinic.domain.model.Specialty;
+import com.example.vetclinic.domain.model.Vet;
+import com.example.vetclinic.domain.model.VeterinaryService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic entity graphs shaped like the clinic's data: owners with a few pets, vets
+ * with specialties, appointments spread over the working day.
+ */
+final class Fixtures {
+
+    private static final AppointmentStatus[] STATUSES = AppointmentStatus.values();
+
+    private Fixtures() {
+    }
+
+    static List<Appointment> appointments(int count, long seed) {
+        Random random = new Random(seed);
+        List<Vet> vets = vets(8);
+        List<VeterinaryService> services = services();
+        List<Pet> pets = pets(Math.max(1, count / 3), random);
+        LocalDateTime start = LocalDate.of(2026, 1, 5).atTime(8, 0);
+
+        List<Appointment> appointments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            VeterinaryService service = services.get(random.nextInt(services.size()));
+            LocalDateTime date = start.plusDays(i / 40).plusMinutes(15L * random.nextInt(40));
+            appointments.add(Appointment.builder()
+                    .id((long) i + 1)
+                    .appointmentDate(date)
+                    .endDate(date.plusMinutes(service.getEstimatedDurationMinutes()))
+                    .status(STATUSES[random.nextInt(STATUSES.length)])
+                    .notes(random.nextInt(3) == 0 ? null : "Control rutinario, revisar vacunas y peso")
+                    .pet(pets.get(random.nextInt(pets.size())))
+                    .vet(vets.get(random.nextInt(vets.size())))
+                    .service(service)
+                    .build());
+        }
+        return appointments;
+    }
+
+    static List<MedicalRecord> medicalRecords(List<Appointment> appointments) {
+        List<MedicalRecord> records = new ArrayList<>(appointments.size());
+        for (Appointment appointment : appointments) {
+            records.add(MedicalRecord.builder()
+                    .id(appointment.getId())
+                    .recordDate(appointment.getAppointmentDate())
+                    .diagnosis("Otitis externa leve en oído derecho")
+                    .treatment("Limpieza y gotas óticas cada 12 horas durante 7 días")
+                    .notes(appointment.getNotes())
+                    .weight(new BigDecimal("12.40"))
+                    .temperature(new BigDecimal("38.6"))
+                    .vaccineAdministered(appointment.getId() % 4 == 0 ? "Rabia" : null)
+                    .pet(appointment.getPet())
+                    .vet(appointment.getVet())
+                    .appointment(appointment)
+                    .build());
+        }
+        return records;
+    }
+
+    static List<AppointmentDTO> appointmentDTOs(int count, long seed) {
+        List<AppointmentDTO> dtos = new ArrayList<>(count);
+        for (Appointment a : appointments(count, seed)) {
+            dtos.add(new AppointmentDTO(a.getId(), a.getAppointmentDate(), a.getEndDate(), a.getStatus(),
+                    a.getNotes(), a.getPet().getId(), a.getPet().getName(), a.getVet().getId(),
+                    a.getVet().getFirstName() + " " + a.getVet().getLastName(),
+                    a.getService().getId(), a.getService().getName()));
+        }
+        return dtos;
+    }
+
+    private static List<Vet> vets(int count) {
+        List<Specialty> specialties = List.of(
+                Specialty.builder().id(1L).name("Cirugía").build(),
+                Specialty.builder().id(2L).name("Dermatología").build(),
+                Specialty.builder().id(3L).name("Cardiología").build());
+        List<Vet> vets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Set<Specialty> own = new HashSet<>(specialties.subList(0, 1 + i % specialties.size()));
+            vets.add(Vet.builder()
+                    .id((long) i + 1)
+                    .firstName("Vet" + i)
+                    .lastName("Apellido" + i)
+                    .specialties(own)
+                    .build());
+        }
+        return vets;
+    }
+
+    private static List<VeterinaryService> services() {
+        return List.of(
+                service(1L, "Consulta general", ServiceType.CHECKUP, 30),
+                service(2L, "Vacunación", ServiceType.VACCINATION, 15),
+                service(3L, "Cirugía menor", ServiceType.SURGERY, 90),
+                service(4L, "Peluquería", ServiceType.GROOMING, 60));
+    }
+
+    private static VeterinaryService service(Long id, String name, ServiceType type, int minutes) {
+        return VeterinaryService.builder()
+                .id(id)
+                .name(name)
+                .serviceType(type)
+                .baseCost(new BigDecimal("35.00"))
+                .estimatedDurationMinutes(minutes)
+                .active(true)
+                .build();
+    }
+
+    private static List<Pet> pets(int count, Random random) {
+        List<Pet> pets = new ArrayList<>(count);
+        Owner owner = null;
+        for (int i = 0; i < count; i++) {
+            if (i % 3 == 0) {
+                owner = Owner.builder()
+                        .id((long) i / 3 + 1)
+                        .firstName("Cliente" + i)
+                        .lastName("Apellido" + i)
+                        .phone("600000" + i)
+                        .email("cliente" + i + "@example.com")
+                        .build();
+            }
+            pets.add(Pet.builder()
+                    .id((long) i + 1)
+                    .name("Mascota" + i)
+                    .species(random.nextBoolean() ? "Perro" : "Gato")
+                    .breed("Mestizo")
+                    .birthDate(LocalDate.of(2018 + random.nextInt(7), 1 + random.nextInt(12), 1))
+                    .owner(owner)
+                    .build());
+        }
+        return pets;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.vetclinic.benchmarks;
+
+import com.example.vetclinic.security.JwtTokenProvider;
+import com.example.vetclinic.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification as done by the JWT filter on every request: with the verified-token
+ * cache, without it, and the principal built from the claims.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "SecretKeyMustBeAtLeast256BitsLongForSecurityReasons1234567890";
+
+    private JwtTokenProvider cached;
+    private JwtTokenProvider uncached;
+    private UsernamePasswordAuthenticationToken authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cached = new JwtTokenProvider(SECRET, 3_600_000, 10_000);
+        uncached = new JwtTokenProvider(SECRET, 3_600_000, 0);
+        UserPrincipal principal = new UserPrincipal(7L, "maria", null, List.of(
+                new SimpleGrantedAuthority("ROLE_VET"), new SimpleGrantedAuthority("ROLE_USER")));
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        token = cached.generateToken(authentication);
+    }
+
+    @Benchmark
+    public Claims verifyCached() {
+        return cached.verify(token);
+    }
+
+    @Benchmark
+    public Claims verifyUncached() {
+        return uncached.verify(token);
+    }
+
+    @Benchmark
+    public UserPrincipal verifyAndBuildPrincipal() {
+        return uncached.getPrincipal(uncached.verify(token));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return uncached.generateToken(authentication);
+    }
+}
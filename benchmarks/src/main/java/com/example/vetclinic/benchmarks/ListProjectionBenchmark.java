@@ -0,0 +1,105 @@
+package com.example.vetclinic.benchmarks;
+
+import com.example.vetclinic.VetClinicApplication;
+import com.example.vetclinic.application.dto.appointment.AppointmentDTO;
+import com.example.vetclinic.application.dto.medicalrecord.MedicalRecordDTO;
+import com.example.vetclinic.infrastructure.mapper.AppointmentMapper;
+import com.example.vetclinic.infrastructure.mapper.MedicalRecordMapper;
+import com.example.vetclinic.infrastructure.persistence.AppointmentJpaRepository;
+import com.example.vetclinic.infrastructure.persistence.MedicalRecordJpaRepository;
+import com.example.vetclinic.infrastructure.synthetic.SyntheticDataLoader;
+import com.example.vetclinic.infrastructure.synthetic.SyntheticDataSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The two read paths of the appointment and medical record lists against an embedded H2
+ * database (profile {@code local}) with a synthetic year for two vets, about 5000 appointments:
+ * entities mapped by MapStruct versus the DTO constructor projections. Add {@code -prof gc}
+ * to compare the allocation per list as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListProjectionBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private AppointmentJpaRepository appointmentRepository;
+    private MedicalRecordJpaRepository medicalRecordRepository;
+    private AppointmentMapper appointmentMapper;
+    private MedicalRecordMapper medicalRecordMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(VetClinicApplication.class)
+                .profiles("local")
+                .properties(
+                        // Security configuration needs the servlet context; the port is never called
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:list-projection;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        context.getBean(SyntheticDataLoader.class).load(SyntheticDataSpec.builder()
+                .owners(500)
+                .vets(2)
+                .build());
+        // One transaction per call, so no list is served from a warm persistence context
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        appointmentRepository = context.getBean(AppointmentJpaRepository.class);
+        medicalRecordRepository = context.getBean(MedicalRecordJpaRepository.class);
+        appointmentMapper = context.getBean(AppointmentMapper.class);
+        medicalRecordMapper = context.getBean(MedicalRecordMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<AppointmentDTO> appointmentsMapped() {
+        return readOnly.execute(status -> appointmentRepository.findAll().stream()
+                .map(appointmentMapper::toDTO)
+                .toList());
+    }
+
+    @Benchmark
+    public List<AppointmentDTO> appointmentsProjected() {
+        return readOnly.execute(status -> appointmentRepository.findAllDTOs());
+    }
+
+    @Benchmark
+    public List<MedicalRecordDTO> recordsMapped() {
+        return readOnly.execute(status -> medicalRecordRepository.findAll().stream()
+                .map(medicalRecordMapper::toDTO)
+                .toList());
+    }
+
+    @Benchmark
+    public List<MedicalRecordDTO> recordsProjected() {
+        return readOnly.execute(status -> medicalRecordRepository.findAllDTOs());
+    }
+}
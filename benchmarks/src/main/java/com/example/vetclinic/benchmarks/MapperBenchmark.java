@@ -0,0 +1,71 @@
+package com.example.vetclinic.benchmarks;
+
+import com.example.vetclinic.application.dto.appointment.AppointmentDTO;
+import com.example.vetclinic.application.dto.medicalrecord.MedicalRecordDTO;
+import com.example.vetclinic.domain.model.Appointment;
+import com.example.vetclinic.domain.model.MedicalRecord;
+import com.example.vetclinic.infrastructure.mapper.AppointmentMapper;
+import com.example.vetclinic.infrastructure.mapper.AppointmentMapperImpl;
+import com.example.vetclinic.infrastructure.mapper.MedicalRecordMapper;
+import com.example.vetclinic.infrastructure.mapper.MedicalRecordMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct entity-to-DTO mapping of list pages, over appointments and medical records that
+ * share pets, owners, vets and services the way a real page does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"20", "500"})
+    private int pageSize;
+
+    private final AppointmentMapper appointmentMapper = new AppointmentMapperImpl();
+    private final MedicalRecordMapper medicalRecordMapper = new MedicalRecordMapperImpl();
+
+    private List<Appointment> appointments;
+    private List<MedicalRecord> medicalRecords;
+
+    @Setup
+    public void setUp() {
+        appointments = Fixtures.appointments(pageSize, 42);
+        medicalRecords = Fixtures.medicalRecords(appointments);
+    }
+
+    @Benchmark
+    public List<AppointmentDTO> appointmentToDTO() {
+        List<AppointmentDTO> dtos = new ArrayList<>(appointments.size());
+        for (Appointment appointment : appointments) {
+            dtos.add(appointmentMapper.toDTO(appointment));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<MedicalRecordDTO> medicalRecordToDTO() {
+        List<MedicalRecordDTO> dtos = new ArrayList<>(medicalRecords.size());
+        for (MedicalRecord record : medicalRecords) {
+            dtos.add(medicalRecordMapper.toDTO(record));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.vetclinic.benchmarks;
+
+import com.example.vetclinic.VetClinicApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second of {@code GET /api/owners/{id}} on the platform-thread Tomcat pool
+ * versus virtual threads ({@code spring.threads.virtual.enabled}), with {@value #CLIENTS}
+ * concurrent clients. A filter sleeping {@code latencyMs} stands in for a database round trip
+ * during which the request thread waits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class VirtualThreadsBenchmark {
+
+    private static final int CLIENTS = 400;
+
+    @Param({"false", "true"})
+    private boolean virtual;
+
+    @Param({"0", "100"})
+    private int latencyMs;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clients;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(VetClinicApplication.class)
+                .profiles("local")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:virtual-threads-" + virtual + "-" + latencyMs
+                                + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        // Every client connects at once and then reuses its connection; with the
+                        // default backlog of 100 the rest of the SYNs are dropped and retried
+                        "server.tomcat.accept-count=" + CLIENTS,
+                        "server.tomcat.max-keep-alive-requests=-1")
+                .initializers(ctx -> ((GenericApplicationContext) ctx).registerBean("simulatedIoLatency",
+                        Filter.class, () -> (request, response, chain) -> {
+                            if (latencyMs > 0) {
+                                try {
+                                    Thread.sleep(latencyMs);
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                            }
+                            chain.doFilter(request, response);
+                        }))
+                .run();
+        String baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(clients).build();
+        request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/owners/1"))
+                .header("Authorization", "Bearer " + login(baseUrl))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clients.close();
+        context.close();
+    }
+
+    // One request from each client at once; JMH divides the time by the number of requests
+    @Benchmark
+    @OperationsPerInvocation(CLIENTS)
+    public void concurrentRequests() throws Exception {
+        List<CompletableFuture<Void>> responses = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("Unexpected status " + response.statusCode());
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).get();
+    }
+
+    private String login(String baseUrl) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"vet1\",\"password\":\"password123\"}"))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        return new ObjectMapper().readTree(response.body()).get("accessToken").asText();
+    }
+}
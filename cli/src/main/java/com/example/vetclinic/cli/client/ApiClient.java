@@ -8,16 +8,14 @@ import retrofit2.converter.jackson.JacksonConverterFactory;
 public class ApiClient {
 
     private static final String BASE_URL = "http://localhost:8081/api/";
+    private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
     private static Retrofit retrofit = null;
 
     public static Retrofit getClient() {
         if (retrofit == null) {
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.registerModule(new JavaTimeModule());
-
             retrofit = new Retrofit.Builder()
                     .baseUrl(BASE_URL)
-                    .addConverterFactory(JacksonConverterFactory.create(mapper))
+                    .addConverterFactory(JacksonConverterFactory.create(MAPPER))
                     .build();
         }
         return retrofit;
@@ -26,4 +24,12 @@ public class ApiClient {
     public static <T> T createService(Class<T> serviceClass) {
         return getClient().create(serviceClass);
     }
+
+    public static String getBaseUrl() {
+        return BASE_URL;
+    }
+
+    public static ObjectMapper getObjectMapper() {
+        return MAPPER;
+    }
 }
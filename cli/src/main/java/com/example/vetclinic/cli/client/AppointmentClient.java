@@ -1,6 +1,7 @@
 package com.example.vetclinic.cli.client;
 
 import com.example.vetclinic.cli.model.Appointment;
+import com.example.vetclinic.cli.model.ChangeFeed;
 import com.example.vetclinic.cli.model.CreateAppointmentRequest;
 import com.example.vetclinic.cli.model.UpdateAppointmentRequest;
 import retrofit2.Call;
@@ -12,6 +13,9 @@ public interface AppointmentClient {
     @GET("appointments")
     Call<List<Appointment>> getAllAppointments(@Header("Authorization") String token);
 
+    @GET("appointments/changes")
+    Call<ChangeFeed<Appointment>> getAppointmentChanges(@Header("Authorization") String token, @Query("since") String since);
+
     @GET("appointments/{id}")
     Call<Appointment> getAppointmentById(@Header("Authorization") String token, @Path("id") Long id);
 
@@ -1,12 +1,15 @@
 package com.example.vetclinic.cli.client;
 
+import com.example.vetclinic.cli.model.ChangeFeed;
 import com.example.vetclinic.cli.model.CreateMedicalRecordRequest;
 import com.example.vetclinic.cli.model.MedicalRecord;
 import retrofit2.Call;
 import retrofit2.http.Body;
 import retrofit2.http.GET;
+import retrofit2.http.Header;
 import retrofit2.http.POST;
 import retrofit2.http.Path;
+import retrofit2.http.Query;
 
 import java.util.List;
 
@@ -14,6 +17,9 @@ public interface MedicalRecordClient {
     @GET("medical-records")
     Call<List<MedicalRecord>> getAllMedicalRecords(@retrofit2.http.Header("Authorization") String token);
 
+    @GET("medical-records/changes")
+    Call<ChangeFeed<MedicalRecord>> getMedicalRecordChanges(@Header("Authorization") String token, @Query("since") String since);
+
     @GET("medical-records/pet/{petId}")
     Call<List<MedicalRecord>> getMedicalRecordsByPet(@retrofit2.http.Header("Authorization") String token,
             @Path("petId") Long petId);
@@ -1,5 +1,6 @@
 package com.example.vetclinic.cli.client;
 
+import com.example.vetclinic.cli.model.ChangeFeed;
 import com.example.vetclinic.cli.model.CreateOwnerRequest;
 import com.example.vetclinic.cli.model.Owner;
 import com.example.vetclinic.cli.model.UpdateOwnerRequest;
@@ -12,6 +13,9 @@ public interface OwnerClient {
     @GET("owners")
     Call<List<Owner>> getAllOwners(@Header("Authorization") String token);
 
+    @GET("owners/changes")
+    Call<ChangeFeed<Owner>> getOwnerChanges(@Header("Authorization") String token, @Query("since") String since);
+
     @GET("owners/{id}")
     Call<Owner> getOwnerById(@Header("Authorization") String token, @Path("id") Long id);
 
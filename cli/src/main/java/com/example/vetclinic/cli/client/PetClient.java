@@ -1,5 +1,6 @@
 package com.example.vetclinic.cli.client;
 
+import com.example.vetclinic.cli.model.ChangeFeed;
 import com.example.vetclinic.cli.model.CreatePetRequest;
 import com.example.vetclinic.cli.model.Pet;
 import com.example.vetclinic.cli.model.UpdatePetRequest;
@@ -12,6 +13,9 @@ public interface PetClient {
     @GET("pets")
     Call<List<Pet>> getAllPets(@Header("Authorization") String token);
 
+    @GET("pets/changes")
+    Call<ChangeFeed<Pet>> getPetChanges(@Header("Authorization") String token, @Query("since") String since);
+
     @GET("pets/{id}")
     Call<Pet> getPetById(@Header("Authorization") String token, @Path("id") Long id);
 
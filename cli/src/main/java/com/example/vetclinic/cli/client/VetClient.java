@@ -1,13 +1,21 @@
 package com.example.vetclinic.cli.client;
 
+import com.example.vetclinic.cli.model.VetAvailability;
 import com.example.vetclinic.cli.model.VetDTO;
 import retrofit2.Call;
 import retrofit2.http.GET;
 import retrofit2.http.Header;
+import retrofit2.http.Path;
+import retrofit2.http.Query;
 
 import java.util.List;
 
 public interface VetClient {
     @GET("vets")
     Call<List<VetDTO>> getAllVets(@Header("Authorization") String token);
+
+    @GET("vets/{id}/availability")
+    Call<VetAvailability> getAvailability(@Header("Authorization") String token, @Path("id") Long vetId,
+            @Query("date") String date, @Query("serviceId") Long serviceId,
+            @Query("excludeAppointmentId") Long excludeAppointmentId);
 }
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 public class Appointment {
     private Long id;
     private LocalDateTime appointmentDate;
+    private LocalDateTime endDate;
     private String notes;
     private String status;
     private Long petId;
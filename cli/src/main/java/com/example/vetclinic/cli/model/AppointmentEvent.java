@@ -0,0 +1,19 @@
+package com.example.vetclinic.cli.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AppointmentEvent {
+    private String type;
+    private Appointment appointment;
+    private Long previousVetId;
+    private LocalDate previousDate;
+}
@@ -0,0 +1,20 @@
+package com.example.vetclinic.cli.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ChangeFeed<T> {
+    private List<T> changes;
+    private List<Long> deletedIds;
+    private LocalDateTime cursor;
+    private boolean reset;
+}
@@ -1,5 +1,6 @@
 package com.example.vetclinic.cli.model;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -9,8 +10,10 @@ import java.util.Map;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
+@com.fasterxml.jackson.annotation.JsonIgnoreProperties(ignoreUnknown = true)
 public class ClinicStatsDTO {
     private long totalVets;
+    @JsonAlias("totalPets")
     private long totalPatients;
     private long totalAppointments;
     private long activeServices;
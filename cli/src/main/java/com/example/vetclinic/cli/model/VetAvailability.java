@@ -0,0 +1,23 @@
+package com.example.vetclinic.cli.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@com.fasterxml.jackson.annotation.JsonIgnoreProperties(ignoreUnknown = true)
+public class VetAvailability {
+    private Long vetId;
+    private LocalDate date;
+    private Long serviceId;
+    private Integer durationMinutes;
+    private LocalTime openingTime;
+    private LocalTime closingTime;
+    private List<LocalTime> availableSlots;
+}
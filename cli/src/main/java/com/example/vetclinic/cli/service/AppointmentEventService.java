@@ -0,0 +1,132 @@
+package com.example.vetclinic.cli.service;
+
+import com.example.vetclinic.cli.client.ApiClient;
+import com.example.vetclinic.cli.model.AppointmentEvent;
+import com.fasterxml.jackson.core.type.TypeReference;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.sse.EventSource;
+import okhttp3.sse.EventSourceListener;
+import okhttp3.sse.EventSources;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Listens to {@code /appointments/events}. Batches of events go to the caller as they arrive;
+ * when the server reports that events were dropped, or the connection is re-established after
+ * a failure, the caller is told to resync instead.
+ */
+public class AppointmentEventService {
+
+    private static final long RECONNECT_DELAY_SECONDS = 5;
+    private static final TypeReference<List<AppointmentEvent>> BATCH = new TypeReference<>() {
+    };
+    private static final ScheduledExecutorService RECONNECTS = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "appointment-events-reconnect");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AuthService authService;
+    // No read timeout: the server only writes when there are events or a heartbeat is due
+    private final OkHttpClient client = new OkHttpClient.Builder().readTimeout(0, TimeUnit.MILLISECONDS).build();
+
+    public AppointmentEventService(AuthService authService) {
+        this.authService = authService;
+    }
+
+    private String getToken() {
+        return "Bearer " + authService.getSession().getToken();
+    }
+
+    public Subscription subscribe(Consumer<List<AppointmentEvent>> onEvents, Runnable onResync) {
+        Subscription subscription = new Subscription(onEvents, onResync);
+        subscription.connect();
+        return subscription;
+    }
+
+    public class Subscription extends EventSourceListener implements AutoCloseable {
+        private final Consumer<List<AppointmentEvent>> onEvents;
+        private final Runnable onResync;
+        private volatile EventSource source;
+        private volatile boolean open;
+        private volatile boolean closed;
+        private volatile boolean missedEvents;
+
+        private Subscription(Consumer<List<AppointmentEvent>> onEvents, Runnable onResync) {
+            this.onEvents = onEvents;
+            this.onResync = onResync;
+        }
+
+        public boolean isOpen() {
+            return open;
+        }
+
+        private void connect() {
+            if (closed) {
+                return;
+            }
+            Request request = new Request.Builder()
+                    .url(ApiClient.getBaseUrl() + "appointments/events")
+                    .header("Authorization", getToken())
+                    .build();
+            source = EventSources.createFactory(client).newEventSource(request, this);
+        }
+
+        @Override
+        public void onOpen(EventSource eventSource, Response response) {
+            open = true;
+            if (missedEvents) {
+                missedEvents = false;
+                onResync.run();
+            }
+        }
+
+        @Override
+        public void onEvent(EventSource eventSource, String id, String type, String data) {
+            if ("resync".equals(type)) {
+                onResync.run();
+            } else if ("appointments".equals(type)) {
+                try {
+                    onEvents.accept(ApiClient.getObjectMapper().readValue(data, BATCH));
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    onResync.run();
+                }
+            }
+        }
+
+        @Override
+        public void onClosed(EventSource eventSource) {
+            reconnect();
+        }
+
+        @Override
+        public void onFailure(EventSource eventSource, Throwable t, Response response) {
+            reconnect();
+        }
+
+        private void reconnect() {
+            open = false;
+            if (!closed) {
+                missedEvents = true;
+                RECONNECTS.schedule(this::connect, RECONNECT_DELAY_SECONDS, TimeUnit.SECONDS);
+            }
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            open = false;
+            if (source != null) {
+                source.cancel();
+            }
+        }
+    }
+}
@@ -5,20 +5,26 @@ import com.example.vetclinic.cli.client.AppointmentClient;
 import com.example.vetclinic.cli.model.Appointment;
 import com.example.vetclinic.cli.model.CreateAppointmentRequest;
 import com.example.vetclinic.cli.model.UpdateAppointmentRequest;
+import retrofit2.Call;
 import retrofit2.Response;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 public class AppointmentService {
 
     private final AppointmentClient appointmentClient;
     private final AuthService authService;
+    private final SyncedCollection<Appointment> appointments;
 
     public AppointmentService(AuthService authService) {
         this.authService = authService;
         this.appointmentClient = ApiClient.createService(AppointmentClient.class);
+        this.appointments = new SyncedCollection<>(since -> appointmentClient.getAppointmentChanges(getToken(), since),
+                () -> appointmentClient.getAllAppointments(getToken()), Appointment::getId,
+                authService.openCache("appointments", Appointment.class));
     }
 
     private String getToken() {
@@ -26,15 +32,15 @@ public class AppointmentService {
     }
 
     public List<Appointment> getAllAppointments() {
-        try {
-            Response<List<Appointment>> response = appointmentClient.getAllAppointments(getToken()).execute();
-            if (response.isSuccessful() && response.body() != null) {
-                return response.body();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return Collections.emptyList();
+        return appointments.refresh();
+    }
+
+    public CompletableFuture<List<Appointment>> getAllAppointmentsAsync() {
+        return BackgroundRequests.supply(this::getAllAppointments);
+    }
+
+    public List<Appointment> getCachedAppointments() {
+        return appointments.cached();
     }
 
     public boolean updateAppointment(Long id, UpdateAppointmentRequest request) {
@@ -47,6 +53,10 @@ public class AppointmentService {
         }
     }
 
+    public CompletableFuture<Appointment> updateAppointmentAsync(Long id, UpdateAppointmentRequest request) {
+        return saveAsync(() -> appointmentClient.updateAppointment(getToken(), id, request));
+    }
+
     public Appointment createAppointment(CreateAppointmentRequest request) {
         try {
             Response<Appointment> response = appointmentClient.createAppointment(getToken(), request).execute();
@@ -65,6 +75,10 @@ public class AppointmentService {
         return null;
     }
 
+    public CompletableFuture<Appointment> createAppointmentAsync(CreateAppointmentRequest request) {
+        return BackgroundRequests.supply(() -> remember(createAppointment(request)));
+    }
+
     public boolean confirmAppointment(Long id) {
         try {
             Response<Appointment> response = appointmentClient.confirmAppointment(getToken(), id).execute();
@@ -75,6 +89,10 @@ public class AppointmentService {
         }
     }
 
+    public CompletableFuture<Appointment> confirmAppointmentAsync(Long id) {
+        return saveAsync(() -> appointmentClient.confirmAppointment(getToken(), id));
+    }
+
     public boolean cancelAppointment(Long id) {
         try {
             Response<Appointment> response = appointmentClient.cancelAppointment(getToken(), id).execute();
@@ -85,19 +103,28 @@ public class AppointmentService {
         }
     }
 
-    public List<Appointment> getAppointmentsByVetAndDate(Long vetId, java.time.LocalDate date) {
-        try {
-            Response<List<Appointment>> response = appointmentClient.getAppointmentsByVet(getToken(), vetId).execute();
-            if (response.isSuccessful() && response.body() != null) {
-                // Filter by date
-                return response.body().stream()
-                        .filter(appt -> appt.getAppointmentDate().toLocalDate().equals(date))
-                        .filter(appt -> !"CANCELLED".equals(appt.getStatus()))
-                        .collect(java.util.stream.Collectors.toList());
+    public CompletableFuture<Appointment> cancelAppointmentAsync(Long id) {
+        return saveAsync(() -> appointmentClient.cancelAppointment(getToken(), id));
+    }
+
+    // Resolves to the saved appointment, or null when the server refused the change
+    private CompletableFuture<Appointment> saveAsync(Supplier<Call<Appointment>> call) {
+        return BackgroundRequests.supply(() -> {
+            try {
+                Response<Appointment> response = call.get().execute();
+                return remember(response.isSuccessful() ? response.body() : null);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return null;
             }
-        } catch (IOException e) {
-            e.printStackTrace();
+        });
+    }
+
+    // The saved row goes into the local copy right away; the next delta brings it again, unchanged
+    private Appointment remember(Appointment saved) {
+        if (saved != null) {
+            appointments.upsert(saved);
         }
-        return Collections.emptyList();
+        return saved;
     }
 }
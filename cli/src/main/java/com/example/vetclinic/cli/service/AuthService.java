@@ -5,6 +5,7 @@ import com.example.vetclinic.cli.client.AuthClient;
 import com.example.vetclinic.cli.model.LoginRequest;
 import com.example.vetclinic.cli.model.LoginResponse;
 import com.example.vetclinic.cli.model.Session;
+import com.example.vetclinic.cli.storage.ChangeLog;
 import com.example.vetclinic.cli.storage.StorageService;
 import retrofit2.Response;
 
@@ -64,4 +65,9 @@ public class AuthService {
     public Session getSession() {
         return currentSession;
     }
+
+    // Local cache of the logged-in user; it is kept on logout so the next login starts warm
+    public <T> ChangeLog<T> openCache(String name, Class<T> type) {
+        return storageService.openChangeLog(currentSession.getUsername(), name, type);
+    }
 }
@@ -0,0 +1,31 @@
+package com.example.vetclinic.cli.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking API calls off the GUI thread. The pool is fixed so that windows prefetching
+ * several lists at once never have more than {@value #MAX_CONCURRENT_REQUESTS} requests in
+ * flight; the rest wait in the queue.
+ */
+public final class BackgroundRequests {
+
+    public static final int MAX_CONCURRENT_REQUESTS = 4;
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(MAX_CONCURRENT_REQUESTS, r -> {
+        Thread thread = new Thread(r, "api-request-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private BackgroundRequests() {
+    }
+
+    public static <T> CompletableFuture<T> supply(Supplier<T> call) {
+        return CompletableFuture.supplyAsync(call, POOL);
+    }
+}
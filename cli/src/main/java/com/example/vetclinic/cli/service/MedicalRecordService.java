@@ -9,14 +9,19 @@ import retrofit2.Response;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class MedicalRecordService {
     private final MedicalRecordClient client;
     private final AuthService authService;
+    private final SyncedCollection<MedicalRecord> records;
 
     public MedicalRecordService(AuthService authService) {
         this.authService = authService;
         this.client = ApiClient.createService(MedicalRecordClient.class);
+        // Clinical records stay in memory only, they are not written to the disk cache
+        this.records = new SyncedCollection<>(since -> client.getMedicalRecordChanges(getToken(), since),
+                () -> client.getAllMedicalRecords(getToken()), MedicalRecord::getId);
     }
 
     private String getToken() {
@@ -24,15 +29,11 @@ public class MedicalRecordService {
     }
 
     public List<MedicalRecord> getAllMedicalRecords() {
-        try {
-            Response<List<MedicalRecord>> response = client.getAllMedicalRecords(getToken()).execute();
-            if (response.isSuccessful() && response.body() != null) {
-                return response.body();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return Collections.emptyList();
+        return records.refresh();
+    }
+
+    public CompletableFuture<List<MedicalRecord>> getAllMedicalRecordsAsync() {
+        return BackgroundRequests.supply(this::getAllMedicalRecords);
     }
 
     public List<MedicalRecord> getMedicalRecordsByPet(Long petId) {
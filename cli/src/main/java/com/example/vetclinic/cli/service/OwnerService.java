@@ -7,17 +7,21 @@ import com.example.vetclinic.cli.model.Owner;
 import retrofit2.Response;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class OwnerService {
 
     private final OwnerClient ownerClient;
     private final AuthService authService;
+    private final SyncedCollection<Owner> owners;
 
     public OwnerService(AuthService authService) {
         this.authService = authService;
         this.ownerClient = ApiClient.createService(OwnerClient.class);
+        this.owners = new SyncedCollection<>(since -> ownerClient.getOwnerChanges(getToken(), since),
+                () -> ownerClient.getAllOwners(getToken()), Owner::getId,
+                authService.openCache("owners", Owner.class));
     }
 
     private String getToken() {
@@ -25,15 +29,15 @@ public class OwnerService {
     }
 
     public List<Owner> getAllOwners() {
-        try {
-            Response<List<Owner>> response = ownerClient.getAllOwners(getToken()).execute();
-            if (response.isSuccessful() && response.body() != null) {
-                return response.body();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return Collections.emptyList();
+        return owners.refresh();
+    }
+
+    public CompletableFuture<List<Owner>> getAllOwnersAsync() {
+        return BackgroundRequests.supply(this::getAllOwners);
+    }
+
+    public List<Owner> getCachedOwners() {
+        return owners.cached();
     }
 
     public Owner createOwner(CreateOwnerRequest request) {
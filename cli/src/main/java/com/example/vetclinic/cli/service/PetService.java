@@ -7,17 +7,21 @@ import com.example.vetclinic.cli.model.Pet;
 import retrofit2.Response;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class PetService {
 
     private final PetClient petClient;
     private final AuthService authService;
+    private final SyncedCollection<Pet> pets;
 
     public PetService(AuthService authService) {
         this.authService = authService;
         this.petClient = ApiClient.createService(PetClient.class);
+        this.pets = new SyncedCollection<>(since -> petClient.getPetChanges(getToken(), since),
+                () -> petClient.getAllPets(getToken()), Pet::getId,
+                authService.openCache("pets", Pet.class));
     }
 
     private String getToken() {
@@ -25,15 +29,15 @@ public class PetService {
     }
 
     public List<Pet> getAllPets() {
-        try {
-            Response<List<Pet>> response = petClient.getAllPets(getToken()).execute();
-            if (response.isSuccessful() && response.body() != null) {
-                return response.body();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return Collections.emptyList();
+        return pets.refresh();
+    }
+
+    public CompletableFuture<List<Pet>> getAllPetsAsync() {
+        return BackgroundRequests.supply(this::getAllPets);
+    }
+
+    public List<Pet> getCachedPets() {
+        return pets.cached();
     }
 
     public Pet createPet(CreatePetRequest request) {
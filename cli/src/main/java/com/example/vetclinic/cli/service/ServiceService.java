@@ -7,16 +7,20 @@ import com.example.vetclinic.cli.model.ServiceDTO;
 import retrofit2.Response;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class ServiceService {
     private final ServiceClient serviceClient;
     private final AuthService authService;
+    private final SyncedCollection<ServiceDTO> services;
 
     public ServiceService(AuthService authService) {
         this.authService = authService;
         this.serviceClient = ApiClient.createService(ServiceClient.class);
+        // Reference data has no change feed and is small: the cached copy is replaced by the full list
+        this.services = new SyncedCollection<>(null, () -> serviceClient.getAllServices(getToken()),
+                ServiceDTO::getId, authService.openCache("services", ServiceDTO.class));
     }
 
     private String getToken() {
@@ -24,15 +28,15 @@ public class ServiceService {
     }
 
     public List<ServiceDTO> getAllServices() {
-        try {
-            Response<List<ServiceDTO>> response = serviceClient.getAllServices(getToken()).execute();
-            if (response.isSuccessful() && response.body() != null) {
-                return response.body();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return Collections.emptyList();
+        return services.refresh();
+    }
+
+    public CompletableFuture<List<ServiceDTO>> getAllServicesAsync() {
+        return BackgroundRequests.supply(this::getAllServices);
+    }
+
+    public List<ServiceDTO> getCachedServices() {
+        return services.cached();
     }
 
     public ServiceDTO createService(CreateServiceRequest service) {
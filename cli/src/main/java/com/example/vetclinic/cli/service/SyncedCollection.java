@@ -0,0 +1,116 @@
+package com.example.vetclinic.cli.service;
+
+import com.example.vetclinic.cli.model.ChangeFeed;
+import com.example.vetclinic.cli.storage.ChangeLog;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Local copy of a server list kept current through its {@code /changes} feed: the first
+ * refresh downloads everything, later ones only the rows changed or deleted since the last
+ * cursor. Falls back to the plain list endpoint when the feed is not available, or when there
+ * is none ({@code changes} null). With a {@link ChangeLog} the copy and its cursor survive
+ * restarts: they are read back on construction and every applied feed is written to it.
+ */
+public class SyncedCollection<T> {
+
+    private final Function<String, Call<ChangeFeed<T>>> changes;
+    private final Supplier<Call<List<T>>> fullList;
+    private final Function<T, Long> idOf;
+    private final ChangeLog<T> cache;
+    // Ordered by id, as the list endpoints return them
+    private final Map<Long, T> rows = new TreeMap<>();
+    private LocalDateTime cursor;
+
+    public SyncedCollection(Function<String, Call<ChangeFeed<T>>> changes, Supplier<Call<List<T>>> fullList,
+            Function<T, Long> idOf) {
+        this(changes, fullList, idOf, null);
+    }
+
+    public SyncedCollection(Function<String, Call<ChangeFeed<T>>> changes, Supplier<Call<List<T>>> fullList,
+            Function<T, Long> idOf, ChangeLog<T> cache) {
+        this.changes = changes;
+        this.fullList = fullList;
+        this.idOf = idOf;
+        this.cache = cache;
+        if (cache != null && !cache.replay(this::apply)) {
+            rows.clear();
+            cursor = null;
+        }
+    }
+
+    /** The local copy as it is, without going to the server. */
+    public synchronized List<T> cached() {
+        return new ArrayList<>(rows.values());
+    }
+
+    public synchronized List<T> refresh() {
+        try {
+            Response<ChangeFeed<T>> response = changes != null
+                    ? changes.apply(cursor != null ? cursor.toString() : null).execute()
+                    : null;
+            if (response != null && response.isSuccessful() && response.body() != null) {
+                LocalDateTime previousCursor = cursor;
+                apply(response.body());
+                persist(response.body(), previousCursor);
+            } else if (cursor == null) {
+                Response<List<T>> full = fullList.get().execute();
+                if (full.isSuccessful() && full.body() != null) {
+                    ChangeFeed<T> snapshot = new ChangeFeed<>(full.body(), List.of(), null, true);
+                    apply(snapshot);
+                    persist(snapshot, null);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    /** Puts a row the server has just returned into the local copy, keeping the cursor as it is. */
+    public synchronized void upsert(T row) {
+        ChangeFeed<T> change = new ChangeFeed<>(List.of(row), List.of(), cursor, false);
+        apply(change);
+        persist(change, cursor);
+    }
+
+    private void apply(ChangeFeed<T> feed) {
+        if (feed.isReset()) {
+            rows.clear();
+        }
+        if (feed.getChanges() != null) {
+            feed.getChanges().forEach(row -> rows.put(idOf.apply(row), row));
+        }
+        if (feed.getDeletedIds() != null) {
+            feed.getDeletedIds().forEach(rows::remove);
+        }
+        cursor = feed.getCursor();
+    }
+
+    private void persist(ChangeFeed<T> feed, LocalDateTime previousCursor) {
+        if (cache == null) {
+            return;
+        }
+        boolean empty = (feed.getChanges() == null || feed.getChanges().isEmpty())
+                && (feed.getDeletedIds() == null || feed.getDeletedIds().isEmpty());
+        if (!feed.isReset() && empty && Objects.equals(cursor, previousCursor)) {
+            return;
+        }
+        if (!feed.isReset() && !cache.needsCompaction()) {
+            cache.append(feed);
+        }
+        if (feed.isReset() || cache.needsCompaction()) {
+            cache.compact(new ChangeFeed<>(new ArrayList<>(rows.values()), List.of(), cursor, true));
+        }
+    }
+}
@@ -8,6 +8,7 @@ import retrofit2.Response;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class UserService {
@@ -54,4 +55,8 @@ public class UserService {
                 })
                 .collect(Collectors.toList());
     }
+
+    public CompletableFuture<List<UserDTO>> getVetsAsync() {
+        return BackgroundRequests.supply(this::getVets);
+    }
 }
@@ -2,20 +2,28 @@ package com.example.vetclinic.cli.service;
 
 import com.example.vetclinic.cli.client.ApiClient;
 import com.example.vetclinic.cli.client.VetClient;
+import com.example.vetclinic.cli.model.VetAvailability;
 import com.example.vetclinic.cli.model.VetDTO;
 import retrofit2.Response;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class VetService {
     private final VetClient vetClient;
     private final AuthService authService;
+    private final SyncedCollection<VetDTO> vets;
 
     public VetService(AuthService authService) {
         this.authService = authService;
         this.vetClient = ApiClient.createService(VetClient.class);
+        // Reference data has no change feed and is small: the cached copy is replaced by the full list
+        this.vets = new SyncedCollection<>(null, () -> vetClient.getAllVets(getToken()), VetDTO::getId,
+                authService.openCache("vets", VetDTO.class));
     }
 
     private String getToken() {
@@ -23,14 +31,34 @@ public class VetService {
     }
 
     public List<VetDTO> getAllVets() {
+        return vets.refresh();
+    }
+
+    public CompletableFuture<List<VetDTO>> getAllVetsAsync() {
+        return BackgroundRequests.supply(this::getAllVets);
+    }
+
+    public List<VetDTO> getCachedVets() {
+        return vets.cached();
+    }
+
+    public List<LocalTime> getAvailableSlots(Long vetId, LocalDate date, Long serviceId, Long excludeAppointmentId) {
         try {
-            Response<List<VetDTO>> response = vetClient.getAllVets(getToken()).execute();
-            if (response.isSuccessful() && response.body() != null) {
-                return response.body();
+            Response<VetAvailability> response = vetClient
+                    .getAvailability(getToken(), vetId, date.toString(), serviceId, excludeAppointmentId)
+                    .execute();
+            if (response.isSuccessful() && response.body() != null
+                    && response.body().getAvailableSlots() != null) {
+                return response.body().getAvailableSlots();
             }
         } catch (IOException e) {
             e.printStackTrace();
         }
         return Collections.emptyList();
     }
+
+    public CompletableFuture<List<LocalTime>> getAvailableSlotsAsync(Long vetId, LocalDate date, Long serviceId,
+            Long excludeAppointmentId) {
+        return BackgroundRequests.supply(() -> getAvailableSlots(vetId, date, serviceId, excludeAppointmentId));
+    }
 }
@@ -0,0 +1,151 @@
+package com.example.vetclinic.cli.storage;
+
+import com.example.vetclinic.cli.model.ChangeFeed;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Append-only cache file for one synced collection: a full snapshot followed by each delta
+ * as it was applied, every record being a {@link ChangeFeed} in Smile (binary JSON) behind a
+ * length prefix. Replaying the records rebuilds the rows and the cursor. Once the deltas take
+ * more space than the snapshot, the file is rewritten as a single snapshot. A record torn by
+ * a crash is cut off on load.
+ */
+public class ChangeLog<T> {
+
+    // "VCL1"
+    private static final int MAGIC = 0x56434C31;
+    private static final long MIN_COMPACTION_BYTES = 64 * 1024;
+
+    private final Path file;
+    private final ObjectMapper mapper;
+    private final JavaType recordType;
+    private long snapshotBytes;
+    private long deltaBytes;
+    // An append failed: the next write must be a full snapshot
+    private boolean stale;
+
+    ChangeLog(Path file, ObjectMapper mapper, Class<T> type) {
+        this.file = file;
+        this.mapper = mapper;
+        this.recordType = mapper.getTypeFactory().constructParametricType(ChangeFeed.class, type);
+    }
+
+    public boolean exists() {
+        return Files.exists(file);
+    }
+
+    /**
+     * Passes every record to {@code consumer} in order. Returns false when the file cannot be
+     * read (other format or model version); it is then deleted and what was passed on so far
+     * must be discarded.
+     */
+    public boolean replay(Consumer<ChangeFeed<T>> consumer) {
+        if (!exists()) {
+            return true;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException("not a cache file");
+            }
+            boolean first = true;
+            while (buffer.hasRemaining()) {
+                int start = buffer.position();
+                int length = buffer.remaining() >= Integer.BYTES ? buffer.getInt() : -1;
+                if (length < 0 || length > buffer.remaining()) {
+                    truncate(start);
+                    break;
+                }
+                byte[] record = new byte[length];
+                buffer.get(record);
+                ChangeFeed<T> feed = mapper.readValue(record, recordType);
+                consumer.accept(feed);
+                long size = buffer.position() - start;
+                if (first) {
+                    snapshotBytes = size;
+                    first = false;
+                } else {
+                    deltaBytes += size;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            System.err.println("Discarding cache " + file + ": " + e.getMessage());
+            delete();
+            return false;
+        }
+    }
+
+    public void append(ChangeFeed<T> delta) {
+        try {
+            byte[] record = frame(delta);
+            Files.write(file, record, StandardOpenOption.APPEND);
+            deltaBytes += record.length;
+        } catch (IOException e) {
+            System.err.println("Error writing cache " + file + ": " + e.getMessage());
+            stale = true;
+        }
+    }
+
+    public boolean needsCompaction() {
+        return stale || !exists() || deltaBytes > Math.max(snapshotBytes, MIN_COMPACTION_BYTES);
+    }
+
+    /** Replaces the file with a single snapshot record, atomically. */
+    public void compact(ChangeFeed<T> snapshot) {
+        try {
+            byte[] record = frame(snapshot);
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+                out.writeInt(MAGIC);
+                out.write(record);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            snapshotBytes = record.length;
+            deltaBytes = 0;
+            stale = false;
+        } catch (IOException e) {
+            System.err.println("Error writing cache " + file + ": " + e.getMessage());
+            stale = true;
+        }
+    }
+
+    public void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Error deleting cache " + file + ": " + e.getMessage());
+        }
+        snapshotBytes = 0;
+        deltaBytes = 0;
+    }
+
+    private byte[] frame(ChangeFeed<T> feed) throws IOException {
+        byte[] body = mapper.writeValueAsBytes(feed);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + Integer.BYTES);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(body.length);
+            out.write(body);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void truncate(long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(length);
+        }
+    }
+}
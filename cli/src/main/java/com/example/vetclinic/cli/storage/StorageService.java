@@ -1,7 +1,9 @@
 package com.example.vetclinic.cli.storage;
 
 import com.example.vetclinic.cli.model.Session;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import java.io.File;
@@ -11,12 +13,17 @@ import java.nio.file.Paths;
 public class StorageService {
 
     private static final String SESSION_FILE = "session.json";
+    private static final String CACHE_DIR = "cache";
     private final ObjectMapper objectMapper;
+    private final ObjectMapper cacheMapper;
     private final File sessionFile;
 
     public StorageService() {
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
+        this.cacheMapper = new ObjectMapper(new SmileFactory());
+        this.cacheMapper.registerModule(new JavaTimeModule());
+        this.cacheMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         this.sessionFile = Paths.get(SESSION_FILE).toFile();
     }
 
@@ -45,4 +52,10 @@ public class StorageService {
             sessionFile.delete();
         }
     }
+
+    /** Cache file for one collection, kept apart per user: {@code cache/<username>/<name>.bin}. */
+    public <T> ChangeLog<T> openChangeLog(String username, String name, Class<T> type) {
+        String directory = username.replaceAll("[^A-Za-z0-9._-]", "_");
+        return new ChangeLog<>(Paths.get(CACHE_DIR, directory, name + ".bin"), cacheMapper, type);
+    }
 }
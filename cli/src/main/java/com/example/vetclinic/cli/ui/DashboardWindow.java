@@ -1,6 +1,13 @@
 package com.example.vetclinic.cli.ui;
 
+import com.example.vetclinic.cli.service.AppointmentEventService;
+import com.example.vetclinic.cli.service.AppointmentService;
 import com.example.vetclinic.cli.service.AuthService;
+import com.example.vetclinic.cli.service.MedicalRecordService;
+import com.example.vetclinic.cli.service.OwnerService;
+import com.example.vetclinic.cli.service.PetService;
+import com.example.vetclinic.cli.service.ServiceService;
+import com.example.vetclinic.cli.service.VetService;
 import com.example.vetclinic.cli.ui.modules.AppointmentsWindow;
 import com.example.vetclinic.cli.ui.modules.ClinicStatsWindow;
 import com.example.vetclinic.cli.ui.modules.OwnersWindow;
@@ -17,11 +24,27 @@ public class DashboardWindow extends BasicWindow {
     private final WindowBasedTextGUI gui;
     private final AuthService authService;
     private final Panel mainContentPanel;
+    // Shared by every window of the session; their local copies are read from the disk cache here
+    // and then only topped up with changes
+    private final OwnerService ownerService;
+    private final PetService petService;
+    private final AppointmentService appointmentService;
+    private final AppointmentEventService appointmentEventService;
+    private final MedicalRecordService medicalRecordService;
+    private final VetService vetService;
+    private final ServiceService serviceService;
 
     public DashboardWindow(WindowBasedTextGUI gui, AuthService authService) {
         super("Vet Clinic Dashboard");
         this.gui = gui;
         this.authService = authService;
+        this.ownerService = new OwnerService(authService);
+        this.petService = new PetService(authService);
+        this.appointmentService = new AppointmentService(authService);
+        this.appointmentEventService = new AppointmentEventService(authService);
+        this.medicalRecordService = new MedicalRecordService(authService);
+        this.vetService = new VetService(authService);
+        this.serviceService = new ServiceService(authService);
 
         // Main Layout: Border Layout
         Panel rootPanel = new Panel();
@@ -81,31 +104,30 @@ public class DashboardWindow extends BasicWindow {
     }
 
     private void showOwners() {
-        new OwnersWindow(gui, new com.example.vetclinic.cli.service.OwnerService(authService)).show();
+        new OwnersWindow(gui, ownerService).show();
     }
 
     private void showPets() {
-        new PetsWindow(gui,
-                new com.example.vetclinic.cli.service.PetService(authService),
-                new com.example.vetclinic.cli.service.OwnerService(authService)).show();
+        new PetsWindow(gui, petService, ownerService).show();
     }
 
     private void showAppointments() {
         new AppointmentsWindow(gui,
-                new com.example.vetclinic.cli.service.AppointmentService(authService),
-                new com.example.vetclinic.cli.service.PetService(authService),
-                new com.example.vetclinic.cli.service.VetService(authService),
-                new com.example.vetclinic.cli.service.ServiceService(authService)).show();
+                appointmentService,
+                appointmentEventService,
+                petService,
+                vetService,
+                serviceService).show();
     }
 
     private void showServices() {
-        new ServicesWindow(gui, new com.example.vetclinic.cli.service.ServiceService(authService)).show();
+        new ServicesWindow(gui, serviceService).show();
     }
 
     private void showMedicalHistory() {
         new com.example.vetclinic.cli.ui.modules.MedicalHistoryWindow(gui,
-                new com.example.vetclinic.cli.service.MedicalRecordService(authService),
-                new com.example.vetclinic.cli.service.PetService(authService),
+                medicalRecordService,
+                petService,
                 new com.example.vetclinic.cli.service.UserService(authService)).show();
     }
 
@@ -0,0 +1,44 @@
+package com.example.vetclinic.cli.ui.components;
+
+import com.googlecode.lanterna.gui2.*;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+public class LoadingDialog {
+
+    /**
+     * Returns the result of {@code pending}. If it is not there yet, a "Loading..." window is
+     * shown until it arrives; the GUI keeps handling input meanwhile and the user may cancel.
+     * Returns null when cancelled or when the call failed.
+     */
+    public static <T> T await(WindowBasedTextGUI gui, String what, CompletableFuture<T> pending) {
+        return show(gui, "Loading " + what + "...", pending);
+    }
+
+    /**
+     * Same as {@link #await} for a change sent to the server. Cancelling only stops waiting: the
+     * request has already been sent and may still be applied.
+     */
+    public static <T> T awaitSave(WindowBasedTextGUI gui, String what, CompletableFuture<T> pending) {
+        return show(gui, "Saving " + what + "...", pending);
+    }
+
+    private static <T> T show(WindowBasedTextGUI gui, String message, CompletableFuture<T> pending) {
+        if (!pending.isDone()) {
+            BasicWindow window = new BasicWindow("Please wait");
+            Panel panel = new Panel(new LinearLayout(Direction.VERTICAL));
+            panel.addComponent(new Label(message));
+            panel.addComponent(new Button("Cancel", window::close));
+            window.setComponent(panel);
+            window.setHints(Arrays.asList(Window.Hint.MODAL, Window.Hint.CENTERED));
+
+            pending.whenComplete((result, error) -> gui.getGUIThread().invokeLater(window::close));
+            gui.addWindowAndWait(window);
+        }
+        if (!pending.isDone() || pending.isCompletedExceptionally()) {
+            return null;
+        }
+        return pending.join();
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.vetclinic.cli.ui.modules;
 
 import com.example.vetclinic.cli.model.Appointment;
+import com.example.vetclinic.cli.model.AppointmentEvent;
 import com.example.vetclinic.cli.model.CreateAppointmentRequest;
 import com.example.vetclinic.cli.model.UpdateAppointmentRequest;
+import com.example.vetclinic.cli.service.AppointmentEventService;
 import com.example.vetclinic.cli.service.AppointmentService;
+import com.example.vetclinic.cli.ui.components.LoadingDialog;
 import com.googlecode.lanterna.gui2.*;
 import com.googlecode.lanterna.gui2.dialogs.MessageDialog;
 import com.googlecode.lanterna.gui2.dialogs.TextInputDialogBuilder;
@@ -12,20 +15,33 @@ import com.googlecode.lanterna.gui2.table.Table;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class AppointmentsWindow extends BasicWindow {
 
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private final AppointmentService appointmentService;
     private final com.example.vetclinic.cli.service.PetService petService;
     private final com.example.vetclinic.cli.service.VetService vetService;
     private final com.example.vetclinic.cli.service.ServiceService serviceService;
     private final WindowBasedTextGUI gui;
     private final Table<String> table;
+    private final AppointmentEventService.Subscription events;
     private List<Appointment> appointments;
+    // Events received while a refresh is in flight, applied again on top of its result
+    private List<AppointmentEvent> eventsDuringLoad;
+    private int refreshesInFlight;
+    // Reference data for the create/edit dialogs, requested in parallel as soon as the window opens
+    private CompletableFuture<List<com.example.vetclinic.cli.model.Pet>> pets;
+    private CompletableFuture<List<com.example.vetclinic.cli.model.VetDTO>> vets;
+    private CompletableFuture<List<com.example.vetclinic.cli.model.ServiceDTO>> services;
 
     public AppointmentsWindow(WindowBasedTextGUI gui, AppointmentService appointmentService,
+            AppointmentEventService appointmentEventService,
             com.example.vetclinic.cli.service.PetService petService,
             com.example.vetclinic.cli.service.VetService vetService,
             com.example.vetclinic.cli.service.ServiceService serviceService) {
@@ -72,28 +88,130 @@ public class AppointmentsWindow extends BasicWindow {
         setComponent(rootPanel);
         setHints(Arrays.asList(Hint.CENTERED, Hint.EXPANDED));
 
+        // Show the cached copy right away, then bring it up to date in the background
+        render(appointmentService.getCachedAppointments());
+        // Changes made elsewhere are pushed by the server and applied row by row on the GUI thread
+        events = appointmentEventService.subscribe(
+                batch -> gui.getGUIThread().invokeLater(() -> applyEvents(batch)),
+                () -> gui.getGUIThread().invokeLater(this::refreshTable));
         refreshTable();
+        pets = petService.getAllPetsAsync();
+        vets = vetService.getAllVetsAsync();
+        services = serviceService.getAllServicesAsync();
     }
 
     private void refreshTable() {
+        refreshesInFlight++;
+        if (eventsDuringLoad == null) {
+            eventsDuringLoad = new ArrayList<>();
+        }
+        appointmentService.getAllAppointmentsAsync()
+                .whenComplete((latest, error) -> gui.getGUIThread().invokeLater(() -> {
+                    List<AppointmentEvent> received = eventsDuringLoad;
+                    eventsDuringLoad = --refreshesInFlight > 0 ? new ArrayList<>() : null;
+                    if (latest != null) {
+                        render(latest);
+                    }
+                    // The fetch may have been answered before these events were committed
+                    applyEvents(received);
+                }));
+    }
+
+    private void render(List<Appointment> latest) {
         table.getTableModel().clear();
-        this.appointments = appointmentService.getAllAppointments();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+        this.appointments = new ArrayList<>(latest);
 
         for (Appointment appt : appointments) {
-            table.getTableModel().addRow(
-                    String.valueOf(appt.getId()),
-                    appt.getAppointmentDate().format(formatter),
-                    appt.getPetName() != null ? appt.getPetName() : String.valueOf(appt.getPetId()),
-                    appt.getVetName() != null ? appt.getVetName() : String.valueOf(appt.getVetId()),
-                    appt.getServiceName() != null ? appt.getServiceName() : String.valueOf(appt.getServiceId()),
-                    appt.getStatus());
+            table.getTableModel().addRow(toRow(appt));
+        }
+    }
+
+    private void applyEvents(List<AppointmentEvent> batch) {
+        if (eventsDuringLoad != null) {
+            eventsDuringLoad.addAll(batch);
+        }
+        for (AppointmentEvent event : batch) {
+            Appointment appt = event.getAppointment();
+            int index = indexOf(appt.getId());
+            if (index >= 0) {
+                appointments.set(index, appt);
+                List<String> row = toRow(appt);
+                for (int column = 0; column < row.size(); column++) {
+                    table.getTableModel().setCell(column, index, row.get(column));
+                }
+            } else {
+                // Rows are kept in id order, as the list endpoint returns them
+                int position = -(index + 1);
+                appointments.add(position, appt);
+                table.getTableModel().insertRow(position, toRow(appt));
+            }
         }
     }
 
+    // Binary search by id: the index if present, otherwise -(insertion point) - 1
+    private int indexOf(Long id) {
+        int low = 0;
+        int high = appointments.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = appointments.get(mid).getId().compareTo(id);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static List<String> toRow(Appointment appt) {
+        return Arrays.asList(
+                String.valueOf(appt.getId()),
+                appt.getAppointmentDate().format(DATE_TIME_FORMAT),
+                appt.getPetName() != null ? appt.getPetName() : String.valueOf(appt.getPetId()),
+                appt.getVetName() != null ? appt.getVetName() : String.valueOf(appt.getVetId()),
+                appt.getServiceName() != null ? appt.getServiceName() : String.valueOf(appt.getServiceId()),
+                appt.getStatus());
+    }
+
+    /**
+     * Waits for a change sent in the background. The saved appointment is upserted like a pushed
+     * event, so it survives a refresh in flight and the echo from the stream changes nothing.
+     * The list is reloaded only when the stream is not connected, the change failed, or the user
+     * stopped waiting (then once the server answers). Returns null in the last two cases.
+     */
+    private Appointment awaitChange(String what, CompletableFuture<Appointment> pending) {
+        Appointment saved = LoadingDialog.awaitSave(gui, what, pending);
+        if (!pending.isDone()) {
+            pending.whenComplete((result, error) -> gui.getGUIThread().invokeLater(this::refreshTable));
+            MessageDialog.showMessageDialog(gui, "Pending",
+                    "The change was sent and may still be applied.\nThe list updates once the server answers.");
+        } else if (saved == null) {
+            refreshTable();
+        } else {
+            applyEvents(List.of(new AppointmentEvent(null, saved, null, null)));
+            if (!events.isOpen()) {
+                refreshTable();
+            }
+        }
+        return saved;
+    }
+
     private void createAppointment() {
+        // Hand the prefetched lists to this dialog and start fetching them again for the next one
+        CompletableFuture<List<com.example.vetclinic.cli.model.Pet>> pendingPets = this.pets;
+        CompletableFuture<List<com.example.vetclinic.cli.model.VetDTO>> pendingVets = this.vets;
+        CompletableFuture<List<com.example.vetclinic.cli.model.ServiceDTO>> pendingServices = this.services;
+        this.pets = petService.getAllPetsAsync();
+        this.vets = vetService.getAllVetsAsync();
+        this.services = serviceService.getAllServicesAsync();
+
         // Select Pet
-        List<com.example.vetclinic.cli.model.Pet> pets = petService.getAllPets();
+        List<com.example.vetclinic.cli.model.Pet> pets = LoadingDialog.await(gui, "pets", pendingPets);
+        if (pets == null)
+            return;
         if (pets.isEmpty()) {
             MessageDialog.showMessageDialog(gui, "Error", "No pets found. Create a pet first.");
             return;
@@ -110,7 +228,9 @@ public class AppointmentsWindow extends BasicWindow {
         Long petId = selectedPetId.get();
 
         // Select Vet
-        List<com.example.vetclinic.cli.model.VetDTO> vets = vetService.getAllVets();
+        List<com.example.vetclinic.cli.model.VetDTO> vets = LoadingDialog.await(gui, "vets", pendingVets);
+        if (vets == null)
+            return;
         if (vets.isEmpty()) {
             MessageDialog.showMessageDialog(gui, "Error", "No vets found.");
             return;
@@ -128,7 +248,9 @@ public class AppointmentsWindow extends BasicWindow {
         Long vetId = selectedVetId.get();
 
         // Select Service
-        List<com.example.vetclinic.cli.model.ServiceDTO> services = serviceService.getAllServices();
+        List<com.example.vetclinic.cli.model.ServiceDTO> services = LoadingDialog.await(gui, "services", pendingServices);
+        if (services == null)
+            return;
         if (services.isEmpty()) {
             MessageDialog.showMessageDialog(gui, "Error", "No services found.");
             return;
@@ -145,16 +267,6 @@ public class AppointmentsWindow extends BasicWindow {
             return;
         Long serviceId = selectedServiceId.get();
 
-        // Get service duration for availability checking
-        com.example.vetclinic.cli.model.ServiceDTO selectedService = services.stream()
-                .filter(s -> s.getId().equals(serviceId))
-                .findFirst()
-                .orElse(null);
-
-        int serviceDuration = (selectedService != null && selectedService.getEstimatedDurationMinutes() != null)
-                ? selectedService.getEstimatedDurationMinutes()
-                : 30; // Default 30 minutes
-
         // Use calendar dialog for date selection
         java.time.LocalDate selectedDate = com.example.vetclinic.cli.ui.components.CalendarDialog.showCalendar(
                 gui, "Select Appointment Date");
@@ -163,12 +275,16 @@ public class AppointmentsWindow extends BasicWindow {
             return;
         }
 
-        // Get existing appointments for the selected vet and date
-        List<Appointment> existingAppointments = appointmentService.getAppointmentsByVetAndDate(vetId, selectedDate);
+        // Ask the server which slots are free for the selected vet, date and service
+        List<java.time.LocalTime> availableSlots = LoadingDialog.await(gui, "available slots",
+                vetService.getAvailableSlotsAsync(vetId, selectedDate, serviceId, null));
+        if (availableSlots == null) {
+            return;
+        }
 
         // Use time slot selector to show only available times
         LocalDateTime selectedDateTime = com.example.vetclinic.cli.ui.components.TimeSlotSelector.selectTimeSlot(
-                gui, selectedDate, existingAppointments, serviceDuration);
+                gui, selectedDate, availableSlots);
 
         if (selectedDateTime == null) {
             return;
@@ -176,24 +292,19 @@ public class AppointmentsWindow extends BasicWindow {
 
         String notes = new TextInputDialogBuilder().setTitle("Notes (Optional)").build().showDialog(gui);
 
-        try {
-            CreateAppointmentRequest request = new CreateAppointmentRequest(selectedDateTime, notes, petId, vetId,
-                    serviceId);
-            Appointment created = appointmentService.createAppointment(request);
-
-            if (created != null) {
-                MessageDialog.showMessageDialog(gui, "Success",
-                        "Appointment created successfully!\n\nDate: " + selectedDateTime.toLocalDate() +
-                                "\nTime: " + selectedDateTime.toLocalTime() +
-                                "\nID: " + created.getId());
-                refreshTable();
-            } else {
-                MessageDialog.showMessageDialog(gui, "Error",
-                        "Failed to create appointment.\nCheck console for details.");
-            }
-        } catch (Exception e) {
-            MessageDialog.showMessageDialog(gui, "Error", "An error occurred: " + e.getMessage());
-            e.printStackTrace();
+        CreateAppointmentRequest request = new CreateAppointmentRequest(selectedDateTime, notes, petId, vetId,
+                serviceId);
+        CompletableFuture<Appointment> pending = appointmentService.createAppointmentAsync(request);
+        Appointment created = awaitChange("appointment", pending);
+
+        if (created != null) {
+            MessageDialog.showMessageDialog(gui, "Success",
+                    "Appointment created successfully!\n\nDate: " + selectedDateTime.toLocalDate() +
+                            "\nTime: " + selectedDateTime.toLocalTime() +
+                            "\nID: " + created.getId());
+        } else if (pending.isDone()) {
+            MessageDialog.showMessageDialog(gui, "Error",
+                    "Failed to create appointment.\nCheck console for details.");
         }
     }
 
@@ -210,8 +321,16 @@ public class AppointmentsWindow extends BasicWindow {
 
         Appointment currentAppointment = appointments.get(selectedRow);
 
+        CompletableFuture<List<com.example.vetclinic.cli.model.VetDTO>> pendingVets = this.vets;
+        CompletableFuture<List<com.example.vetclinic.cli.model.ServiceDTO>> pendingServices = this.services;
+        this.vets = vetService.getAllVetsAsync();
+        this.services = serviceService.getAllServicesAsync();
+
         // Select Vet (Default to current)
-        List<com.example.vetclinic.cli.model.VetDTO> vets = vetService.getAllVets();
+        List<com.example.vetclinic.cli.model.VetDTO> vets = LoadingDialog.await(gui, "vets", pendingVets);
+        if (vets == null) {
+            return;
+        }
         if (vets.isEmpty()) {
             MessageDialog.showMessageDialog(gui, "Error", "No vets found.");
             return;
@@ -233,7 +352,10 @@ public class AppointmentsWindow extends BasicWindow {
         Long vetId = selectedVetId.get();
 
         // Select Service
-        List<com.example.vetclinic.cli.model.ServiceDTO> services = serviceService.getAllServices();
+        List<com.example.vetclinic.cli.model.ServiceDTO> services = LoadingDialog.await(gui, "services", pendingServices);
+        if (services == null) {
+            return;
+        }
         if (services.isEmpty()) {
             MessageDialog.showMessageDialog(gui, "Error", "No services found.");
             return;
@@ -253,16 +375,6 @@ public class AppointmentsWindow extends BasicWindow {
         serviceSelector.build().showDialog(gui);
         Long serviceId = selectedServiceId.get();
 
-        // Get service duration
-        com.example.vetclinic.cli.model.ServiceDTO selectedService = services.stream()
-                .filter(s -> s.getId().equals(serviceId))
-                .findFirst()
-                .orElse(null);
-
-        int serviceDuration = (selectedService != null && selectedService.getEstimatedDurationMinutes() != null)
-                ? selectedService.getEstimatedDurationMinutes()
-                : 30;
-
         // Date Selection
         java.time.LocalDate selectedDate = com.example.vetclinic.cli.ui.components.CalendarDialog.showCalendar(
                 gui, "Select Date (Current: " + currentAppointment.getAppointmentDate().toLocalDate() + ")");
@@ -271,15 +383,15 @@ public class AppointmentsWindow extends BasicWindow {
             return;
         }
 
-        // Time Selection
-        List<Appointment> existingAppointments = appointmentService.getAppointmentsByVetAndDate(vetId, selectedDate);
-
-        // Exclude current appointment from existing appointments to allow keeping same
-        // slot
-        existingAppointments.removeIf(a -> a.getId().equals(currentAppointment.getId()));
+        // Time Selection (the current appointment is excluded to allow keeping the same slot)
+        List<java.time.LocalTime> availableSlots = LoadingDialog.await(gui, "available slots",
+                vetService.getAvailableSlotsAsync(vetId, selectedDate, serviceId, currentAppointment.getId()));
+        if (availableSlots == null) {
+            return;
+        }
 
         LocalDateTime selectedDateTime = com.example.vetclinic.cli.ui.components.TimeSlotSelector.selectTimeSlot(
-                gui, selectedDate, existingAppointments, serviceDuration);
+                gui, selectedDate, availableSlots);
 
         if (selectedDateTime == null) {
             return;
@@ -293,27 +405,23 @@ public class AppointmentsWindow extends BasicWindow {
                 .build()
                 .showDialog(gui);
 
-        try {
-            UpdateAppointmentRequest request = new UpdateAppointmentRequest();
-            request.setAppointmentDate(selectedDateTime);
-            request.setNotes(notes);
-            request.setVetId(vetId);
-            request.setServiceId(serviceId);
-            // Pet ID is not updatable in backend DTO, so we ignore it or set it to same
-            // (doesn't matter)
-            request.setPetId(currentAppointment.getPetId());
-
-            boolean success = appointmentService.updateAppointment(currentAppointment.getId(), request);
-
-            if (success) {
-                MessageDialog.showMessageDialog(gui, "Success", "Appointment updated successfully!");
-                refreshTable();
-            } else {
-                MessageDialog.showMessageDialog(gui, "Error", "Failed to update appointment.");
-            }
-        } catch (Exception e) {
-            MessageDialog.showMessageDialog(gui, "Error", "An error occurred: " + e.getMessage());
-            e.printStackTrace();
+        UpdateAppointmentRequest request = new UpdateAppointmentRequest();
+        request.setAppointmentDate(selectedDateTime);
+        request.setNotes(notes);
+        request.setVetId(vetId);
+        request.setServiceId(serviceId);
+        // Pet ID is not updatable in backend DTO, so we ignore it or set it to same
+        // (doesn't matter)
+        request.setPetId(currentAppointment.getPetId());
+
+        CompletableFuture<Appointment> pending = appointmentService.updateAppointmentAsync(currentAppointment.getId(),
+                request);
+        Appointment updated = awaitChange("appointment", pending);
+
+        if (updated != null) {
+            MessageDialog.showMessageDialog(gui, "Success", "Appointment updated successfully!");
+        } else if (pending.isDone()) {
+            MessageDialog.showMessageDialog(gui, "Error", "Failed to update appointment.");
         }
     }
 
@@ -333,22 +441,25 @@ public class AppointmentsWindow extends BasicWindow {
                         com.googlecode.lanterna.gui2.dialogs.MessageDialogButton.No);
 
         if (result == com.googlecode.lanterna.gui2.dialogs.MessageDialogButton.Yes) {
-            boolean success = false;
-            if ("CONFIRMED".equals(status)) {
-                success = appointmentService.confirmAppointment(id);
-            } else if ("CANCELLED".equals(status)) {
-                success = appointmentService.cancelAppointment(id);
-            }
+            CompletableFuture<Appointment> pending = "CONFIRMED".equals(status)
+                    ? appointmentService.confirmAppointmentAsync(id)
+                    : appointmentService.cancelAppointmentAsync(id);
+            Appointment updated = awaitChange("status", pending);
 
-            if (success) {
+            if (updated != null) {
                 MessageDialog.showMessageDialog(gui, "Success", "Appointment status updated to " + status);
-                refreshTable();
-            } else {
+            } else if (pending.isDone()) {
                 MessageDialog.showMessageDialog(gui, "Error", "Failed to update status.");
             }
         }
     }
 
+    @Override
+    public void close() {
+        events.close();
+        super.close();
+    }
+
     public void show() {
         gui.addWindowAndWait(this);
     }
@@ -3,6 +3,7 @@ package com.example.vetclinic.cli.ui.modules;
 import com.example.vetclinic.cli.model.CreateMedicalRecordRequest;
 import com.example.vetclinic.cli.model.MedicalRecord;
 import com.example.vetclinic.cli.service.MedicalRecordService;
+import com.example.vetclinic.cli.ui.components.LoadingDialog;
 import com.googlecode.lanterna.gui2.*;
 import com.googlecode.lanterna.gui2.dialogs.MessageDialog;
 import com.googlecode.lanterna.gui2.dialogs.TextInputDialogBuilder;
@@ -14,6 +15,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class MedicalHistoryWindow extends BasicWindow {
 
@@ -23,6 +25,9 @@ public class MedicalHistoryWindow extends BasicWindow {
     private final WindowBasedTextGUI gui;
     private final Table<String> table;
     private List<MedicalRecord> records;
+    // Pets and vets for the create dialog, requested as soon as the window opens
+    private CompletableFuture<List<com.example.vetclinic.cli.model.Pet>> pets;
+    private CompletableFuture<List<com.example.vetclinic.cli.model.UserDTO>> vets;
 
     public MedicalHistoryWindow(WindowBasedTextGUI gui, MedicalRecordService medicalRecordService,
             com.example.vetclinic.cli.service.PetService petService,
@@ -59,12 +64,21 @@ public class MedicalHistoryWindow extends BasicWindow {
         setComponent(rootPanel);
         setHints(Arrays.asList(Hint.CENTERED, Hint.EXPANDED));
 
+        // Records are not cached on disk: show a placeholder until the first load arrives
+        table.getTableModel().addRow("", "Loading...", "", "", "", "");
         refreshTable();
+        pets = petService.getAllPetsAsync();
+        vets = userService.getVetsAsync();
     }
 
     private void refreshTable() {
+        medicalRecordService.getAllMedicalRecordsAsync()
+                .thenAccept(latest -> gui.getGUIThread().invokeLater(() -> render(latest)));
+    }
+
+    private void render(List<MedicalRecord> latest) {
         table.getTableModel().clear();
-        this.records = medicalRecordService.getAllMedicalRecords();
+        this.records = latest;
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
         for (MedicalRecord record : records) {
@@ -79,8 +93,17 @@ public class MedicalHistoryWindow extends BasicWindow {
     }
 
     private void createMedicalRecord() {
+        // Hand the prefetched lists to this dialog and start fetching them again for the next one
+        CompletableFuture<List<com.example.vetclinic.cli.model.Pet>> pendingPets = this.pets;
+        CompletableFuture<List<com.example.vetclinic.cli.model.UserDTO>> pendingVets = this.vets;
+        this.pets = petService.getAllPetsAsync();
+        this.vets = userService.getVetsAsync();
+
         // Select Pet
-        List<com.example.vetclinic.cli.model.Pet> pets = petService.getAllPets();
+        List<com.example.vetclinic.cli.model.Pet> pets = LoadingDialog.await(gui, "pets", pendingPets);
+        if (pets == null) {
+            return;
+        }
         if (pets.isEmpty()) {
             MessageDialog.showMessageDialog(gui, "Error", "No pets found. Create a pet first.");
             return;
@@ -102,7 +125,10 @@ public class MedicalHistoryWindow extends BasicWindow {
         Long petId = selectedPetId.get();
 
         // Select Vet
-        List<com.example.vetclinic.cli.model.UserDTO> vets = userService.getVets();
+        List<com.example.vetclinic.cli.model.UserDTO> vets = LoadingDialog.await(gui, "vets", pendingVets);
+        if (vets == null) {
+            return;
+        }
         if (vets.isEmpty()) {
             MessageDialog.showMessageDialog(gui, "Error", "No vets found.");
             return;
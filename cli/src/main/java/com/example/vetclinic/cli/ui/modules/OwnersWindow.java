@@ -56,12 +56,18 @@ public class OwnersWindow extends BasicWindow {
         setComponent(rootPanel);
         setHints(Arrays.asList(Hint.CENTERED, Hint.EXPANDED));
 
+        // Show the cached copy right away, then bring it up to date in the background
+        render(ownerService.getCachedOwners());
         refreshTable();
     }
 
     private void refreshTable() {
+        ownerService.getAllOwnersAsync()
+                .thenAccept(owners -> gui.getGUIThread().invokeLater(() -> render(owners)));
+    }
+
+    private void render(List<Owner> owners) {
         table.getTableModel().clear();
-        List<Owner> owners = ownerService.getAllOwners();
         for (Owner owner : owners) {
             table.getTableModel().addRow(
                     String.valueOf(owner.getId()),
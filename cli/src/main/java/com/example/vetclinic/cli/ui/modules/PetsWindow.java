@@ -3,6 +3,7 @@ package com.example.vetclinic.cli.ui.modules;
 import com.example.vetclinic.cli.model.CreatePetRequest;
 import com.example.vetclinic.cli.model.Pet;
 import com.example.vetclinic.cli.service.PetService;
+import com.example.vetclinic.cli.ui.components.LoadingDialog;
 import com.googlecode.lanterna.gui2.*;
 import com.googlecode.lanterna.gui2.dialogs.MessageDialog;
 import com.googlecode.lanterna.gui2.dialogs.TextInputDialogBuilder;
@@ -12,6 +13,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class PetsWindow extends BasicWindow {
 
@@ -19,6 +21,8 @@ public class PetsWindow extends BasicWindow {
     private final com.example.vetclinic.cli.service.OwnerService ownerService;
     private final WindowBasedTextGUI gui;
     private final Table<String> table;
+    // Owners for the create/edit dialogs, requested as soon as the window opens
+    private CompletableFuture<List<com.example.vetclinic.cli.model.Owner>> owners;
 
     public PetsWindow(WindowBasedTextGUI gui, PetService petService,
             com.example.vetclinic.cli.service.OwnerService ownerService) {
@@ -61,12 +65,26 @@ public class PetsWindow extends BasicWindow {
         setComponent(rootPanel);
         setHints(Arrays.asList(Hint.CENTERED, Hint.EXPANDED));
 
+        // Show the cached copy right away, then bring it up to date in the background
+        render(petService.getCachedPets());
         refreshTable();
+        owners = ownerService.getAllOwnersAsync();
     }
 
     private void refreshTable() {
+        petService.getAllPetsAsync()
+                .thenAccept(pets -> gui.getGUIThread().invokeLater(() -> render(pets)));
+    }
+
+    // Hands the prefetched owners to a dialog and starts fetching them again for the next one
+    private List<com.example.vetclinic.cli.model.Owner> takeOwners() {
+        CompletableFuture<List<com.example.vetclinic.cli.model.Owner>> prefetched = owners;
+        owners = ownerService.getAllOwnersAsync();
+        return LoadingDialog.await(gui, "owners", prefetched);
+    }
+
+    private void render(List<Pet> pets) {
         table.getTableModel().clear();
-        List<Pet> pets = petService.getAllPets();
         for (Pet pet : pets) {
             table.getTableModel().addRow(
                     String.valueOf(pet.getId()),
@@ -79,7 +97,9 @@ public class PetsWindow extends BasicWindow {
 
     private void createPet() {
         // Select Owner
-        List<com.example.vetclinic.cli.model.Owner> owners = ownerService.getAllOwners();
+        List<com.example.vetclinic.cli.model.Owner> owners = takeOwners();
+        if (owners == null)
+            return;
         if (owners.isEmpty()) {
             MessageDialog.showMessageDialog(gui, "Error", "No owners found. Create an owner first.");
             return;
@@ -161,7 +181,9 @@ public class PetsWindow extends BasicWindow {
         String currentBreed = table.getTableModel().getCell(3, selectedRow);
 
         // Select Owner (Optional: keep current or change)
-        List<com.example.vetclinic.cli.model.Owner> owners = ownerService.getAllOwners();
+        List<com.example.vetclinic.cli.model.Owner> owners = takeOwners();
+        if (owners == null)
+            return;
         com.googlecode.lanterna.gui2.dialogs.ActionListDialogBuilder ownerSelector = new com.googlecode.lanterna.gui2.dialogs.ActionListDialogBuilder()
                 .setTitle("Select Owner (Current: " + table.getTableModel().getCell(4, selectedRow) + ")");
         final java.util.concurrent.atomic.AtomicReference<Long> selectedOwnerId = new java.util.concurrent.atomic.AtomicReference<>();
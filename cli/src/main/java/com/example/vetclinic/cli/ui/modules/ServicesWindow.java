@@ -43,13 +43,18 @@ public class ServicesWindow extends BasicWindow {
         setComponent(rootPanel);
         setHints(Arrays.asList(Hint.CENTERED, Hint.EXPANDED));
 
+        // Show the cached copy right away, then bring it up to date in the background
+        render(serviceService.getCachedServices());
         refreshTable();
     }
 
     private void refreshTable() {
-        table.getTableModel().clear();
-        List<ServiceDTO> services = serviceService.getAllServices();
+        serviceService.getAllServicesAsync()
+                .thenAccept(services -> gui.getGUIThread().invokeLater(() -> render(services)));
+    }
 
+    private void render(List<ServiceDTO> services) {
+        table.getTableModel().clear();
         for (ServiceDTO service : services) {
             table.getTableModel().addRow(
                     String.valueOf(service.getId()),
@@ -96,8 +101,8 @@ public class ServicesWindow extends BasicWindow {
         String idStr = table.getTableModel().getCell(0, selectedRow);
         Long id = Long.parseLong(idStr);
 
-        // Find the service in the list
-        List<ServiceDTO> services = serviceService.getAllServices();
+        // Find the service in the list the table was rendered from
+        List<ServiceDTO> services = serviceService.getCachedServices();
         ServiceDTO service = services.stream()
                 .filter(s -> s.getId().equals(id))
                 .findFirst()
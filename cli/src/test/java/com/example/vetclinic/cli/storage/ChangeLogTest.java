@@ -0,0 +1,96 @@
+package com.example.vetclinic.cli.storage;
+
+import com.example.vetclinic.cli.model.ChangeFeed;
+import com.example.vetclinic.cli.model.Owner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChangeLogTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testReplayReturnsSnapshotThenDeltasInOrder() {
+        Path file = dir.resolve("owners.bin");
+        ChangeLog<Owner> log = new ChangeLog<>(file, MAPPER, Owner.class);
+        LocalDateTime cursor = LocalDateTime.of(2026, 1, 5, 10, 45);
+        log.compact(new ChangeFeed<>(List.of(owner(1L, "Ana")), List.of(), cursor, true));
+        log.append(new ChangeFeed<>(List.of(owner(2L, "Luis")), List.of(1L), cursor.plusMinutes(1), false));
+
+        List<ChangeFeed<Owner>> records = new ArrayList<>();
+        assertTrue(new ChangeLog<>(file, MAPPER, Owner.class).replay(records::add));
+
+        assertEquals(2, records.size());
+        assertTrue(records.get(0).isReset());
+        assertEquals("Ana", records.get(0).getChanges().get(0).getFirstName());
+        assertEquals(List.of(1L), records.get(1).getDeletedIds());
+        assertEquals(cursor.plusMinutes(1), records.get(1).getCursor());
+    }
+
+    @Test
+    public void testTornLastRecordIsCutOffAndLaterAppendsStayReadable() throws IOException {
+        Path file = dir.resolve("pets.bin");
+        ChangeLog<Owner> log = new ChangeLog<>(file, MAPPER, Owner.class);
+        log.compact(new ChangeFeed<>(List.of(owner(1L, "Ana")), List.of(), null, true));
+        long intact = Files.size(file);
+        Files.write(file, new byte[] { 0, 0, 1, 0, 42 }, StandardOpenOption.APPEND);
+
+        ChangeLog<Owner> reopened = new ChangeLog<>(file, MAPPER, Owner.class);
+        List<ChangeFeed<Owner>> records = new ArrayList<>();
+        assertTrue(reopened.replay(records::add));
+        assertEquals(1, records.size());
+        assertEquals(intact, Files.size(file));
+
+        reopened.append(new ChangeFeed<>(List.of(owner(2L, "Luis")), List.of(), null, false));
+        records.clear();
+        assertTrue(new ChangeLog<>(file, MAPPER, Owner.class).replay(records::add));
+        assertEquals(2, records.size());
+    }
+
+    @Test
+    public void testUnreadableFileIsDiscarded() throws IOException {
+        Path file = dir.resolve("vets.bin");
+        Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6 });
+
+        ChangeLog<Owner> log = new ChangeLog<>(file, MAPPER, Owner.class);
+
+        assertFalse(log.replay(record -> fail("Nothing should be replayed")));
+        assertFalse(Files.exists(file));
+        assertTrue(log.needsCompaction());
+    }
+
+    @Test
+    public void testNeedsCompactionOnceDeltasOutgrowTheSnapshot() {
+        ChangeLog<Owner> log = new ChangeLog<>(dir.resolve("owners.bin"), MAPPER, Owner.class);
+        log.compact(new ChangeFeed<>(List.of(owner(1L, "Ana")), List.of(), null, true));
+        assertFalse(log.needsCompaction());
+
+        for (long id = 2; !log.needsCompaction(); id++) {
+            assertTrue(id < 10_000, "Deltas should trigger a compaction");
+            log.append(new ChangeFeed<>(List.of(owner(id, "Cliente " + id)), List.of(), null, false));
+        }
+        log.compact(new ChangeFeed<>(List.of(owner(1L, "Ana")), List.of(), null, true));
+
+        assertFalse(log.needsCompaction());
+    }
+
+    private static Owner owner(Long id, String firstName) {
+        return new Owner(id, firstName, "Pérez", null, null, null, null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.vetclinic.loadtest;
+
+/**
+ * The dashboard of an administrator, polling the clinic statistics at a fixed interval on top
+ * of the regular think time.
+ */
+final class AdminUser extends VirtualUser {
+
+    private final long intervalMs;
+
+    AdminUser(Context context, String token, long seed, long intervalMs) {
+        super(context, token, seed);
+        this.intervalMs = intervalMs;
+    }
+
+    @Override
+    protected void iteration() throws InterruptedException {
+        call("GET /clinic/stats", api.clinic().getStats(token));
+        pause(intervalMs);
+    }
+}
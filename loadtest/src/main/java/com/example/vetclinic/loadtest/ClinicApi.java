@@ -0,0 +1,66 @@
+package com.example.vetclinic.loadtest;
+
+import com.example.vetclinic.cli.client.AppointmentClient;
+import com.example.vetclinic.cli.client.AuthClient;
+import com.example.vetclinic.cli.client.ClinicClient;
+import com.example.vetclinic.cli.client.MedicalRecordClient;
+import com.example.vetclinic.cli.client.OwnerClient;
+import com.example.vetclinic.cli.client.PetClient;
+import com.example.vetclinic.cli.client.ServiceClient;
+import com.example.vetclinic.cli.client.VetClient;
+import com.example.vetclinic.cli.model.LoginRequest;
+import com.example.vetclinic.cli.model.LoginResponse;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.converter.jackson.JacksonConverterFactory;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The CLI's Retrofit clients bound to the server under test, sharing one connection pool
+ * sized for the virtual users.
+ */
+record ClinicApi(AuthClient auth, OwnerClient owners, PetClient pets, VetClient vets, ServiceClient services,
+                 AppointmentClient appointments, MedicalRecordClient medicalRecords, ClinicClient clinic) {
+
+    static ClinicApi create(String baseUrl, int users) {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(users);
+        dispatcher.setMaxRequestsPerHost(users);
+        OkHttpClient httpClient = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(users, 5, TimeUnit.MINUTES))
+                .readTimeout(30, TimeUnit.SECONDS)
+                .build();
+        Retrofit retrofit = new Retrofit.Builder()
+                .baseUrl(baseUrl.endsWith("/") ? baseUrl + "api/" : baseUrl + "/api/")
+                .client(httpClient)
+                .addConverterFactory(JacksonConverterFactory.create(mapper))
+                .build();
+        return new ClinicApi(retrofit.create(AuthClient.class), retrofit.create(OwnerClient.class),
+                retrofit.create(PetClient.class), retrofit.create(VetClient.class), retrofit.create(ServiceClient.class),
+                retrofit.create(AppointmentClient.class), retrofit.create(MedicalRecordClient.class),
+                retrofit.create(ClinicClient.class));
+    }
+
+    /**
+     * Logs in and returns the value for the Authorization header.
+     */
+    String login(String username, String password) throws IOException {
+        Response<LoginResponse> response = auth.login(new LoginRequest(username, password)).execute();
+        if (!response.isSuccessful() || response.body() == null) {
+            throw new IllegalStateException("Login failed for " + username + ": HTTP " + response.code());
+        }
+        return "Bearer " + response.body().getAccessToken();
+    }
+}
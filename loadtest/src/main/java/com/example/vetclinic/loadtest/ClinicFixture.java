@@ -0,0 +1,37 @@
+package com.example.vetclinic.loadtest;
+
+import com.example.vetclinic.cli.model.Pet;
+import com.example.vetclinic.cli.model.ServiceDTO;
+import com.example.vetclinic.cli.model.VetDTO;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Ids the virtual users pick from, read once before the run.
+ */
+record ClinicFixture(List<Long> vetIds, List<Long> serviceIds, List<Long> petIds) {
+
+    static ClinicFixture load(ClinicApi api, String adminToken) throws IOException {
+        List<Long> vetIds = fetch(api.vets().getAllVets(adminToken)).stream().map(VetDTO::getId).toList();
+        List<Long> serviceIds = fetch(api.services().getAllServices(adminToken)).stream()
+                .filter(service -> !Boolean.FALSE.equals(service.getActive()))
+                .map(ServiceDTO::getId)
+                .toList();
+        List<Long> petIds = fetch(api.pets().getAllPets(adminToken)).stream().map(Pet::getId).toList();
+        if (vetIds.isEmpty() || serviceIds.isEmpty() || petIds.isEmpty()) {
+            throw new IllegalStateException("The server needs at least one vet, service and pet");
+        }
+        return new ClinicFixture(vetIds, serviceIds, petIds);
+    }
+
+    private static <T> List<T> fetch(Call<List<T>> call) throws IOException {
+        Response<List<T>> response = call.execute();
+        if (!response.isSuccessful() || response.body() == null) {
+            throw new IllegalStateException(call.request().url() + " returned HTTP " + response.code());
+        }
+        return response.body();
+    }
+}
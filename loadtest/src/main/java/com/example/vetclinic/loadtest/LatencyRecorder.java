@@ -0,0 +1,85 @@
+package com.example.vetclinic.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (microsecond resolution, three significant digits) and
+ * outcome counters. Samples taken while not recording, i.e. during warmup, are dropped.
+ */
+final class LatencyRecorder {
+
+    enum Outcome {
+        OK,
+        // 409 from a lost booking race or a full day: expected under load, not a failure
+        CONFLICT,
+        ERROR
+    }
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    void start() {
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+    }
+
+    void record(String endpoint, long elapsedNanos, Outcome outcome) {
+        if (!recording) {
+            return;
+        }
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        stats.histogram.recordValue(Math.max(1, elapsedNanos / 1_000));
+        switch (outcome) {
+            case OK -> stats.ok.increment();
+            case CONFLICT -> stats.conflicts.increment();
+            case ERROR -> stats.errors.increment();
+        }
+    }
+
+    List<EndpointResult> results(Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        return endpoints.entrySet().stream()
+                .map(entry -> entry.getValue().result(entry.getKey(), seconds))
+                .sorted(Comparator.comparing(EndpointResult::endpoint))
+                .toList();
+    }
+
+    private static final class Endpoint {
+
+        private final Histogram histogram = new ConcurrentHistogram(3);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private EndpointResult result(String endpoint, double seconds) {
+            long requests = ok.sum() + conflicts.sum() + errors.sum();
+            return new EndpointResult(endpoint, requests, conflicts.sum(), errors.sum(), requests / seconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / 1_000.0;
+        }
+    }
+
+    record EndpointResult(String endpoint, long requests, long conflicts, long errors, double throughput,
+                          double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : errors / (double) requests;
+        }
+    }
+}
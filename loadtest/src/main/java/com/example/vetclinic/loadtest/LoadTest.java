@@ -0,0 +1,149 @@
+package com.example.vetclinic.loadtest;
+
+import com.example.vetclinic.loadtest.LatencyRecorder.EndpointResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Replays a simulated clinic day: receptionists booking, vets writing medical records and
+ * admins polling the statistics, each on its own virtual thread. After the warmup the latency
+ * of every endpoint is recorded for the configured duration, printed as a table and written as
+ * JSON. The process exits with status 1 when the p99 or error rate budget is exceeded.
+ */
+@Slf4j
+public final class LoadTest {
+
+    private static final String ADMIN_USER = "admin";
+    private static final String ADMIN_PASSWORD = "admin123";
+    private static final String RECEPTIONIST_USER = "recepcionista1";
+    private static final List<String> VET_USERS = List.of("vet1", "vet2");
+    private static final String SAMPLE_PASSWORD = "password123";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ServerProcess server = options.getBaseUrl() == null ? ServerProcess.start(options) : null;
+        boolean withinBudget;
+        try {
+            String baseUrl = server != null ? server.baseUrl() : options.getBaseUrl();
+            withinBudget = run(options, baseUrl);
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+        System.exit(withinBudget ? 0 : 1);
+    }
+
+    private static boolean run(LoadTestOptions options, String baseUrl) throws Exception {
+        ClinicApi api = ClinicApi.create(baseUrl, options.totalUsers());
+        ClinicFixture fixture = ClinicFixture.load(api, api.login(ADMIN_USER, ADMIN_PASSWORD));
+        log.info("Fixture: {} vets, {} services, {} pets", fixture.vetIds().size(), fixture.serviceIds().size(),
+                fixture.petIds().size());
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicBoolean running = new AtomicBoolean(true);
+        VirtualUser.Context context = new VirtualUser.Context(api, fixture, recorder, running,
+                options.getThinkTimeMs());
+        List<VirtualUser> users = createUsers(options, context, api, fixture);
+
+        Duration measured;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            users.forEach(executor::execute);
+            log.info("Warming up {} users for {} s", users.size(), options.getWarmupSeconds());
+            TimeUnit.SECONDS.sleep(options.getWarmupSeconds());
+
+            recorder.start();
+            long start = System.nanoTime();
+            log.info("Recording for {} s", options.getDurationSeconds());
+            TimeUnit.SECONDS.sleep(options.getDurationSeconds());
+            recorder.stop();
+            measured = Duration.ofNanos(System.nanoTime() - start);
+            running.set(false);
+        }
+
+        List<EndpointResult> results = recorder.results(measured);
+        print(results);
+        write(options, measured, results);
+        return withinBudget(options, results);
+    }
+
+    private static List<VirtualUser> createUsers(LoadTestOptions options, VirtualUser.Context context,
+                                                 ClinicApi api, ClinicFixture fixture) throws Exception {
+        List<VirtualUser> users = new ArrayList<>();
+        long seed = options.getSeed();
+        for (int i = 0; i < options.getReceptionists(); i++) {
+            users.add(new ReceptionistUser(context, api.login(RECEPTIONIST_USER, SAMPLE_PASSWORD), seed++));
+        }
+        for (int i = 0; i < options.getVets(); i++) {
+            String token = api.login(VET_USERS.get(i % VET_USERS.size()), SAMPLE_PASSWORD);
+            Long vetId = fixture.vetIds().get(i % fixture.vetIds().size());
+            users.add(new VetUser(context, token, seed++, vetId));
+        }
+        for (int i = 0; i < options.getAdmins(); i++) {
+            users.add(new AdminUser(context, api.login(ADMIN_USER, ADMIN_PASSWORD), seed++,
+                    options.getStatsIntervalMs()));
+        }
+        return users;
+    }
+
+    private static void print(List<EndpointResult> results) {
+        System.out.printf("%n%-34s %8s %6s %6s %8s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "409",
+                "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (EndpointResult result : results) {
+            System.out.printf("%-34s %8d %6d %6d %8.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", result.endpoint(),
+                    result.requests(), result.conflicts(), result.errors(), result.throughput(), result.p50Ms(),
+                    result.p90Ms(), result.p99Ms(), result.p999Ms(), result.maxMs());
+        }
+        double total = results.stream().mapToDouble(EndpointResult::throughput).sum();
+        System.out.printf("%-34s %8s %6s %6s %8.1f%n%n", "total", "", "", "", total);
+    }
+
+    private static void write(LoadTestOptions options, Duration measured, List<EndpointResult> results)
+            throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("receptionists", options.getReceptionists());
+        report.put("vets", options.getVets());
+        report.put("admins", options.getAdmins());
+        report.put("thinkTimeMs", options.getThinkTimeMs());
+        report.put("measuredSeconds", measured.toMillis() / 1000.0);
+        report.put("endpoints", results);
+        File output = new File(options.getOutput());
+        if (output.getParentFile() != null) {
+            output.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, report);
+        log.info("Results written to {}", output.getAbsolutePath());
+    }
+
+    private static boolean withinBudget(LoadTestOptions options, List<EndpointResult> results) {
+        boolean withinBudget = true;
+        for (EndpointResult result : results) {
+            if (options.getMaxP99Ms() > 0 && result.p99Ms() > options.getMaxP99Ms()) {
+                log.error("{}: p99 {} ms exceeds the budget of {} ms", result.endpoint(), result.p99Ms(),
+                        options.getMaxP99Ms());
+                withinBudget = false;
+            }
+            if (result.errorRate() > options.getMaxErrorRate()) {
+                log.error("{}: error rate {} exceeds the budget of {}", result.endpoint(), result.errorRate(),
+                        options.getMaxErrorRate());
+                withinBudget = false;
+            }
+        }
+        return withinBudget;
+    }
+}
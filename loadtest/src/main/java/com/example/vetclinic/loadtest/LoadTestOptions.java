@@ -0,0 +1,95 @@
+package com.example.vetclinic.loadtest;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Command line options, given as {@code --name=value}. Without {@code --base-url} the server
+ * jar is started with the H2 {@code local} profile on a free port.
+ */
+@Value
+@Builder
+public class LoadTestOptions {
+
+    String baseUrl;
+
+    @Builder.Default
+    String serverJar = "../target/vetclinic-0.0.1-SNAPSHOT-exec.jar";
+
+    // Loads app.synthetic-data into the started server when positive
+    @Builder.Default
+    int syntheticOwners = 0;
+
+    @Builder.Default
+    int syntheticVets = 10;
+
+    @Builder.Default
+    int receptionists = 4;
+
+    @Builder.Default
+    int vets = 2;
+
+    @Builder.Default
+    int admins = 1;
+
+    @Builder.Default
+    int warmupSeconds = 10;
+
+    @Builder.Default
+    int durationSeconds = 60;
+
+    // Mean of the exponential pause between two iterations of a user
+    @Builder.Default
+    long thinkTimeMs = 200;
+
+    @Builder.Default
+    long statsIntervalMs = 1000;
+
+    @Builder.Default
+    long seed = 42;
+
+    @Builder.Default
+    String output = "target/loadtest-result.json";
+
+    // Budgets; the run exits with status 1 when one is exceeded. 0 disables the p99 check
+    @Builder.Default
+    double maxP99Ms = 0;
+
+    @Builder.Default
+    double maxErrorRate = 0.01;
+
+    public int totalUsers() {
+        return receptionists + vets + admins;
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptionsBuilder builder = builder();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "base-url" -> builder.baseUrl(value);
+                case "server-jar" -> builder.serverJar(value);
+                case "synthetic-owners" -> builder.syntheticOwners(Integer.parseInt(value));
+                case "synthetic-vets" -> builder.syntheticVets(Integer.parseInt(value));
+                case "receptionists" -> builder.receptionists(Integer.parseInt(value));
+                case "vets" -> builder.vets(Integer.parseInt(value));
+                case "admins" -> builder.admins(Integer.parseInt(value));
+                case "warmup" -> builder.warmupSeconds(Integer.parseInt(value));
+                case "duration" -> builder.durationSeconds(Integer.parseInt(value));
+                case "think-time-ms" -> builder.thinkTimeMs(Long.parseLong(value));
+                case "stats-interval-ms" -> builder.statsIntervalMs(Long.parseLong(value));
+                case "seed" -> builder.seed(Long.parseLong(value));
+                case "output" -> builder.output(value);
+                case "max-p99-ms" -> builder.maxP99Ms(Double.parseDouble(value));
+                case "max-error-rate" -> builder.maxErrorRate(Double.parseDouble(value));
+                default -> throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        return builder.build();
+    }
+}
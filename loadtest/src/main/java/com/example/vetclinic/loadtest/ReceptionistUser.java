@@ -0,0 +1,56 @@
+package com.example.vetclinic.loadtest;
+
+import com.example.vetclinic.cli.model.Appointment;
+import com.example.vetclinic.cli.model.CreateAppointmentRequest;
+import com.example.vetclinic.cli.model.VetAvailability;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Front desk booking: looks the pet up, asks one vet for free slots on a day of the next two
+ * weeks, books one of them and then confirms or cancels part of the bookings. Concurrent
+ * receptionists racing for the same slot get a 409, recorded as a conflict.
+ */
+final class ReceptionistUser extends VirtualUser {
+
+    private static final int BOOKING_HORIZON_DAYS = 14;
+
+    ReceptionistUser(Context context, String token, long seed) {
+        super(context, token, seed);
+    }
+
+    @Override
+    protected void iteration() {
+        Long petId = pick(fixture.petIds());
+        if (random.nextInt(2) == 0) {
+            call("GET /pets/{id}", api.pets().getPetById(token, petId));
+        }
+
+        Long vetId = pick(fixture.vetIds());
+        Long serviceId = pick(fixture.serviceIds());
+        LocalDate date = LocalDate.now().plusDays(1 + random.nextInt(BOOKING_HORIZON_DAYS));
+        VetAvailability availability = call("GET /vets/{id}/availability",
+                api.vets().getAvailability(token, vetId, date.toString(), serviceId, null));
+        if (availability == null || availability.getAvailableSlots() == null
+                || availability.getAvailableSlots().isEmpty()) {
+            return;
+        }
+
+        List<LocalTime> slots = availability.getAvailableSlots();
+        CreateAppointmentRequest request = new CreateAppointmentRequest(date.atTime(pick(slots)),
+                "Reserva de prueba de carga", petId, vetId, serviceId);
+        Appointment appointment = call("POST /appointments", api.appointments().createAppointment(token, request));
+        if (appointment == null) {
+            return;
+        }
+
+        int followUp = random.nextInt(10);
+        if (followUp < 3) {
+            call("PATCH /appointments/{id}/confirm", api.appointments().confirmAppointment(token, appointment.getId()));
+        } else if (followUp == 3) {
+            call("PATCH /appointments/{id}/cancel", api.appointments().cancelAppointment(token, appointment.getId()));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.vetclinic.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The server jar started in a child JVM with the {@code local} profile (in-memory H2), so a run
+ * needs neither network nor database. Its output goes to {@code target/loadtest-server.log}.
+ */
+@Slf4j
+final class ServerProcess implements AutoCloseable {
+
+    private static final long STARTUP_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private final Process process;
+    private final Path logFile;
+    private final String baseUrl;
+
+    private ServerProcess(Process process, Path logFile, int port) {
+        this.process = process;
+        this.logFile = logFile;
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    static ServerProcess start(LoadTestOptions options) throws IOException, InterruptedException {
+        File jar = new File(options.getServerJar());
+        if (!jar.isFile()) {
+            throw new IllegalStateException("Server jar not found: " + jar.getAbsolutePath()
+                    + " (run 'mvn package -DskipTests' in the project root first)");
+        }
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", jar.getAbsolutePath(),
+                "--spring.profiles.active=local",
+                "--server.port=" + port,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.vetclinic.infrastructure.synthetic=INFO"));
+        if (options.getSyntheticOwners() > 0) {
+            command.add("--app.synthetic-data.enabled=true");
+            command.add("--app.synthetic-data.owners=" + options.getSyntheticOwners());
+            command.add("--app.synthetic-data.vets=" + options.getSyntheticVets());
+            command.add("--app.synthetic-data.seed=" + options.getSeed());
+        }
+        Path logFile = Path.of("target", "loadtest-server.log");
+        Files.createDirectories(logFile.getParent());
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        ServerProcess server = new ServerProcess(process, logFile, port);
+        log.info("Starting {} on port {}", jar.getName(), port);
+        server.awaitHealthy();
+        return server;
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    private void awaitHealthy() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Server exited with status " + process.exitValue()
+                        + ", see " + logFile.toAbsolutePath());
+            }
+            if (isHealthy()) {
+                return;
+            }
+            Thread.sleep(500);
+        }
+        close();
+        throw new IllegalStateException("Server not healthy after " + STARTUP_TIMEOUT_MS / 1000
+                + " s, see " + logFile.toAbsolutePath());
+    }
+
+    private boolean isHealthy() {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) URI.create(baseUrl + "/actuator/health")
+                    .toURL().openConnection();
+            connection.setConnectTimeout(1000);
+            connection.setReadTimeout(1000);
+            try {
+                return connection.getResponseCode() == 200;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
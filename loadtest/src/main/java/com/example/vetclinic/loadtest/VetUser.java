@@ -0,0 +1,50 @@
+package com.example.vetclinic.loadtest;
+
+import com.example.vetclinic.cli.model.Appointment;
+import com.example.vetclinic.cli.model.CreateMedicalRecordRequest;
+import com.example.vetclinic.cli.model.Pet;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A vet working through the agenda: opens the appointment list, reads the history of one of
+ * the patients and its owner, and writes a new medical record for it.
+ */
+final class VetUser extends VirtualUser {
+
+    private final Long vetId;
+
+    VetUser(Context context, String token, long seed, Long vetId) {
+        super(context, token, seed);
+        this.vetId = vetId;
+    }
+
+    @Override
+    protected void iteration() {
+        List<Appointment> agenda = call("GET /appointments/vet/{vetId}",
+                api.appointments().getAppointmentsByVet(token, vetId));
+        Appointment appointment = agenda == null || agenda.isEmpty() ? null : pick(agenda);
+        Long petId = appointment != null ? appointment.getPetId() : pick(fixture.petIds());
+
+        call("GET /medical-records/pet/{petId}", api.medicalRecords().getMedicalRecordsByPet(token, petId));
+        if (random.nextInt(4) == 0) {
+            Pet pet = call("GET /pets/{id}", api.pets().getPetById(token, petId));
+            if (pet != null && pet.getOwnerId() != null) {
+                call("GET /owners/{id}", api.owners().getOwnerById(token, pet.getOwnerId()));
+            }
+        }
+
+        CreateMedicalRecordRequest request = new CreateMedicalRecordRequest(LocalDateTime.now().withNano(0),
+                "Revisión general", "Sin tratamiento", "Registro de prueba de carga",
+                decimal(2 + random.nextDouble() * 38), decimal(37.5 + random.nextDouble() * 2), null,
+                petId, vetId, null);
+        call("POST /medical-records", api.medicalRecords().createMedicalRecord(token, request));
+    }
+
+    private static BigDecimal decimal(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.vetclinic.loadtest;
+
+import com.example.vetclinic.loadtest.LatencyRecorder.Outcome;
+import lombok.extern.slf4j.Slf4j;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One simulated user of the closed-loop model: it issues its next request only after the
+ * previous one answered and an exponentially distributed think time elapsed, so the offered
+ * load follows the server's response time instead of a fixed arrival rate.
+ */
+@Slf4j
+abstract class VirtualUser implements Runnable {
+
+    protected final ClinicApi api;
+    protected final ClinicFixture fixture;
+    protected final String token;
+    protected final SplittableRandom random;
+    private final LatencyRecorder recorder;
+    private final AtomicBoolean running;
+    private final long thinkTimeMs;
+
+    protected VirtualUser(Context context, String token, long seed) {
+        this.api = context.api();
+        this.fixture = context.fixture();
+        this.recorder = context.recorder();
+        this.running = context.running();
+        this.thinkTimeMs = context.thinkTimeMs();
+        this.token = token;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * One pass through the user's workflow.
+     */
+    protected abstract void iteration() throws InterruptedException;
+
+    @Override
+    public void run() {
+        try {
+            while (running.get()) {
+                iteration();
+                pause(thinkTime());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Executes and times the call under the given endpoint name. Returns the body on a 2xx
+     * response and {@code null} otherwise.
+     */
+    protected <T> T call(String endpoint, Call<T> call) {
+        long start = System.nanoTime();
+        try {
+            Response<T> response = call.execute();
+            long elapsed = System.nanoTime() - start;
+            if (response.isSuccessful()) {
+                recorder.record(endpoint, elapsed, Outcome.OK);
+                return response.body();
+            }
+            if (response.errorBody() != null) {
+                response.errorBody().close();
+            }
+            recorder.record(endpoint, elapsed, response.code() == 409 ? Outcome.CONFLICT : Outcome.ERROR);
+            if (response.code() != 409) {
+                log.debug("{} returned HTTP {}", endpoint, response.code());
+            }
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, Outcome.ERROR);
+            log.debug("{} failed: {}", endpoint, e.getMessage());
+        }
+        return null;
+    }
+
+    protected <T> T pick(List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    protected boolean running() {
+        return running.get();
+    }
+
+    protected void pause(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    private long thinkTime() {
+        return Math.round(-thinkTimeMs * Math.log(1 - random.nextDouble()));
+    }
+
+    /**
+     * What every user of a run shares.
+     */
+    record Context(ClinicApi api, ClinicFixture fixture, LatencyRecorder recorder, AtomicBoolean running,
+                   long thinkTimeMs) {
+    }
+}
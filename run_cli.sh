@@ -14,7 +14,7 @@ mvn clean package -DskipTests
 if [ $? -eq 0 ]; then
     echo "Starting CLI..."
     # Run the shaded jar
-    $JAVA_HOME/bin/java -jar target/vetclinic-cli-1.0-SNAPSHOT.jar
+    $JAVA_HOME/bin/java -jar target/vetclinic-cli-1.0-SNAPSHOT-shaded.jar
 else
     echo "Build failed."
 fi
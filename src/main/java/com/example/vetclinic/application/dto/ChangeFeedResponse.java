@@ -0,0 +1,28 @@
+package com.example.vetclinic.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Rows created or modified since the requested cursor, and ids deleted since then. Changes
+ * may be delivered more than once, so clients apply them as upserts and then drop
+ * {@code deletedIds}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponse<T> {
+    private List<T> changes;
+    private List<Long> deletedIds;
+    // Value to send as since on the next request
+    private LocalDateTime cursor;
+    // True when changes is the full list and replaces the client's copy: no since, or one
+    // older than the tombstone retention
+    private boolean reset;
+}
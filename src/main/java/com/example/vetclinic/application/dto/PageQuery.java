@@ -0,0 +1,43 @@
+package com.example.vetclinic.application.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Paging parameters shared by the paginated list endpoints. When {@code cursor} is set the
+ * page is read by keyset (rows with an id greater than the cursor) and {@code page} is ignored;
+ * otherwise {@code page} is used as a classic offset. {@code includeTotal=false} skips the
+ * count query.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageQuery {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 200;
+
+    @Builder.Default
+    @Min(value = 0, message = "Page must not be negative")
+    private int page = 0;
+
+    @Builder.Default
+    @Min(value = 1, message = "Size must be at least 1")
+    @Max(value = MAX_SIZE, message = "Size must not exceed " + MAX_SIZE)
+    private int size = DEFAULT_SIZE;
+
+    @Min(value = 0, message = "Cursor must not be negative")
+    private Long cursor;
+
+    @Builder.Default
+    private boolean includeTotal = true;
+
+    public boolean isKeyset() {
+        return cursor != null;
+    }
+}
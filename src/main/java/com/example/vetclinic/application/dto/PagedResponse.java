@@ -15,8 +15,11 @@ public class PagedResponse<T> {
     private List<T> content;
     private int pageNumber;
     private int pageSize;
-    private long totalElements;
-    private int totalPages;
+    // Null when the total count was not requested
+    private Long totalElements;
+    private Integer totalPages;
     private boolean last;
     private boolean first;
+    // Id to pass as cursor for the next keyset page, null on the last page
+    private Long nextCursor;
 }
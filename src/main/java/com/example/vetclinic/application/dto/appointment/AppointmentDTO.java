@@ -1,14 +1,19 @@
 package com.example.vetclinic.application.dto.appointment;
 
 import com.example.vetclinic.domain.model.AppointmentStatus;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class AppointmentDTO {
     private Long id;
     private LocalDateTime appointmentDate;
+    private LocalDateTime endDate;
     private AppointmentStatus status;
     private String notes;
 
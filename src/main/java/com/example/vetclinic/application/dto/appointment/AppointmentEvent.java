@@ -0,0 +1,30 @@
+package com.example.vetclinic.application.dto.appointment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * A committed change to an appointment, with its state after the change. A reschedule also
+ * carries the vet and day it was moved from, so subscribers filtering on those see it leave.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentEvent {
+
+    public enum Type {
+        CREATED, UPDATED, CONFIRMED, CANCELLED
+    }
+
+    private Type type;
+    private AppointmentDTO appointment;
+    private Long previousVetId;
+    private LocalDate previousDate;
+
+    public AppointmentEvent(Type type, AppointmentDTO appointment) {
+        this(type, appointment, null, null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.vetclinic.application.dto.appointment;
+
+import com.example.vetclinic.domain.model.AppointmentStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class ImportAppointmentDTO {
+    @NotNull(message = "Appointment date is required")
+    private LocalDateTime appointmentDate;
+
+    private AppointmentStatus status;
+
+    @Size(max = 1000, message = "Notes must be at most 1000 characters")
+    private String notes;
+
+    @NotNull(message = "Pet ID is required")
+    private Long petId;
+
+    @NotNull(message = "Vet ID is required")
+    private Long vetId;
+
+    private Long serviceId;
+}
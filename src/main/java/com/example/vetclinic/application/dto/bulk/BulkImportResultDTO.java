@@ -0,0 +1,20 @@
+package com.example.vetclinic.application.dto.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDTO {
+    private int received;
+    private int imported;
+    private int failed;
+    private List<Long> ids;
+    private List<BulkRowErrorDTO> errors;
+}
@@ -0,0 +1,20 @@
+package com.example.vetclinic.application.dto.bulk;
+
+/**
+ * One element of a bulk request body. {@code value} is null when the element could
+ * not be read, in which case {@code error} explains why.
+ */
+public record BulkRow<T>(int index, T value, String error) {
+
+    public static <T> BulkRow<T> of(int index, T value) {
+        return new BulkRow<>(index, value, null);
+    }
+
+    public static <T> BulkRow<T> failed(int index, String error) {
+        return new BulkRow<>(index, null, error);
+    }
+
+    public boolean isReadable() {
+        return error == null;
+    }
+}
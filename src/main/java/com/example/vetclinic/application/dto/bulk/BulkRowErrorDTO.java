@@ -0,0 +1,17 @@
+package com.example.vetclinic.application.dto.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRowErrorDTO {
+    private int row;
+    private List<String> messages;
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 @Data
 @Builder
@@ -17,9 +18,11 @@ public class ClinicStatsDTO {
     private Long confirmedAppointments;
     private Long completedAppointments;
     private Long cancelledAppointments;
+    private Map<String, Long> appointmentsByStatus;
     private Long totalPets;
     private Long totalOwners;
     private Long totalVets;
     private Long totalMedicalRecords;
+    private Long activeServices;
     private BigDecimal estimatedRevenue;
 }
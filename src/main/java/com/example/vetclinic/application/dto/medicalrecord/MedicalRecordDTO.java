@@ -1,11 +1,15 @@
 package com.example.vetclinic.application.dto.medicalrecord;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class MedicalRecordDTO {
     private Long id;
     private LocalDateTime recordDate;
@@ -0,0 +1,24 @@
+package com.example.vetclinic.application.dto.vet;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VetAvailabilityDTO {
+    private Long vetId;
+    private LocalDate date;
+    private Long serviceId;
+    private Integer durationMinutes;
+    private LocalTime openingTime;
+    private LocalTime closingTime;
+    private List<LocalTime> availableSlots;
+}
@@ -1,21 +1,31 @@
 package com.example.vetclinic.application.service;
 
+import com.example.vetclinic.application.dto.ChangeFeedResponse;
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
 import com.example.vetclinic.application.dto.appointment.AppointmentDTO;
+import com.example.vetclinic.application.dto.appointment.AppointmentEvent;
 import com.example.vetclinic.application.dto.appointment.CreateAppointmentDTO;
 import com.example.vetclinic.application.dto.appointment.UpdateAppointmentDTO;
+import com.example.vetclinic.domain.exception.ConflictException;
 import com.example.vetclinic.domain.model.*;
 import com.example.vetclinic.infrastructure.mapper.AppointmentMapper;
 import com.example.vetclinic.infrastructure.persistence.AppointmentJpaRepository;
 import com.example.vetclinic.infrastructure.persistence.PetJpaRepository;
 import com.example.vetclinic.infrastructure.persistence.VetJpaRepository;
+import com.example.vetclinic.infrastructure.persistence.VetScheduleLock;
 import com.example.vetclinic.infrastructure.persistence.VeterinaryServiceJpaRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -26,12 +36,37 @@ public class AppointmentService {
     private final VetJpaRepository vetRepository;
     private final VeterinaryServiceJpaRepository serviceRepository;
     private final AppointmentMapper appointmentMapper;
+    private final AvailabilityService availabilityService;
+    private final VetScheduleLock vetScheduleLock;
+    private final DailyCapacityLedger capacityLedger;
+    private final ChangeFeed changeFeed;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<AppointmentDTO> getAllAppointments() {
-        return appointmentRepository.findAll().stream()
-                .map(appointmentMapper::toDTO)
-                .collect(Collectors.toList());
+        return appointmentRepository.findAllDTOs();
+    }
+
+    /**
+     * Passes every appointment to {@code sink} in id order without building a list; rows are
+     * read through a database cursor and nothing is kept once consumed.
+     */
+    @Transactional(readOnly = true)
+    public void exportAppointments(Consumer<AppointmentDTO> sink) {
+        try (Stream<AppointmentDTO> appointments = appointmentRepository.streamAllDTOs()) {
+            appointments.forEach(sink);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<AppointmentDTO> getAppointmentsPage(PageQuery query) {
+        return PagingSupport.fetch(query, appointmentRepository, Appointment::getId, appointmentMapper::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse<AppointmentDTO> getAppointmentChanges(LocalDateTime since) {
+        return changeFeed.fetch(since, Tombstone.EntityType.APPOINTMENT, appointmentRepository,
+                appointmentMapper::toDTO);
     }
 
     @Transactional(readOnly = true)
@@ -46,9 +81,7 @@ public class AppointmentService {
         if (!petRepository.existsById(petId)) {
             throw new EntityNotFoundException("Pet not found with id: " + petId);
         }
-        return appointmentRepository.findByPetId(petId).stream()
-                .map(appointmentMapper::toDTO)
-                .collect(Collectors.toList());
+        return appointmentRepository.findDTOsByPetId(petId);
     }
 
     @Transactional(readOnly = true)
@@ -56,9 +89,7 @@ public class AppointmentService {
         if (!vetRepository.existsById(vetId)) {
             throw new EntityNotFoundException("Vet not found with id: " + vetId);
         }
-        return appointmentRepository.findByVetId(vetId).stream()
-                .map(appointmentMapper::toDTO)
-                .collect(Collectors.toList());
+        return appointmentRepository.findDTOsByVetId(vetId);
     }
 
     @Transactional
@@ -80,14 +111,20 @@ public class AppointmentService {
             appointment.setService(service);
         }
 
+        reserveSlot(appointment);
+        capacityLedger.reserve(appointment.getAppointmentDate().toLocalDate());
         Appointment savedAppointment = appointmentRepository.save(appointment);
-        return appointmentMapper.toDTO(savedAppointment);
+        availabilityService.invalidate(vet.getId(), savedAppointment.getAppointmentDate().toLocalDate());
+        return publish(AppointmentEvent.Type.CREATED, appointmentMapper.toDTO(savedAppointment));
     }
 
     @Transactional
     public AppointmentDTO updateAppointment(Long id, UpdateAppointmentDTO updateDTO) {
         Appointment appointment = appointmentRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Appointment not found with id: " + id));
+        LocalDate previousDay = appointment.getAppointmentDate().toLocalDate();
+        Long previousVetId = appointment.getVet().getId();
+        availabilityService.invalidate(previousVetId, previousDay);
 
         appointmentMapper.updateEntityFromDTO(updateDTO, appointment);
 
@@ -104,25 +141,88 @@ public class AppointmentService {
             appointment.setService(service);
         }
 
+        boolean rescheduled = updateDTO.getAppointmentDate() != null
+                || updateDTO.getVetId() != null
+                || updateDTO.getServiceId() != null;
+        if (rescheduled && appointment.getStatus() != AppointmentStatus.CANCELLED) {
+            reserveSlot(appointment);
+            LocalDate newDay = appointment.getAppointmentDate().toLocalDate();
+            if (!newDay.equals(previousDay)) {
+                capacityLedger.reserve(newDay);
+                capacityLedger.release(previousDay);
+            }
+        }
+
         Appointment updatedAppointment = appointmentRepository.save(appointment);
-        return appointmentMapper.toDTO(updatedAppointment);
+        availabilityService.invalidate(updatedAppointment.getVet().getId(),
+                updatedAppointment.getAppointmentDate().toLocalDate());
+        AppointmentDTO updated = appointmentMapper.toDTO(updatedAppointment);
+        eventPublisher.publishEvent(new AppointmentEvent(AppointmentEvent.Type.UPDATED, updated,
+                previousVetId, previousDay));
+        return updated;
     }
 
     @Transactional
     public AppointmentDTO confirmAppointment(Long id) {
         Appointment appointment = appointmentRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Appointment not found with id: " + id));
+        // A cancelled appointment goes back on the schedule: its slot may have been rebooked since
+        boolean reinstated = appointment.getStatus() == AppointmentStatus.CANCELLED;
+        if (reinstated) {
+            reserveSlot(appointment);
+            capacityLedger.reserve(appointment.getAppointmentDate().toLocalDate());
+        }
         appointment.setStatus(AppointmentStatus.CONFIRMED);
         Appointment confirmedAppointment = appointmentRepository.save(appointment);
-        return appointmentMapper.toDTO(confirmedAppointment);
+        if (reinstated) {
+            availabilityService.invalidate(confirmedAppointment.getVet().getId(),
+                    confirmedAppointment.getAppointmentDate().toLocalDate());
+        }
+        return publish(AppointmentEvent.Type.CONFIRMED, appointmentMapper.toDTO(confirmedAppointment));
     }
 
     @Transactional
     public AppointmentDTO cancelAppointment(Long id) {
         Appointment appointment = appointmentRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Appointment not found with id: " + id));
+        if (appointment.getStatus() != AppointmentStatus.CANCELLED) {
+            capacityLedger.release(appointment.getAppointmentDate().toLocalDate());
+        }
         appointment.setStatus(AppointmentStatus.CANCELLED);
         Appointment cancelledAppointment = appointmentRepository.save(appointment);
-        return appointmentMapper.toDTO(cancelledAppointment);
+        availabilityService.invalidate(cancelledAppointment.getVet().getId(),
+                cancelledAppointment.getAppointmentDate().toLocalDate());
+        return publish(AppointmentEvent.Type.CANCELLED, appointmentMapper.toDTO(cancelledAppointment));
+    }
+
+    // Delivered to subscribers only once the surrounding transaction commits
+    private AppointmentDTO publish(AppointmentEvent.Type type, AppointmentDTO appointment) {
+        eventPublisher.publishEvent(new AppointmentEvent(type, appointment));
+        return appointment;
+    }
+
+    private void reserveSlot(Appointment appointment) {
+        LocalDateTime start = appointment.getAppointmentDate();
+        appointment.setEndDate(start.plusMinutes(durationOf(appointment.getService())));
+
+        Long vetId = appointment.getVet().getId();
+        // Every day the booking touches, in ascending order, so bookings meeting across
+        // midnight share a lock and concurrent ones always take them in the same order
+        LocalDate lastDay = appointment.getEndDate().minusNanos(1).toLocalDate();
+        for (LocalDate day = start.toLocalDate(); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            vetScheduleLock.lock(vetId, day);
+        }
+        if (appointmentRepository.existsOverlapping(vetId, start, appointment.getEndDate(), appointment.getId())) {
+            throw new ConflictException("Vet " + vetId + " already has an appointment between "
+                    + start + " and " + appointment.getEndDate());
+        }
+    }
+
+    private static int durationOf(VeterinaryService service) {
+        if (service == null || service.getEstimatedDurationMinutes() == null
+                || service.getEstimatedDurationMinutes() <= 0) {
+            return AvailabilityService.DEFAULT_DURATION_MINUTES;
+        }
+        return service.getEstimatedDurationMinutes();
     }
 }
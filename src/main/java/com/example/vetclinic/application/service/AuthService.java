@@ -3,11 +3,14 @@ package com.example.vetclinic.application.service;
 import com.example.vetclinic.application.dto.auth.JwtAuthenticationResponse;
 import com.example.vetclinic.application.dto.auth.LoginRequest;
 import com.example.vetclinic.application.dto.auth.SignUpRequest;
+import com.example.vetclinic.domain.exception.BusinessException;
 import com.example.vetclinic.domain.model.Role;
 import com.example.vetclinic.domain.model.User;
 import com.example.vetclinic.infrastructure.persistence.RoleJpaRepository;
 import com.example.vetclinic.infrastructure.persistence.UserJpaRepository;
 import com.example.vetclinic.security.JwtTokenProvider;
+import com.example.vetclinic.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -26,17 +29,20 @@ public class AuthService {
     private final RoleJpaRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationList revocationList;
 
     public AuthService(AuthenticationManager authenticationManager,
             UserJpaRepository userRepository,
             RoleJpaRepository roleRepository,
             PasswordEncoder passwordEncoder,
-            JwtTokenProvider tokenProvider) {
+            JwtTokenProvider tokenProvider,
+            TokenRevocationList revocationList) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenProvider = tokenProvider;
+        this.revocationList = revocationList;
     }
 
     public JwtAuthenticationResponse authenticateUser(LoginRequest loginRequest) {
@@ -56,13 +62,21 @@ public class AuthService {
         return new JwtAuthenticationResponse(jwt, roles);
     }
 
+    public void logout(String token) {
+        Claims claims = tokenProvider.verify(token);
+        if (claims != null) {
+            revocationList.revoke(claims);
+        }
+        SecurityContextHolder.clearContext();
+    }
+
     public User registerUser(SignUpRequest signUpRequest) {
         if (userRepository.existsByUsername(signUpRequest.getUsername())) {
-            throw new RuntimeException("Username is already taken!");
+            throw new BusinessException("Username is already taken!");
         }
 
         if (userRepository.existsByEmail(signUpRequest.getEmail())) {
-            throw new RuntimeException("Email Address already in use!");
+            throw new BusinessException("Email Address already in use!");
         }
 
         User user = User.builder()
@@ -71,7 +85,8 @@ public class AuthService {
                 .password(passwordEncoder.encode(signUpRequest.getPassword()))
                 .build();
 
-        Role userRole = roleRepository.findByName("ROLE_USER")
+        Role userRole = roleRepository.findIdByName("ROLE_USER")
+                .map(roleRepository::getReferenceById)
                 .orElseThrow(() -> new RuntimeException("User Role not set."));
 
         user.setRoles(Collections.singleton(userRole));
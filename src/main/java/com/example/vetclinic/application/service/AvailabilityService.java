@@ -0,0 +1,205 @@
+package com.example.vetclinic.application.service;
+
+import com.example.vetclinic.application.dto.vet.VetAvailabilityDTO;
+import com.example.vetclinic.domain.model.Clinic;
+import com.example.vetclinic.infrastructure.persistence.AppointmentSlotView;
+import com.example.vetclinic.infrastructure.persistence.AppointmentJpaRepository;
+import com.example.vetclinic.infrastructure.persistence.ClinicJpaRepository;
+import com.example.vetclinic.infrastructure.persistence.VetJpaRepository;
+import com.example.vetclinic.infrastructure.persistence.VeterinaryServiceJpaRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@RequiredArgsConstructor
+public class AvailabilityService {
+
+    static final int DEFAULT_DURATION_MINUTES = 30;
+    private static final LocalTime DEFAULT_OPENING = LocalTime.of(8, 0);
+    private static final LocalTime DEFAULT_CLOSING = LocalTime.of(18, 0);
+
+    private final AppointmentJpaRepository appointmentRepository;
+    private final VetJpaRepository vetRepository;
+    private final VeterinaryServiceJpaRepository serviceRepository;
+    private final ClinicJpaRepository clinicRepository;
+
+    private final Map<VetDay, VetDayOccupancy> occupancyCache = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> durationCache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile ClinicHours clinicHours;
+
+    @Value("${app.availability.slot-step-minutes:15}")
+    private int slotStepMinutes = 15;
+
+    @Value("${app.availability.cache-size:10000}")
+    private int cacheSize = 10000;
+
+    @Transactional(readOnly = true)
+    public VetAvailabilityDTO getAvailability(Long vetId, LocalDate date, Long serviceId, Long excludeAppointmentId) {
+        int duration = resolveDuration(serviceId);
+        ClinicHours hours = resolveClinicHours();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<LocalTime> slots;
+        if (date.isBefore(now.toLocalDate())) {
+            ensureVetExists(vetId);
+            slots = Collections.emptyList();
+        } else {
+            VetDayOccupancy occupancy = excludeAppointmentId != null
+                    ? loadOccupancy(vetId, date, excludeAppointmentId)
+                    : getOccupancy(vetId, date);
+            LocalTime notBefore = date.equals(now.toLocalDate()) ? now.toLocalTime() : null;
+            slots = occupancy.freeSlots(hours.opening(), hours.closing(), duration, slotStepMinutes, notBefore);
+        }
+
+        return VetAvailabilityDTO.builder()
+                .vetId(vetId)
+                .date(date)
+                .serviceId(serviceId)
+                .durationMinutes(duration)
+                .openingTime(hours.opening())
+                .closingTime(hours.closing())
+                .availableSlots(slots)
+                .build();
+    }
+
+    public void invalidate(Long vetId, LocalDate date) {
+        if (vetId == null || date == null) {
+            return;
+        }
+        VetDay key = new VetDay(vetId, date);
+        generation.incrementAndGet();
+        occupancyCache.remove(key);
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            occupancyCache.remove(key);
+        });
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        occupancyCache.clear();
+        durationCache.clear();
+        clinicHours = null;
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            occupancyCache.clear();
+            durationCache.clear();
+            clinicHours = null;
+        });
+    }
+
+    private VetDayOccupancy getOccupancy(Long vetId, LocalDate date) {
+        VetDay key = new VetDay(vetId, date);
+        VetDayOccupancy cached = occupancyCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long observedGeneration = generation.get();
+        VetDayOccupancy loaded = loadOccupancy(vetId, date, null);
+        if (generation.get() == observedGeneration) {
+            if (occupancyCache.size() >= cacheSize) {
+                occupancyCache.clear();
+            }
+            occupancyCache.putIfAbsent(key, loaded);
+        }
+        return loaded;
+    }
+
+    private VetDayOccupancy loadOccupancy(Long vetId, LocalDate date, Long excludeAppointmentId) {
+        ensureVetExists(vetId);
+
+        List<AppointmentSlotView> booked = appointmentRepository.findBookedSlots(
+                vetId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        if (booked.isEmpty()) {
+            return VetDayOccupancy.empty();
+        }
+
+        VetDayOccupancy.Builder builder = VetDayOccupancy.builder();
+        for (AppointmentSlotView slot : booked) {
+            if (slot.getId().equals(excludeAppointmentId)) {
+                continue;
+            }
+            long minutes = Duration.between(slot.getAppointmentDate(), slot.getEndDate()).toMinutes();
+            builder.occupy(slot.getAppointmentDate().toLocalTime(), (int) minutes);
+        }
+        return builder.build();
+    }
+
+    private int resolveDuration(Long serviceId) {
+        if (serviceId == null) {
+            return DEFAULT_DURATION_MINUTES;
+        }
+        Integer cached = durationCache.get(serviceId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Integer duration = serviceRepository.findEstimatedDurationMinutesById(serviceId)
+                .orElseGet(() -> {
+                    if (!serviceRepository.existsById(serviceId)) {
+                        throw new EntityNotFoundException("Service not found with id: " + serviceId);
+                    }
+                    return DEFAULT_DURATION_MINUTES;
+                });
+        int effective = duration > 0 ? duration : DEFAULT_DURATION_MINUTES;
+        durationCache.put(serviceId, effective);
+        return effective;
+    }
+
+    private ClinicHours resolveClinicHours() {
+        ClinicHours hours = clinicHours;
+        if (hours == null) {
+            hours = clinicRepository.findFirstByActiveTrue()
+                    .map(this::toClinicHours)
+                    .orElse(new ClinicHours(DEFAULT_OPENING, DEFAULT_CLOSING));
+            clinicHours = hours;
+        }
+        return hours;
+    }
+
+    private ClinicHours toClinicHours(Clinic clinic) {
+        LocalTime opening = clinic.getOpeningTime() != null ? clinic.getOpeningTime() : DEFAULT_OPENING;
+        LocalTime closing = clinic.getClosingTime() != null ? clinic.getClosingTime() : DEFAULT_CLOSING;
+        return new ClinicHours(opening, closing);
+    }
+
+    private void ensureVetExists(Long vetId) {
+        if (!vetRepository.existsById(vetId)) {
+            throw new EntityNotFoundException("Vet not found with id: " + vetId);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private record VetDay(long vetId, LocalDate date) {
+    }
+
+    private record ClinicHours(LocalTime opening, LocalTime closing) {
+    }
+}
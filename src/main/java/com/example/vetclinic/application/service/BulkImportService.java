@@ -0,0 +1,310 @@
+package com.example.vetclinic.application.service;
+
+import com.example.vetclinic.application.dto.appointment.ImportAppointmentDTO;
+import com.example.vetclinic.application.dto.bulk.BulkImportResultDTO;
+import com.example.vetclinic.application.dto.bulk.BulkRow;
+import com.example.vetclinic.application.dto.bulk.BulkRowErrorDTO;
+import com.example.vetclinic.application.dto.owner.CreateOwnerDTO;
+import com.example.vetclinic.application.dto.pet.CreatePetDTO;
+import com.example.vetclinic.domain.model.Appointment;
+import com.example.vetclinic.domain.model.AppointmentStatus;
+import com.example.vetclinic.domain.model.Auditable;
+import com.example.vetclinic.domain.model.Owner;
+import com.example.vetclinic.domain.model.Pet;
+import com.example.vetclinic.domain.model.Vet;
+import com.example.vetclinic.domain.model.VeterinaryService;
+import com.example.vetclinic.infrastructure.persistence.BulkInsertRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports large batches of owners, pets and appointments. Rows are consumed as a stream
+ * and handled in chunks: each chunk is validated, its references are resolved with one
+ * query per referenced table, and the surviving rows are written with a single JDBC batch
+ * in their own transaction. When the database refuses a chunk, its rows are written again
+ * one by one. A failing row never aborts the import; it is reported by its position in the
+ * request instead.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportService {
+
+    private final BulkInsertRepository bulkInsertRepository;
+    private final Validator validator;
+    private final AuditorAware<String> auditorAware;
+    private final PlatformTransactionManager transactionManager;
+    private final DailyCapacityLedger capacityLedger;
+    private final AvailabilityService availabilityService;
+
+    @Value("${app.bulk.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    public BulkImportResultDTO importOwners(Iterator<BulkRow<CreateOwnerDTO>> rows) {
+        return importRows(rows, (chunk, report) -> {
+            List<Owner> owners = new ArrayList<>(chunk.size());
+            for (BulkRow<CreateOwnerDTO> row : chunk) {
+                CreateOwnerDTO dto = row.value();
+                owners.add(Owner.builder()
+                        .firstName(dto.getFirstName())
+                        .lastName(dto.getLastName())
+                        .phone(dto.getPhone())
+                        .email(dto.getEmail())
+                        .build());
+            }
+            return bulkInsertRepository.insertOwners(stamp(owners));
+        });
+    }
+
+    public BulkImportResultDTO importPets(Iterator<BulkRow<CreatePetDTO>> rows) {
+        return importRows(rows, (chunk, report) -> {
+            Set<Long> owners = bulkInsertRepository.findExistingOwnerIds(
+                    distinct(chunk, CreatePetDTO::getOwnerId));
+
+            List<Pet> pets = new ArrayList<>(chunk.size());
+            for (BulkRow<CreatePetDTO> row : chunk) {
+                CreatePetDTO dto = row.value();
+                if (!owners.contains(dto.getOwnerId())) {
+                    report.reject(row, "Owner not found with id: " + dto.getOwnerId());
+                    continue;
+                }
+                pets.add(Pet.builder()
+                        .name(dto.getName())
+                        .species(dto.getSpecies())
+                        .breed(dto.getBreed())
+                        .birthDate(dto.getBirthDate())
+                        .owner(Owner.builder().id(dto.getOwnerId()).build())
+                        .build());
+            }
+            return bulkInsertRepository.insertPets(stamp(pets));
+        });
+    }
+
+    /**
+     * Appointments are imported as historical data: dates may lie in the past and the
+     * overlap and daily-limit checks of regular booking are not applied. The capacity
+     * ledger and availability cache are refreshed once the import finishes.
+     */
+    public BulkImportResultDTO importAppointments(Iterator<BulkRow<ImportAppointmentDTO>> rows) {
+        BulkImportResultDTO result = importRows(rows, (chunk, report) -> {
+            Set<Long> pets = bulkInsertRepository.findExistingPetIds(
+                    distinct(chunk, ImportAppointmentDTO::getPetId));
+            Set<Long> vets = bulkInsertRepository.findExistingVetIds(
+                    distinct(chunk, ImportAppointmentDTO::getVetId));
+            Map<Long, Integer> durations = bulkInsertRepository.findServiceDurations(
+                    distinct(chunk, ImportAppointmentDTO::getServiceId));
+
+            List<Appointment> appointments = new ArrayList<>(chunk.size());
+            for (BulkRow<ImportAppointmentDTO> row : chunk) {
+                ImportAppointmentDTO dto = row.value();
+                List<String> problems = new ArrayList<>();
+                if (!pets.contains(dto.getPetId())) {
+                    problems.add("Pet not found with id: " + dto.getPetId());
+                }
+                if (!vets.contains(dto.getVetId())) {
+                    problems.add("Vet not found with id: " + dto.getVetId());
+                }
+                if (dto.getServiceId() != null && !durations.containsKey(dto.getServiceId())) {
+                    problems.add("Service not found with id: " + dto.getServiceId());
+                }
+                if (!problems.isEmpty()) {
+                    report.reject(row, problems);
+                    continue;
+                }
+
+                Integer duration = dto.getServiceId() != null ? durations.get(dto.getServiceId()) : null;
+                int minutes = duration != null && duration > 0 ? duration : AvailabilityService.DEFAULT_DURATION_MINUTES;
+                appointments.add(Appointment.builder()
+                        .appointmentDate(dto.getAppointmentDate())
+                        .endDate(dto.getAppointmentDate().plusMinutes(minutes))
+                        .status(dto.getStatus() != null ? dto.getStatus() : AppointmentStatus.PENDING)
+                        .notes(dto.getNotes())
+                        .pet(Pet.builder().id(dto.getPetId()).build())
+                        .vet(Vet.builder().id(dto.getVetId()).build())
+                        .service(dto.getServiceId() != null
+                                ? VeterinaryService.builder().id(dto.getServiceId()).build()
+                                : null)
+                        .build());
+            }
+            return bulkInsertRepository.insertAppointments(stamp(appointments));
+        });
+
+        if (result.getImported() > 0) {
+            capacityLedger.reconcile();
+            availabilityService.evictAll();
+        }
+        return result;
+    }
+
+    private <T> BulkImportResultDTO importRows(Iterator<BulkRow<T>> rows, ChunkWriter<T> writer) {
+        ImportReport report = new ImportReport();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        List<BulkRow<T>> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            BulkRow<T> row = rows.next();
+            report.received(row);
+            if (!row.isReadable()) {
+                report.reject(row, row.error());
+                continue;
+            }
+            List<String> violations = validate(row.value());
+            if (!violations.isEmpty()) {
+                report.reject(row, violations);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                writeChunk(chunk, writer, report, transaction);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        writeChunk(chunk, writer, report, transaction);
+        return report.toResult();
+    }
+
+    private <T> void writeChunk(List<BulkRow<T>> chunk, ChunkWriter<T> writer, ImportReport report,
+            TransactionTemplate transaction) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            write(chunk, writer, report, transaction);
+        } catch (DataAccessException | IllegalStateException e) {
+            if (chunk.size() == 1) {
+                report.reject(chunk.get(0), "Rejected by the database: " + causeOf(e));
+                return;
+            }
+            // Retry one row at a time so that only the offending rows are reported
+            log.warn("Bulk import chunk of {} rows starting at row {} was rejected, retrying row by row",
+                    chunk.size(), chunk.get(0).index(), e);
+            for (BulkRow<T> row : chunk) {
+                writeChunk(List.of(row), writer, report, transaction);
+            }
+        }
+    }
+
+    private <T> void write(List<BulkRow<T>> chunk, ChunkWriter<T> writer, ImportReport report,
+            TransactionTemplate transaction) {
+        ImportReport chunkReport = new ImportReport();
+        List<Long> ids = transaction.execute(status -> writer.write(chunk, chunkReport));
+        List<BulkRow<T>> written = chunk.stream()
+                .filter(row -> !chunkReport.isRejected(row.index()))
+                .toList();
+        report.merge(chunkReport);
+        for (int i = 0; i < written.size(); i++) {
+            report.accept(written.get(i), ids.get(i));
+        }
+    }
+
+    private static String causeOf(RuntimeException e) {
+        Throwable cause = e instanceof DataAccessException dataAccess ? dataAccess.getMostSpecificCause() : e;
+        return cause.getMessage();
+    }
+
+    private <T> List<String> validate(T value) {
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        return violations.stream()
+                .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .toList();
+    }
+
+    private <E extends Auditable> List<E> stamp(List<E> entities) {
+        LocalDateTime now = LocalDateTime.now();
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        for (E entity : entities) {
+            entity.setCreatedAt(now);
+            entity.setCreatedBy(auditor);
+        }
+        return entities;
+    }
+
+    private static <T> Set<Long> distinct(List<BulkRow<T>> chunk, Function<T, Long> id) {
+        return chunk.stream()
+                .map(row -> id.apply(row.value()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        /**
+         * Writes the rows of the chunk that it does not reject and returns their generated
+         * ids, in chunk order.
+         */
+        List<Long> write(List<BulkRow<T>> chunk, ImportReport report);
+    }
+
+    private static final class ImportReport {
+
+        private final List<Long> ids = new ArrayList<>();
+        private final Map<Integer, BulkRowErrorDTO> errors = new TreeMap<>();
+        private int received;
+
+        void received(BulkRow<?> row) {
+            received++;
+            while (ids.size() <= row.index()) {
+                ids.add(null);
+            }
+        }
+
+        void accept(BulkRow<?> row, Long id) {
+            ids.set(row.index(), id);
+        }
+
+        void reject(BulkRow<?> row, String message) {
+            reject(row, List.of(message));
+        }
+
+        void reject(BulkRow<?> row, List<String> messages) {
+            errors.computeIfAbsent(row.index(), index -> BulkRowErrorDTO.builder()
+                            .row(index)
+                            .messages(new ArrayList<>())
+                            .build())
+                    .getMessages().addAll(messages);
+        }
+
+        boolean isRejected(int index) {
+            return errors.containsKey(index);
+        }
+
+        void merge(ImportReport other) {
+            other.errors.values().forEach(error -> errors.merge(error.getRow(), error, (mine, theirs) -> {
+                mine.getMessages().addAll(theirs.getMessages());
+                return mine;
+            }));
+        }
+
+        BulkImportResultDTO toResult() {
+            int imported = (int) ids.stream().filter(Objects::nonNull).count();
+            return BulkImportResultDTO.builder()
+                    .received(received)
+                    .imported(imported)
+                    .failed(errors.size())
+                    .ids(ids)
+                    .errors(new ArrayList<>(errors.values()))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.vetclinic.application.service;
+
+import com.example.vetclinic.application.dto.ChangeFeedResponse;
+import com.example.vetclinic.domain.model.Tombstone;
+import com.example.vetclinic.infrastructure.persistence.ChangeFeedRepository;
+import com.example.vetclinic.infrastructure.persistence.TombstoneJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Delta reads for the {@code /changes} endpoints. The returned cursor trails the clock by a
+ * settle window, so a row written by a transaction that commits after the read (with an
+ * earlier {@code updatedAt}) is still picked up on the next request; rows inside the window
+ * are delivered twice. Tombstones older than the retention are purged, and a cursor older
+ * than that gets the full list back with {@code reset} set.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChangeFeed {
+
+    private final TombstoneJpaRepository tombstoneRepository;
+
+    @Value("${app.change-feed.settle-window-ms:30000}")
+    private long settleWindowMs = 30000;
+
+    @Value("${app.change-feed.tombstone-retention-days:30}")
+    private long tombstoneRetentionDays = 30;
+
+    public <E, D> ChangeFeedResponse<D> fetch(LocalDateTime since, Tombstone.EntityType type,
+            ChangeFeedRepository<E> repository, Function<E, D> mapper) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cursor = now.minus(Duration.ofMillis(settleWindowMs));
+        if (since == null || since.isBefore(now.minusDays(tombstoneRetentionDays))) {
+            return ChangeFeedResponse.<D>builder()
+                    .changes(repository.findAll().stream().map(mapper).toList())
+                    .deletedIds(List.of())
+                    .cursor(cursor)
+                    .reset(true)
+                    .build();
+        }
+        return ChangeFeedResponse.<D>builder()
+                .changes(repository.findByUpdatedAtGreaterThanEqual(since).stream().map(mapper).toList())
+                .deletedIds(tombstoneRepository.findDeletedIdsSince(type, since))
+                .cursor(cursor.isAfter(since) ? cursor : since)
+                .reset(false)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${app.change-feed.purge-interval-ms:3600000}",
+            initialDelayString = "${app.change-feed.purge-interval-ms:3600000}")
+    public void purgeTombstones() {
+        int purged = tombstoneRepository.deleteOlderThan(LocalDateTime.now().minusDays(tombstoneRetentionDays));
+        log.debug("Change feed tombstones purged: {}", purged);
+    }
+}
@@ -3,16 +3,21 @@ package com.example.vetclinic.application.service;
 import com.example.vetclinic.application.dto.clinic.ClinicConfigDTO;
 import com.example.vetclinic.application.dto.clinic.ClinicDTO;
 import com.example.vetclinic.application.dto.clinic.ClinicStatsDTO;
+import com.example.vetclinic.config.CacheConfig;
 import com.example.vetclinic.domain.model.AppointmentStatus;
 import com.example.vetclinic.domain.model.Clinic;
 import com.example.vetclinic.infrastructure.mapper.ClinicMapper;
 import com.example.vetclinic.infrastructure.persistence.*;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -20,14 +25,12 @@ public class ClinicService {
 
     private final ClinicJpaRepository clinicRepository;
     private final AppointmentJpaRepository appointmentRepository;
-    private final PetJpaRepository petRepository;
-    private final OwnerJpaRepository ownerRepository;
-    private final VetJpaRepository vetRepository;
-    private final MedicalRecordJpaRepository medicalRecordRepository;
-    private final VeterinaryServiceJpaRepository veterinaryServiceRepository;
     private final ClinicMapper clinicMapper;
+    private final AvailabilityService availabilityService;
+    private final DailyCapacityLedger capacityLedger;
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CLINIC, key = "'active'")
     public ClinicDTO getClinicConfig() {
         Clinic clinic = clinicRepository.findFirstByActiveTrue()
                 .orElseThrow(() -> new EntityNotFoundException("No active clinic configuration found"));
@@ -35,6 +38,7 @@ public class ClinicService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CLINIC, allEntries = true)
     public ClinicDTO updateClinicConfig(ClinicConfigDTO configDTO) {
         Clinic clinic = clinicRepository.findFirstByActiveTrue()
                 .orElseGet(() -> {
@@ -48,38 +52,43 @@ public class ClinicService {
         }
 
         Clinic savedClinic = clinicRepository.save(clinic);
+        availabilityService.evictAll();
+        capacityLedger.updateLimit(savedClinic.getMaxDailyAppointments());
         return clinicMapper.toDTO(savedClinic);
     }
 
     @Transactional(readOnly = true)
     public ClinicStatsDTO getClinicStats() {
-        long totalAppointments = appointmentRepository.count();
-        long pendingAppointments = appointmentRepository.countByStatus(AppointmentStatus.PENDING);
-        long confirmedAppointments = appointmentRepository.countByStatus(AppointmentStatus.CONFIRMED);
-        long completedAppointments = appointmentRepository.countByStatus(AppointmentStatus.COMPLETED);
-        long cancelledAppointments = appointmentRepository.countByStatus(AppointmentStatus.CANCELLED);
+        Map<String, Long> appointmentsByStatus = new LinkedHashMap<>();
+        for (AppointmentStatus status : AppointmentStatus.values()) {
+            appointmentsByStatus.put(status.name(), 0L);
+        }
 
-        long totalPets = petRepository.count();
-        long totalOwners = ownerRepository.count();
-        long totalVets = vetRepository.count();
-        long totalMedicalRecords = medicalRecordRepository.count();
+        long totalAppointments = 0;
+        BigDecimal estimatedRevenue = BigDecimal.ZERO;
+        for (AppointmentStatusStatsView row : appointmentRepository.aggregateByStatus()) {
+            appointmentsByStatus.put(row.getStatus().name(), row.getCount());
+            totalAppointments += row.getCount();
+            // Revenue is estimated from completed appointments only
+            if (row.getStatus() == AppointmentStatus.COMPLETED && row.getRevenue() != null) {
+                estimatedRevenue = row.getRevenue();
+            }
+        }
 
-        // Calculate estimated revenue from completed appointments
-        BigDecimal estimatedRevenue = appointmentRepository.findAll().stream()
-                .filter(appointment -> appointment.getStatus() == AppointmentStatus.COMPLETED)
-                .map(appointment -> appointment.getService().getBaseCost())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        ClinicTotalsView totals = clinicRepository.countTotals();
 
         return ClinicStatsDTO.builder()
                 .totalAppointments(totalAppointments)
-                .pendingAppointments(pendingAppointments)
-                .confirmedAppointments(confirmedAppointments)
-                .completedAppointments(completedAppointments)
-                .cancelledAppointments(cancelledAppointments)
-                .totalPets(totalPets)
-                .totalOwners(totalOwners)
-                .totalVets(totalVets)
-                .totalMedicalRecords(totalMedicalRecords)
+                .pendingAppointments(appointmentsByStatus.get(AppointmentStatus.PENDING.name()))
+                .confirmedAppointments(appointmentsByStatus.get(AppointmentStatus.CONFIRMED.name()))
+                .completedAppointments(appointmentsByStatus.get(AppointmentStatus.COMPLETED.name()))
+                .cancelledAppointments(appointmentsByStatus.get(AppointmentStatus.CANCELLED.name()))
+                .appointmentsByStatus(appointmentsByStatus)
+                .totalPets(totals.getTotalPets())
+                .totalOwners(totals.getTotalOwners())
+                .totalVets(totals.getTotalVets())
+                .totalMedicalRecords(totals.getTotalMedicalRecords())
+                .activeServices(totals.getActiveServices())
                 .estimatedRevenue(estimatedRevenue)
                 .build();
     }
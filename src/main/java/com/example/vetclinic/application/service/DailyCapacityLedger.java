@@ -0,0 +1,154 @@
+package com.example.vetclinic.application.service;
+
+import com.example.vetclinic.domain.exception.ConflictException;
+import com.example.vetclinic.domain.model.Clinic;
+import com.example.vetclinic.infrastructure.persistence.AppointmentJpaRepository;
+import com.example.vetclinic.infrastructure.persistence.ClinicJpaRepository;
+import com.example.vetclinic.infrastructure.persistence.DailyAppointmentCountView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * In-memory count of active (non-cancelled) appointments per day, used to enforce
+ * {@link Clinic#getMaxDailyAppointments()} without querying on every booking.
+ * Each day has its own lock-free counter; reservations made inside a transaction are
+ * undone if it rolls back. The ledger is seeded from the database at startup and
+ * reconciled periodically to correct any drift.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyCapacityLedger {
+
+    static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final AppointmentJpaRepository appointmentRepository;
+    private final ClinicJpaRepository clinicRepository;
+
+    private final Map<LocalDate, DayCounter> days = new ConcurrentHashMap<>();
+    private volatile int dailyLimit = UNLIMITED;
+
+    public void reserve(LocalDate day) {
+        DayCounter counter = days.computeIfAbsent(day, d -> new DayCounter());
+        int limit = dailyLimit;
+        if (!counter.tryAcquire(limit)) {
+            throw new ConflictException("Daily appointment limit of " + limit + " reached for " + day);
+        }
+
+        counter.inFlight.incrementAndGet();
+        onCompletion(committed -> {
+            counter.inFlight.decrementAndGet();
+            if (!committed) {
+                counter.release();
+            }
+        });
+    }
+
+    public void release(LocalDate day) {
+        onCompletion(committed -> {
+            DayCounter counter = days.get(day);
+            if (committed && counter != null) {
+                counter.release();
+            }
+        });
+    }
+
+    public void updateLimit(Integer maxDailyAppointments) {
+        onCompletion(committed -> {
+            if (committed) {
+                dailyLimit = toLimit(maxDailyAppointments);
+            }
+        });
+    }
+
+    public int getBooked(LocalDate day) {
+        DayCounter counter = days.get(day);
+        return counter != null ? counter.booked.get() : 0;
+    }
+
+    public int getDailyLimit() {
+        return dailyLimit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.capacity.reconcile-interval-ms:300000}",
+            initialDelayString = "${app.capacity.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        dailyLimit = clinicRepository.findFirstByActiveTrue()
+                .map(Clinic::getMaxDailyAppointments)
+                .map(DailyCapacityLedger::toLimit)
+                .orElse(UNLIMITED);
+
+        Map<LocalDate, Long> persisted = new HashMap<>();
+        for (DailyAppointmentCountView row : appointmentRepository.countActiveByDaySince(today.atStartOfDay())) {
+            persisted.put(row.getAppointmentDay(), row.getCount());
+        }
+
+        days.keySet().removeIf(day -> day.isBefore(today));
+        persisted.forEach((day, count) -> days.computeIfAbsent(day, d -> new DayCounter()).resetTo(count));
+        days.forEach((day, counter) -> {
+            if (!persisted.containsKey(day)) {
+                counter.resetTo(0);
+            }
+        });
+        log.debug("Daily capacity ledger reconciled: {} days tracked, limit {}", days.size(), dailyLimit);
+    }
+
+    private static int toLimit(Integer maxDailyAppointments) {
+        return maxDailyAppointments != null && maxDailyAppointments > 0 ? maxDailyAppointments : UNLIMITED;
+    }
+
+    private static void onCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private static final class DayCounter {
+
+        private final AtomicInteger booked = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        boolean tryAcquire(int limit) {
+            while (true) {
+                int current = booked.get();
+                if (current >= limit) {
+                    return false;
+                }
+                if (booked.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            booked.updateAndGet(current -> Math.max(0, current - 1));
+        }
+
+        void resetTo(long persisted) {
+            // Reservations still in flight are not visible to the reconcile query yet.
+            booked.set((int) Math.min(UNLIMITED, persisted + inFlight.get()));
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.vetclinic.application.service;
 
+import com.example.vetclinic.application.dto.ChangeFeedResponse;
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
 import com.example.vetclinic.application.dto.medicalrecord.CreateMedicalRecordDTO;
 import com.example.vetclinic.application.dto.medicalrecord.MedicalRecordDTO;
 import com.example.vetclinic.application.dto.medicalrecord.UpdateMedicalRecordDTO;
@@ -7,6 +10,7 @@ import com.example.vetclinic.domain.model.Appointment;
 import com.example.vetclinic.domain.model.MedicalRecord;
 import com.example.vetclinic.domain.model.Pet;
 import com.example.vetclinic.domain.model.Vet;
+import com.example.vetclinic.domain.model.Tombstone;
 import com.example.vetclinic.infrastructure.mapper.MedicalRecordMapper;
 import com.example.vetclinic.infrastructure.persistence.AppointmentJpaRepository;
 import com.example.vetclinic.infrastructure.persistence.MedicalRecordJpaRepository;
@@ -17,8 +21,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -29,12 +35,33 @@ public class MedicalRecordService {
     private final VetJpaRepository vetRepository;
     private final AppointmentJpaRepository appointmentRepository;
     private final MedicalRecordMapper medicalRecordMapper;
+    private final ChangeFeed changeFeed;
 
     @Transactional(readOnly = true)
     public List<MedicalRecordDTO> getAllRecords() {
-        return medicalRecordRepository.findAll().stream()
-                .map(medicalRecordMapper::toDTO)
-                .collect(Collectors.toList());
+        return medicalRecordRepository.findAllDTOs();
+    }
+
+    /**
+     * Passes every record to {@code sink} in id order without building a list; rows are
+     * read through a database cursor and nothing is kept once consumed.
+     */
+    @Transactional(readOnly = true)
+    public void exportRecords(Consumer<MedicalRecordDTO> sink) {
+        try (Stream<MedicalRecordDTO> records = medicalRecordRepository.streamAllDTOs()) {
+            records.forEach(sink);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponse<MedicalRecordDTO> getRecordsPage(PageQuery query) {
+        return PagingSupport.fetch(query, medicalRecordRepository, MedicalRecord::getId, medicalRecordMapper::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse<MedicalRecordDTO> getRecordChanges(LocalDateTime since) {
+        return changeFeed.fetch(since, Tombstone.EntityType.MEDICAL_RECORD, medicalRecordRepository,
+                medicalRecordMapper::toDTO);
     }
 
     @Transactional(readOnly = true)
@@ -49,9 +76,7 @@ public class MedicalRecordService {
         if (!petRepository.existsById(petId)) {
             throw new EntityNotFoundException("Pet not found with id: " + petId);
         }
-        return medicalRecordRepository.findByPetIdOrderByRecordDateDesc(petId).stream()
-                .map(medicalRecordMapper::toDTO)
-                .collect(Collectors.toList());
+        return medicalRecordRepository.findDTOsByPetIdOrderByRecordDateDesc(petId);
     }
 
     @Transactional(readOnly = true)
@@ -59,9 +84,7 @@ public class MedicalRecordService {
         if (!vetRepository.existsById(vetId)) {
             throw new EntityNotFoundException("Vet not found with id: " + vetId);
         }
-        return medicalRecordRepository.findByVetId(vetId).stream()
-                .map(medicalRecordMapper::toDTO)
-                .collect(Collectors.toList());
+        return medicalRecordRepository.findDTOsByVetId(vetId);
     }
 
     @Transactional
@@ -1,9 +1,13 @@
 package com.example.vetclinic.application.service;
 
+import com.example.vetclinic.application.dto.ChangeFeedResponse;
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
 import com.example.vetclinic.application.dto.owner.CreateOwnerDTO;
 import com.example.vetclinic.application.dto.owner.OwnerDTO;
 import com.example.vetclinic.application.dto.owner.UpdateOwnerDTO;
 import com.example.vetclinic.domain.model.Owner;
+import com.example.vetclinic.domain.model.Tombstone;
 import com.example.vetclinic.infrastructure.mapper.OwnerMapper;
 import com.example.vetclinic.infrastructure.persistence.OwnerJpaRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -11,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,6 +25,7 @@ public class OwnerService {
 
     private final OwnerJpaRepository ownerRepository;
     private final OwnerMapper ownerMapper;
+    private final ChangeFeed changeFeed;
 
     @Transactional(readOnly = true)
     public List<OwnerDTO> getAllOwners() {
@@ -28,6 +34,16 @@ public class OwnerService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public PagedResponse<OwnerDTO> getOwnersPage(PageQuery query) {
+        return PagingSupport.fetch(query, ownerRepository, Owner::getId, ownerMapper::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse<OwnerDTO> getOwnerChanges(LocalDateTime since) {
+        return changeFeed.fetch(since, Tombstone.EntityType.OWNER, ownerRepository, ownerMapper::toDTO);
+    }
+
     @Transactional(readOnly = true)
     public OwnerDTO getOwnerById(Long id) {
         Owner owner = ownerRepository.findById(id)
@@ -0,0 +1,57 @@
+package com.example.vetclinic.application.service;
+
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
+import com.example.vetclinic.infrastructure.persistence.KeysetRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.function.Function;
+
+final class PagingSupport {
+
+    private static final Sort BY_ID = Sort.by(Sort.Direction.ASC, "id");
+
+    private PagingSupport() {
+    }
+
+    static <E, D> PagedResponse<D> fetch(PageQuery query, KeysetRepository<E> repository,
+            Function<E, Long> idOf, Function<E, D> mapper) {
+        if (query.isKeyset()) {
+            Slice<E> slice = repository.findByIdGreaterThan(query.getCursor(),
+                    PageRequest.of(0, query.getSize(), BY_ID));
+            Long total = query.isIncludeTotal() ? repository.count() : null;
+            List<E> rows = slice.getContent();
+            Long nextCursor = slice.hasNext() ? idOf.apply(rows.get(rows.size() - 1)) : null;
+            return build(rows.stream().map(mapper).toList(), 0, query, total, query.getCursor() == 0,
+                    !slice.hasNext(), nextCursor);
+        }
+
+        PageRequest pageRequest = PageRequest.of(query.getPage(), query.getSize(), BY_ID);
+        Slice<E> slice = query.isIncludeTotal()
+                ? repository.findAll(pageRequest)
+                : repository.findAllBy(pageRequest);
+        Long total = slice instanceof Page<E> page ? page.getTotalElements() : null;
+        List<E> rows = slice.getContent();
+        Long nextCursor = slice.hasNext() ? idOf.apply(rows.get(rows.size() - 1)) : null;
+        return build(rows.stream().map(mapper).toList(), query.getPage(), query, total, slice.isFirst(),
+                !slice.hasNext(), nextCursor);
+    }
+
+    private static <D> PagedResponse<D> build(List<D> content, int pageNumber, PageQuery query, Long total,
+            boolean first, boolean last, Long nextCursor) {
+        return PagedResponse.<D>builder()
+                .content(content)
+                .pageNumber(pageNumber)
+                .pageSize(query.getSize())
+                .totalElements(total)
+                .totalPages(total != null ? (int) ((total + query.getSize() - 1) / query.getSize()) : null)
+                .first(first)
+                .last(last)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
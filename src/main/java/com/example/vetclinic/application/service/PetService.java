@@ -1,10 +1,14 @@
 package com.example.vetclinic.application.service;
 
+import com.example.vetclinic.application.dto.ChangeFeedResponse;
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
 import com.example.vetclinic.application.dto.pet.CreatePetDTO;
 import com.example.vetclinic.application.dto.pet.PetDTO;
 import com.example.vetclinic.application.dto.pet.UpdatePetDTO;
 import com.example.vetclinic.domain.model.Owner;
 import com.example.vetclinic.domain.model.Pet;
+import com.example.vetclinic.domain.model.Tombstone;
 import com.example.vetclinic.infrastructure.mapper.PetMapper;
 import com.example.vetclinic.infrastructure.persistence.OwnerJpaRepository;
 import com.example.vetclinic.infrastructure.persistence.PetJpaRepository;
@@ -13,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,6 +28,7 @@ public class PetService {
     private final PetJpaRepository petRepository;
     private final OwnerJpaRepository ownerRepository;
     private final PetMapper petMapper;
+    private final ChangeFeed changeFeed;
 
     @Transactional(readOnly = true)
     public List<PetDTO> getAllPets() {
@@ -31,6 +37,16 @@ public class PetService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public PagedResponse<PetDTO> getPetsPage(PageQuery query) {
+        return PagingSupport.fetch(query, petRepository, Pet::getId, petMapper::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse<PetDTO> getPetChanges(LocalDateTime since) {
+        return changeFeed.fetch(since, Tombstone.EntityType.PET, petRepository, petMapper::toDTO);
+    }
+
     @Transactional(readOnly = true)
     public PetDTO getPetById(Long id) {
         Pet pet = petRepository.findById(id)
@@ -3,17 +3,19 @@ package com.example.vetclinic.application.service;
 import com.example.vetclinic.application.dto.specialty.CreateSpecialtyDTO;
 import com.example.vetclinic.application.dto.specialty.SpecialtyDTO;
 import com.example.vetclinic.application.dto.specialty.UpdateSpecialtyDTO;
+import com.example.vetclinic.config.CacheConfig;
 import com.example.vetclinic.domain.exception.BusinessException;
 import com.example.vetclinic.domain.model.Specialty;
 import com.example.vetclinic.infrastructure.mapper.SpecialtyMapper;
 import com.example.vetclinic.infrastructure.persistence.SpecialtyJpaRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,13 +25,15 @@ public class SpecialtyService {
     private final SpecialtyMapper specialtyMapper;
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.SPECIALTIES, key = "'all'")
     public List<SpecialtyDTO> getAllSpecialties() {
         return specialtyRepository.findAll().stream()
                 .map(specialtyMapper::toDTO)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.SPECIALTIES, key = "'id:' + #id")
     public SpecialtyDTO getSpecialtyById(Long id) {
         Specialty specialty = specialtyRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Specialty not found with id: " + id));
@@ -37,6 +41,7 @@ public class SpecialtyService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.SPECIALTIES, allEntries = true)
     public SpecialtyDTO createSpecialty(CreateSpecialtyDTO createDTO) {
         if (specialtyRepository.existsByName(createDTO.getName())) {
             throw new BusinessException("Specialty with name '" + createDTO.getName() + "' already exists");
@@ -48,6 +53,7 @@ public class SpecialtyService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.SPECIALTIES, allEntries = true)
     public SpecialtyDTO updateSpecialty(Long id, UpdateSpecialtyDTO updateDTO) {
         Specialty specialty = specialtyRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Specialty not found with id: " + id));
@@ -64,6 +70,7 @@ public class SpecialtyService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.SPECIALTIES, allEntries = true)
     public void deleteSpecialty(Long id) {
         if (!specialtyRepository.existsById(id)) {
             throw new EntityNotFoundException("Specialty not found with id: " + id);
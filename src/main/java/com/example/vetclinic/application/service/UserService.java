@@ -1,5 +1,7 @@
 package com.example.vetclinic.application.service;
 
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
 import com.example.vetclinic.application.dto.user.UpdateUserDTO;
 import com.example.vetclinic.application.dto.user.UserDTO;
 import com.example.vetclinic.domain.model.User;
@@ -28,6 +30,11 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public PagedResponse<UserDTO> getUsersPage(PageQuery query) {
+        return PagingSupport.fetch(query, userRepo, User::getId, userMapper::toDTO);
+    }
+
     @Transactional(readOnly = true)
     public UserDTO getUserById(Long id) {
         User user = userRepo.findById(id)
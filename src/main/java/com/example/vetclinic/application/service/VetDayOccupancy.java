@@ -0,0 +1,114 @@
+package com.example.vetclinic.application.service;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Occupancy of a single vet on a single day, stored as a bitset of 5-minute cells
+ * (288 cells, five longs). Instances are immutable once built.
+ */
+public final class VetDayOccupancy {
+
+    public static final int CELL_MINUTES = 5;
+    public static final int CELLS_PER_DAY = 24 * 60 / CELL_MINUTES;
+
+    private static final VetDayOccupancy EMPTY = new VetDayOccupancy(new long[(CELLS_PER_DAY + 63) >>> 6]);
+
+    private final long[] words;
+
+    private VetDayOccupancy(long[] words) {
+        this.words = words;
+    }
+
+    public static VetDayOccupancy empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean isFree(LocalTime start, int durationMinutes) {
+        int from = startCell(start.toSecondOfDay() / 60);
+        int to = endCell(start.toSecondOfDay() / 60 + durationMinutes);
+        return to <= CELLS_PER_DAY && isRangeFree(from, to);
+    }
+
+    public List<LocalTime> freeSlots(LocalTime opening, LocalTime closing, int durationMinutes,
+            int stepMinutes, LocalTime notBefore) {
+        List<LocalTime> slots = new ArrayList<>();
+        int open = opening.toSecondOfDay() / 60;
+        int close = closing.toSecondOfDay() / 60;
+        int earliest = notBefore != null ? notBefore.toSecondOfDay() / 60 : 0;
+
+        for (int minute = open; minute + durationMinutes <= close; minute += stepMinutes) {
+            if (minute < earliest) {
+                continue;
+            }
+            if (isRangeFree(startCell(minute), endCell(minute + durationMinutes))) {
+                slots.add(LocalTime.of(minute / 60, minute % 60));
+            }
+        }
+        return slots;
+    }
+
+    private boolean isRangeFree(int from, int to) {
+        if (from >= to) {
+            return true;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        for (int w = firstWord; w <= lastWord; w++) {
+            if ((words[w] & mask(w, firstWord, lastWord, from, to)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long mask(int w, int firstWord, int lastWord, int from, int to) {
+        long mask = -1L;
+        if (w == firstWord) {
+            mask &= -1L << (from & 63);
+        }
+        if (w == lastWord) {
+            mask &= -1L >>> (63 - ((to - 1) & 63));
+        }
+        return mask;
+    }
+
+    private static int startCell(int minuteOfDay) {
+        return Math.max(0, minuteOfDay / CELL_MINUTES);
+    }
+
+    private static int endCell(int minuteOfDay) {
+        return (minuteOfDay + CELL_MINUTES - 1) / CELL_MINUTES;
+    }
+
+    public static final class Builder {
+
+        private final long[] words = new long[(CELLS_PER_DAY + 63) >>> 6];
+
+        private Builder() {
+        }
+
+        public Builder occupy(LocalTime start, int durationMinutes) {
+            int from = startCell(start.toSecondOfDay() / 60);
+            int to = Math.min(CELLS_PER_DAY, endCell(start.toSecondOfDay() / 60 + durationMinutes));
+            if (from >= to) {
+                return this;
+            }
+            int firstWord = from >>> 6;
+            int lastWord = (to - 1) >>> 6;
+            for (int w = firstWord; w <= lastWord; w++) {
+                words[w] |= mask(w, firstWord, lastWord, from, to);
+            }
+            return this;
+        }
+
+        public VetDayOccupancy build() {
+            return new VetDayOccupancy(words.clone());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.vetclinic.application.service;
 
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
 import com.example.vetclinic.application.dto.vet.CreateVetDTO;
 import com.example.vetclinic.application.dto.vet.UpdateVetDTO;
 import com.example.vetclinic.application.dto.vet.VetDTO;
@@ -33,6 +35,11 @@ public class VetService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public PagedResponse<VetDTO> getVetsPage(PageQuery query) {
+        return PagingSupport.fetch(query, vetRepository, Vet::getId, vetMapper::toDTO);
+    }
+
     @Transactional(readOnly = true)
     public VetDTO getVetById(Long id) {
         Vet vet = vetRepository.findById(id)
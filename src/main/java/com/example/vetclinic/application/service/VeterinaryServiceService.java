@@ -3,17 +3,19 @@ package com.example.vetclinic.application.service;
 import com.example.vetclinic.application.dto.service.CreateVeterinaryServiceDTO;
 import com.example.vetclinic.application.dto.service.UpdateVeterinaryServiceDTO;
 import com.example.vetclinic.application.dto.service.VeterinaryServiceDTO;
+import com.example.vetclinic.config.CacheConfig;
 import com.example.vetclinic.domain.model.ServiceType;
 import com.example.vetclinic.domain.model.VeterinaryService;
 import com.example.vetclinic.infrastructure.mapper.VeterinaryServiceMapper;
 import com.example.vetclinic.infrastructure.persistence.VeterinaryServiceJpaRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,15 +23,18 @@ public class VeterinaryServiceService {
 
     private final VeterinaryServiceJpaRepository serviceRepository;
     private final VeterinaryServiceMapper serviceMapper;
+    private final AvailabilityService availabilityService;
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.SERVICES, key = "'active'")
     public List<VeterinaryServiceDTO> getAllServices() {
         return serviceRepository.findByActiveTrue().stream()
                 .map(serviceMapper::toDTO)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.SERVICES, key = "'id:' + #id")
     public VeterinaryServiceDTO getServiceById(Long id) {
         VeterinaryService service = serviceRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Service not found with id: " + id));
@@ -37,13 +42,15 @@ public class VeterinaryServiceService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.SERVICES, key = "'type:' + #serviceType")
     public List<VeterinaryServiceDTO> getServicesByType(ServiceType serviceType) {
         return serviceRepository.findByServiceType(serviceType).stream()
                 .map(serviceMapper::toDTO)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.SERVICES, allEntries = true)
     public VeterinaryServiceDTO createService(CreateVeterinaryServiceDTO createDTO) {
         VeterinaryService service = serviceMapper.toEntity(createDTO);
         VeterinaryService savedService = serviceRepository.save(service);
@@ -51,16 +58,19 @@ public class VeterinaryServiceService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.SERVICES, allEntries = true)
     public VeterinaryServiceDTO updateService(Long id, UpdateVeterinaryServiceDTO updateDTO) {
         VeterinaryService service = serviceRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Service not found with id: " + id));
 
         serviceMapper.updateEntityFromDTO(updateDTO, service);
         VeterinaryService updatedService = serviceRepository.save(service);
+        availabilityService.evictAll();
         return serviceMapper.toDTO(updatedService);
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.SERVICES, allEntries = true)
     public void deleteService(Long id) {
         VeterinaryService service = serviceRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Service not found with id: " + id));
@@ -0,0 +1,34 @@
+package com.example.vetclinic.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-process caches for reference data that changes rarely. Puts and evictions made inside
+ * a transaction are applied only after it commits, so a concurrent reader cannot re-cache
+ * the old value between the eviction and the commit. Hit and miss counts are published as
+ * the {@code cache.gets} metric.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String SERVICES = "services";
+    public static final String SPECIALTIES = "specialties";
+    public static final String CLINIC = "clinic";
+    public static final String ROLES = "roles";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.spec:maximumSize=1000,expireAfterWrite=10m,recordStats}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(SERVICES, SPECIALTIES, CLINIC, ROLES);
+        cacheManager.setCacheSpecification(spec);
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
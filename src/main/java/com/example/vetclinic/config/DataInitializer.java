@@ -58,10 +58,19 @@ public class DataInitializer implements CommandLineRunner {
             userRepository.save(user);
             log.info("User created: {} / {}", username, password);
         } else {
-            // Update password if it was created with wrong password from data.sql
-            user.setPassword(passwordEncoder.encode(password));
+            boolean changed = false;
+            // Only re-encode when the stored hash does not match (e.g. wrong password from data.sql)
+            if (user.getPassword() == null || !passwordEncoder.matches(password, user.getPassword())) {
+                user.setPassword(passwordEncoder.encode(password));
+                changed = true;
+            }
             if (user.getRoles().isEmpty() || !user.getRoles().containsAll(roles)) {
                 user.setRoles(roles);
+                changed = true;
+            }
+            if (!changed) {
+                log.debug("User up to date: {}", username);
+                return;
             }
             userRepository.save(user);
             log.info("User updated: {} / {}", username, password);
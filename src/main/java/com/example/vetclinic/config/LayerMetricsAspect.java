@@ -0,0 +1,68 @@
+package com.example.vetclinic.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the application services ({@code application.service.invocations})
+ * and of the hand-written repositories. Spring Data repositories are already timed by Boot as
+ * {@code spring.data.repository.invocations}; the JDBC repositories are recorded under the same
+ * name and tags so both show up together. Other persistence helpers (locks, listeners) are not
+ * repositories and are left out.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LayerMetricsAspect {
+
+    static final String SERVICE_METRIC = "application.service.invocations";
+    static final String REPOSITORY_METRIC = "spring.data.repository.invocations";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(com.example.vetclinic.application.service..*) && execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = MetricsConfig.NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(SERVICE_METRIC)
+                    .description("Duration of application service method calls")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Around("within(com.example.vetclinic.infrastructure.persistence..*)"
+            + " && @within(org.springframework.stereotype.Repository)"
+            + " && execution(public * *(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = MetricsConfig.NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            // Same tag keys as Spring Data's DefaultRepositoryTagsProvider
+            sample.stop(Timer.builder(REPOSITORY_METRIC)
+                    .tag("repository", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("state", MetricsConfig.NO_EXCEPTION.equals(exception) ? "SUCCESS" : "ERROR")
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
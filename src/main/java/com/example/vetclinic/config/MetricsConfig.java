@@ -0,0 +1,29 @@
+package com.example.vetclinic.config;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.metrics.data.DefaultRepositoryTagsProvider;
+import org.springframework.boot.actuate.metrics.data.RepositoryTagsProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Data tags successful repository calls with {@code exception="None"} while the HTTP and
+ * service timers use {@code "none"}; the repository timers are aligned so every layer can be
+ * filtered the same way.
+ */
+@Configuration
+public class MetricsConfig {
+
+    static final String NO_EXCEPTION = "none";
+
+    @Bean
+    public RepositoryTagsProvider repositoryTagsProvider() {
+        DefaultRepositoryTagsProvider defaults = new DefaultRepositoryTagsProvider();
+        return invocation -> Tags.of(Tags.of(defaults.repositoryTags(invocation)).stream()
+                .map(tag -> "exception".equals(tag.getKey()) && "None".equals(tag.getValue())
+                        ? Tag.of("exception", NO_EXCEPTION)
+                        : tag)
+                .toList());
+    }
+}
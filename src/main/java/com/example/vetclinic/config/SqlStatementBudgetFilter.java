@@ -0,0 +1,81 @@
+package com.example.vetclinic.config;
+
+import com.example.vetclinic.infrastructure.persistence.SqlStatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements issued while handling each request and records them as
+ * {@code sql.statements.per.request}. A request over {@code app.sql.statement-budget} is
+ * logged with its endpoint and most repeated statement, the usual signature of an N+1,
+ * and counted in {@code sql.statement.budget.exceeded}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final int MAX_STATEMENT_TAG_LENGTH = 120;
+
+    private final SqlStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.sql.statement-budget:10}")
+    private int statementBudget = 10;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (SqlStatementCounter.Recording recording = statementCounter.start()) {
+            filterChain.doFilter(request, response);
+            report(request, recording);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementCounter.Recording recording) {
+        int count = recording.count();
+        if (count == 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("sql.statements.per.request")
+                .description("SQL statements issued per HTTP request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count);
+
+        if (statementBudget > 0 && count > statementBudget) {
+            Map.Entry<String, Integer> repeated = recording.mostRepeated();
+            log.warn("SQL statement budget exceeded: {} {} issued {} statements (budget {}); most repeated x{}: {}",
+                    request.getMethod(), uri, count, statementBudget, repeated.getValue(), repeated.getKey());
+            Counter.builder("sql.statement.budget.exceeded")
+                    .description("Requests that issued more SQL statements than the configured budget")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .tag("statement", abbreviate(repeated.getKey()))
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_STATEMENT_TAG_LENGTH ? sql : sql.substring(0, MAX_STATEMENT_TAG_LENGTH) + "...";
+    }
+}
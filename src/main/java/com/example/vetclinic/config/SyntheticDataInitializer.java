@@ -0,0 +1,59 @@
+package com.example.vetclinic.config;
+
+import com.example.vetclinic.infrastructure.synthetic.SyntheticDataLoader;
+import com.example.vetclinic.infrastructure.synthetic.SyntheticDataSpec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads a synthetic dataset at startup when {@code app.synthetic-data.enabled=true}. Every
+ * start appends a new dataset, so point it at a fresh database.
+ */
+@Component
+@ConditionalOnProperty(name = "app.synthetic-data.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class SyntheticDataInitializer implements CommandLineRunner {
+
+    private final SyntheticDataLoader loader;
+
+    @Value("${app.synthetic-data.seed:42}")
+    private long seed = 42;
+
+    @Value("${app.synthetic-data.owners:1000}")
+    private int owners = 1000;
+
+    @Value("${app.synthetic-data.vets:10}")
+    private int vets = 10;
+
+    @Value("${app.synthetic-data.history-days:365}")
+    private int historyDays = 365;
+
+    @Value("${app.synthetic-data.future-days:30}")
+    private int futureDays = 30;
+
+    @Value("${app.synthetic-data.appointments-per-vet-per-day:9.0}")
+    private double appointmentsPerVetPerDay = 9.0;
+
+    @Value("${app.synthetic-data.threads:4}")
+    private int threads = 4;
+
+    @Value("${app.synthetic-data.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Override
+    public void run(String... args) {
+        loader.load(SyntheticDataSpec.builder()
+                .seed(seed)
+                .owners(owners)
+                .vets(vets)
+                .historyDays(historyDays)
+                .futureDays(futureDays)
+                .appointmentsPerVetPerDay(appointmentsPerVetPerDay)
+                .threads(threads)
+                .batchSize(batchSize)
+                .build());
+    }
+}
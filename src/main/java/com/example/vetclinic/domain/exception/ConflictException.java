@@ -0,0 +1,7 @@
+package com.example.vetclinic.domain.exception;
+
+public class ConflictException extends BusinessException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
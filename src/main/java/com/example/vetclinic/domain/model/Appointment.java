@@ -7,12 +7,16 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "appointments")
+@NamedEntityGraph(name = Appointment.SUMMARY_GRAPH, attributeNodes = {
+        @NamedAttributeNode("pet"), @NamedAttributeNode("vet"), @NamedAttributeNode("service")})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Appointment extends Auditable {
+    public static final String SUMMARY_GRAPH = "Appointment.summary";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -20,6 +24,9 @@ public class Appointment extends Auditable {
     @Column(nullable = false)
     private LocalDateTime appointmentDate;
 
+    @Column(name = "end_date", nullable = false)
+    private LocalDateTime endDate;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private AppointmentStatus status;
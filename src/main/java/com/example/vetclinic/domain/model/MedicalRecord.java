@@ -8,12 +8,15 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "medical_records")
+@NamedEntityGraph(name = MedicalRecord.SUMMARY_GRAPH, attributeNodes = {@NamedAttributeNode("pet"), @NamedAttributeNode("vet")})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class MedicalRecord extends Auditable {
+    public static final String SUMMARY_GRAPH = "MedicalRecord.summary";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
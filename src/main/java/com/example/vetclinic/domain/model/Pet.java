@@ -7,12 +7,15 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "pets")
+@NamedEntityGraph(name = Pet.SUMMARY_GRAPH, attributeNodes = {@NamedAttributeNode("owner")})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Pet extends Auditable {
+    public static final String SUMMARY_GRAPH = "Pet.summary";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
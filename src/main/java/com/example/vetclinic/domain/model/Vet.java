@@ -8,12 +8,15 @@ import java.util.Set;
 
 @Entity
 @Table(name = "vets")
+@NamedEntityGraph(name = Vet.SPECIALTIES_GRAPH, attributeNodes = @NamedAttributeNode("specialties"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Vet {
+    public static final String SPECIALTIES_GRAPH = "Vet.specialties";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
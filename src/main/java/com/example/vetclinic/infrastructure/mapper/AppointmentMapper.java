@@ -22,6 +22,7 @@ public interface AppointmentMapper {
     AppointmentDTO toDTO(Appointment appointment);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "endDate", ignore = true)
     @Mapping(target = "status", constant = "PENDING")
     @Mapping(target = "pet", ignore = true)
     @Mapping(target = "vet", ignore = true)
@@ -30,6 +31,7 @@ public interface AppointmentMapper {
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "endDate", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "pet", ignore = true)
     @Mapping(target = "vet", ignore = true)
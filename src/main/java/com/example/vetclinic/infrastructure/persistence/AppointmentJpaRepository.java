@@ -1,19 +1,109 @@
 package com.example.vetclinic.infrastructure.persistence;
 
+import com.example.vetclinic.application.dto.appointment.AppointmentDTO;
 import com.example.vetclinic.domain.model.Appointment;
 import com.example.vetclinic.domain.model.AppointmentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface AppointmentJpaRepository extends JpaRepository<Appointment, Long> {
+public interface AppointmentJpaRepository extends JpaRepository<Appointment, Long>, KeysetRepository<Appointment>,
+        ChangeFeedRepository<Appointment> {
+    String DTO_SELECT = "SELECT new com.example.vetclinic.application.dto.appointment.AppointmentDTO(" +
+            "a.id, a.appointmentDate, a.endDate, a.status, a.notes, p.id, p.name, " +
+            "v.id, CONCAT(v.firstName, ' ', v.lastName), s.id, s.name) " +
+            "FROM Appointment a JOIN a.pet p JOIN a.vet v LEFT JOIN a.service s ";
+    String EXPORT_FETCH_SIZE = "500";
+
+    @Override
+    @EntityGraph(Appointment.SUMMARY_GRAPH)
+    List<Appointment> findAll();
+
+    @Override
+    @EntityGraph(Appointment.SUMMARY_GRAPH)
+    Optional<Appointment> findById(Long id);
+
+    @Override
+    @EntityGraph(Appointment.SUMMARY_GRAPH)
+    Page<Appointment> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(Appointment.SUMMARY_GRAPH)
+    Slice<Appointment> findAllBy(Pageable pageable);
+
+    @Override
+    @EntityGraph(Appointment.SUMMARY_GRAPH)
+    Slice<Appointment> findByIdGreaterThan(Long id, Pageable pageable);
+
+    @Override
+    @EntityGraph(Appointment.SUMMARY_GRAPH)
+    List<Appointment> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    @EntityGraph(Appointment.SUMMARY_GRAPH)
     List<Appointment> findByPetId(Long petId);
 
+    @EntityGraph(Appointment.SUMMARY_GRAPH)
     List<Appointment> findByVetId(Long vetId);
 
+    @Query(DTO_SELECT + "ORDER BY a.id")
+    List<AppointmentDTO> findAllDTOs();
+
+    @Query(DTO_SELECT + "ORDER BY a.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<AppointmentDTO> streamAllDTOs();
+
+    @Query(DTO_SELECT + "WHERE p.id = :petId ORDER BY a.id")
+    List<AppointmentDTO> findDTOsByPetId(@Param("petId") Long petId);
+
+    @Query(DTO_SELECT + "WHERE v.id = :vetId ORDER BY a.id")
+    List<AppointmentDTO> findDTOsByVetId(@Param("vetId") Long vetId);
+
     long countByStatus(AppointmentStatus status);
 
+    @EntityGraph(Appointment.SUMMARY_GRAPH)
     List<Appointment> findByStatus(AppointmentStatus status);
+
+    @Query("SELECT a.id AS id, a.appointmentDate AS appointmentDate, a.endDate AS endDate " +
+            "FROM Appointment a " +
+            "WHERE a.vet.id = :vetId AND a.appointmentDate >= :from AND a.appointmentDate < :to " +
+            "AND a.status <> com.example.vetclinic.domain.model.AppointmentStatus.CANCELLED")
+    List<AppointmentSlotView> findBookedSlots(@Param("vetId") Long vetId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    @Query("SELECT COUNT(a) > 0 FROM Appointment a " +
+            "WHERE a.vet.id = :vetId AND a.appointmentDate < :end AND a.endDate > :start " +
+            "AND a.status <> com.example.vetclinic.domain.model.AppointmentStatus.CANCELLED " +
+            "AND (:excludeId IS NULL OR a.id <> :excludeId)")
+    boolean existsOverlapping(@Param("vetId") Long vetId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("excludeId") Long excludeId);
+
+    @Query("SELECT CAST(a.appointmentDate AS LocalDate) AS appointmentDay, COUNT(a) AS count " +
+            "FROM Appointment a " +
+            "WHERE a.appointmentDate >= :from " +
+            "AND a.status <> com.example.vetclinic.domain.model.AppointmentStatus.CANCELLED " +
+            "GROUP BY CAST(a.appointmentDate AS LocalDate)")
+    List<DailyAppointmentCountView> countActiveByDaySince(@Param("from") LocalDateTime from);
+
+    @Query("SELECT a.status AS status, COUNT(a) AS count, SUM(s.baseCost) AS revenue " +
+            "FROM Appointment a LEFT JOIN a.service s GROUP BY a.status")
+    List<AppointmentStatusStatsView> aggregateByStatus();
 }
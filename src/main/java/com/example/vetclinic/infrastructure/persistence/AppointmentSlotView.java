@@ -0,0 +1,11 @@
+package com.example.vetclinic.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+
+public interface AppointmentSlotView {
+    Long getId();
+
+    LocalDateTime getAppointmentDate();
+
+    LocalDateTime getEndDate();
+}
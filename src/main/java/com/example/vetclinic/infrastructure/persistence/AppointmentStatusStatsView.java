@@ -0,0 +1,13 @@
+package com.example.vetclinic.infrastructure.persistence;
+
+import com.example.vetclinic.domain.model.AppointmentStatus;
+
+import java.math.BigDecimal;
+
+public interface AppointmentStatusStatsView {
+    AppointmentStatus getStatus();
+
+    Long getCount();
+
+    BigDecimal getRevenue();
+}
@@ -0,0 +1,157 @@
+package com.example.vetclinic.infrastructure.persistence;
+
+import com.example.vetclinic.domain.model.Appointment;
+import com.example.vetclinic.domain.model.Owner;
+import com.example.vetclinic.domain.model.Pet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JDBC batch writer used by bulk imports. Rows are sent as one batch per call and the
+ * generated ids come back in insertion order. Auditing columns are written from the
+ * entities as given, since JPA listeners do not run on this path.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkInsertRepository {
+
+    private static final String INSERT_OWNER = "INSERT INTO owners "
+            + "(first_name, last_name, phone, email, created_at, created_by) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PET = "INSERT INTO pets "
+            + "(name, species, breed, birth_date, owner_id, created_at, created_by) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_APPOINTMENT = "INSERT INTO appointments "
+            + "(appointment_date, end_date, status, notes, pet_id, vet_id, service_id, created_at, created_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public Set<Long> findExistingOwnerIds(Collection<Long> ids) {
+        return findExistingIds("SELECT id FROM owners WHERE id IN (:ids)", ids);
+    }
+
+    public Set<Long> findExistingPetIds(Collection<Long> ids) {
+        return findExistingIds("SELECT id FROM pets WHERE id IN (:ids)", ids);
+    }
+
+    public Set<Long> findExistingVetIds(Collection<Long> ids) {
+        return findExistingIds("SELECT id FROM vets WHERE id IN (:ids)", ids);
+    }
+
+    /**
+     * Estimated duration per existing service id; services without a duration map to null.
+     */
+    public Map<Long, Integer> findServiceDurations(Collection<Long> ids) {
+        Map<Long, Integer> durations = new HashMap<>();
+        if (ids.isEmpty()) {
+            return durations;
+        }
+        namedJdbcTemplate.query(
+                "SELECT id, estimated_duration_minutes FROM veterinary_services WHERE id IN (:ids)",
+                Map.of("ids", ids),
+                rs -> {
+                    int minutes = rs.getInt(2);
+                    durations.put(rs.getLong(1), rs.wasNull() ? null : minutes);
+                });
+        return durations;
+    }
+
+    public List<Long> insertOwners(List<Owner> owners) {
+        return batchInsert(INSERT_OWNER, owners, (ps, owner) -> {
+            ps.setString(1, owner.getFirstName());
+            ps.setString(2, owner.getLastName());
+            ps.setString(3, owner.getPhone());
+            ps.setString(4, owner.getEmail());
+            ps.setTimestamp(5, Timestamp.valueOf(owner.getCreatedAt()));
+            ps.setString(6, owner.getCreatedBy());
+        });
+    }
+
+    public List<Long> insertPets(List<Pet> pets) {
+        return batchInsert(INSERT_PET, pets, (ps, pet) -> {
+            ps.setString(1, pet.getName());
+            ps.setString(2, pet.getSpecies());
+            ps.setString(3, pet.getBreed());
+            ps.setDate(4, pet.getBirthDate() != null ? Date.valueOf(pet.getBirthDate()) : null);
+            ps.setLong(5, pet.getOwner().getId());
+            ps.setTimestamp(6, Timestamp.valueOf(pet.getCreatedAt()));
+            ps.setString(7, pet.getCreatedBy());
+        });
+    }
+
+    public List<Long> insertAppointments(List<Appointment> appointments) {
+        return batchInsert(INSERT_APPOINTMENT, appointments, (ps, appointment) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(appointment.getAppointmentDate()));
+            ps.setTimestamp(2, Timestamp.valueOf(appointment.getEndDate()));
+            ps.setString(3, appointment.getStatus().name());
+            ps.setString(4, appointment.getNotes());
+            ps.setLong(5, appointment.getPet().getId());
+            ps.setLong(6, appointment.getVet().getId());
+            if (appointment.getService() != null) {
+                ps.setLong(7, appointment.getService().getId());
+            } else {
+                ps.setNull(7, Types.BIGINT);
+            }
+            ps.setTimestamp(8, Timestamp.valueOf(appointment.getCreatedAt()));
+            ps.setString(9, appointment.getCreatedBy());
+        });
+    }
+
+    private Set<Long> findExistingIds(String sql, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(namedJdbcTemplate.queryForList(sql, Map.of("ids", ids), Long.class));
+    }
+
+    private <T> List<Long> batchInsert(String sql, List<T> rows, RowBinder<T> binder) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"})) {
+                for (T row : rows) {
+                    binder.bind(ps, row);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(rows.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != rows.size()) {
+                    throw new IllegalStateException(
+                            "Expected " + rows.size() + " generated keys but got " + ids.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.vetclinic.infrastructure.persistence;
+
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reads for the change feed: every row, or the rows whose {@code updatedAt} is at or after
+ * the cursor (indexed).
+ */
+@NoRepositoryBean
+public interface ChangeFeedRepository<T> extends Repository<T, Long> {
+    List<T> findAll();
+
+    List<T> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+}
@@ -2,6 +2,7 @@ package com.example.vetclinic.infrastructure.persistence;
 
 import com.example.vetclinic.domain.model.Clinic;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,4 +10,12 @@ import java.util.Optional;
 @Repository
 public interface ClinicJpaRepository extends JpaRepository<Clinic, Long> {
     Optional<Clinic> findFirstByActiveTrue();
+
+    @Query(value = "SELECT (SELECT COUNT(*) FROM pets) AS \"totalPets\", " +
+            "(SELECT COUNT(*) FROM owners) AS \"totalOwners\", " +
+            "(SELECT COUNT(*) FROM vets) AS \"totalVets\", " +
+            "(SELECT COUNT(*) FROM medical_records) AS \"totalMedicalRecords\", " +
+            "(SELECT COUNT(*) FROM veterinary_services WHERE active = TRUE) AS \"activeServices\"",
+            nativeQuery = true)
+    ClinicTotalsView countTotals();
 }
@@ -0,0 +1,13 @@
+package com.example.vetclinic.infrastructure.persistence;
+
+public interface ClinicTotalsView {
+    Long getTotalPets();
+
+    Long getTotalOwners();
+
+    Long getTotalVets();
+
+    Long getTotalMedicalRecords();
+
+    Long getActiveServices();
+}
@@ -0,0 +1,9 @@
+package com.example.vetclinic.infrastructure.persistence;
+
+import java.time.LocalDate;
+
+public interface DailyAppointmentCountView {
+    LocalDate getAppointmentDay();
+
+    Long getCount();
+}
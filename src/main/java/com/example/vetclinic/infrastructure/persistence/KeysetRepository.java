@@ -0,0 +1,18 @@
+package com.example.vetclinic.infrastructure.persistence;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+@NoRepositoryBean
+public interface KeysetRepository<T> extends Repository<T, Long> {
+    Slice<T> findByIdGreaterThan(Long id, Pageable pageable);
+
+    Slice<T> findAllBy(Pageable pageable);
+
+    Page<T> findAll(Pageable pageable);
+
+    long count();
+}
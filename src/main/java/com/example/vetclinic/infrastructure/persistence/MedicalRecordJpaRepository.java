@@ -1,16 +1,73 @@
 package com.example.vetclinic.infrastructure.persistence;
 
+import com.example.vetclinic.application.dto.medicalrecord.MedicalRecordDTO;
 import com.example.vetclinic.domain.model.MedicalRecord;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface MedicalRecordJpaRepository extends JpaRepository<MedicalRecord, Long> {
+public interface MedicalRecordJpaRepository extends JpaRepository<MedicalRecord, Long>, KeysetRepository<MedicalRecord>,
+        ChangeFeedRepository<MedicalRecord> {
+    String DTO_SELECT = "SELECT new com.example.vetclinic.application.dto.medicalrecord.MedicalRecordDTO(" +
+            "r.id, r.recordDate, r.diagnosis, r.treatment, r.notes, r.weight, r.temperature, " +
+            "r.vaccineAdministered, p.id, p.name, v.id, CONCAT(v.firstName, ' ', v.lastName), r.appointment.id) " +
+            "FROM MedicalRecord r JOIN r.pet p JOIN r.vet v ";
+    String EXPORT_FETCH_SIZE = "500";
+
+    @Override
+    @EntityGraph(MedicalRecord.SUMMARY_GRAPH)
+    List<MedicalRecord> findAll();
+
+    @Override
+    @EntityGraph(MedicalRecord.SUMMARY_GRAPH)
+    Page<MedicalRecord> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(MedicalRecord.SUMMARY_GRAPH)
+    Slice<MedicalRecord> findAllBy(Pageable pageable);
+
+    @Override
+    @EntityGraph(MedicalRecord.SUMMARY_GRAPH)
+    Slice<MedicalRecord> findByIdGreaterThan(Long id, Pageable pageable);
+
+    @Override
+    @EntityGraph(MedicalRecord.SUMMARY_GRAPH)
+    List<MedicalRecord> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    @EntityGraph(MedicalRecord.SUMMARY_GRAPH)
     List<MedicalRecord> findByPetId(Long petId);
 
+    @EntityGraph(MedicalRecord.SUMMARY_GRAPH)
     List<MedicalRecord> findByVetId(Long vetId);
 
+    @EntityGraph(MedicalRecord.SUMMARY_GRAPH)
     List<MedicalRecord> findByPetIdOrderByRecordDateDesc(Long petId);
+
+    @Query(DTO_SELECT + "ORDER BY r.id")
+    List<MedicalRecordDTO> findAllDTOs();
+
+    @Query(DTO_SELECT + "ORDER BY r.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<MedicalRecordDTO> streamAllDTOs();
+
+    @Query(DTO_SELECT + "WHERE p.id = :petId ORDER BY r.recordDate DESC")
+    List<MedicalRecordDTO> findDTOsByPetIdOrderByRecordDateDesc(@Param("petId") Long petId);
+
+    @Query(DTO_SELECT + "WHERE v.id = :vetId ORDER BY r.id")
+    List<MedicalRecordDTO> findDTOsByVetId(@Param("vetId") Long vetId);
 }
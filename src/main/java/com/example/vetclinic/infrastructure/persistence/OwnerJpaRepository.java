@@ -5,5 +5,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface OwnerJpaRepository extends JpaRepository<Owner, Long> {
+public interface OwnerJpaRepository extends JpaRepository<Owner, Long>, KeysetRepository<Owner>,
+        ChangeFeedRepository<Owner> {
 }
@@ -1,12 +1,39 @@
 package com.example.vetclinic.infrastructure.persistence;
 
 import com.example.vetclinic.domain.model.Pet;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface PetJpaRepository extends JpaRepository<Pet, Long> {
+public interface PetJpaRepository extends JpaRepository<Pet, Long>, KeysetRepository<Pet>,
+        ChangeFeedRepository<Pet> {
+    @Override
+    @EntityGraph(Pet.SUMMARY_GRAPH)
+    List<Pet> findAll();
+
+    @Override
+    @EntityGraph(Pet.SUMMARY_GRAPH)
+    Page<Pet> findAll(Pageable pageable);
+
+    @Override
+    @EntityGraph(Pet.SUMMARY_GRAPH)
+    Slice<Pet> findAllBy(Pageable pageable);
+
+    @Override
+    @EntityGraph(Pet.SUMMARY_GRAPH)
+    Slice<Pet> findByIdGreaterThan(Long id, Pageable pageable);
+
+    @Override
+    @EntityGraph(Pet.SUMMARY_GRAPH)
+    List<Pet> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    @EntityGraph(Pet.SUMMARY_GRAPH)
     List<Pet> findByOwnerId(Long ownerId);
 }
@@ -1,7 +1,11 @@
 package com.example.vetclinic.infrastructure.persistence;
 
+import com.example.vetclinic.config.CacheConfig;
 import com.example.vetclinic.domain.model.Role;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,4 +13,9 @@ import java.util.Optional;
 @Repository
 public interface RoleJpaRepository extends JpaRepository<Role, Long> {
     Optional<Role> findByName(String name);
+
+    // Only the id is cached: entities are bound to the session that loaded them
+    @Cacheable(cacheNames = CacheConfig.ROLES, unless = "#result == null")
+    @Query("SELECT r.id FROM Role r WHERE r.name = :name")
+    Optional<Long> findIdByName(@Param("name") String name);
 }
@@ -0,0 +1,24 @@
+package com.example.vetclinic.infrastructure.persistence;
+
+import com.example.vetclinic.domain.model.Tombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TombstoneJpaRepository extends JpaRepository<Tombstone, Long> {
+
+    @Query("SELECT DISTINCT t.entityId FROM Tombstone t WHERE t.entityType = :type AND t.deletedAt >= :since")
+    List<Long> findDeletedIdsSince(@Param("type") Tombstone.EntityType type, @Param("since") LocalDateTime since);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Tombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
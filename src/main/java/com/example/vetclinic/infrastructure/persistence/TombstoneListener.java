@@ -0,0 +1,91 @@
+package com.example.vetclinic.infrastructure.persistence;
+
+import com.example.vetclinic.domain.model.Appointment;
+import com.example.vetclinic.domain.model.MedicalRecord;
+import com.example.vetclinic.domain.model.Owner;
+import com.example.vetclinic.domain.model.Pet;
+import com.example.vetclinic.domain.model.Tombstone;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a tombstone for every deleted owner, pet, appointment and medical record, including
+ * deletes cascaded by Hibernate (an owner's pets). Runs during the flush, so it goes through
+ * JDBC on the transaction's connection rather than the session; a rollback discards the
+ * tombstone together with the delete.
+ */
+@Component
+@RequiredArgsConstructor
+public class TombstoneListener implements PostDeleteEventListener, HibernatePropertiesCustomizer {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tombstones (entity_type, entity_id, deleted_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        Integrator integrator = new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                    SessionFactoryImplementor sessionFactory) {
+                sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class)
+                        .appendListeners(EventType.POST_DELETE, TombstoneListener.this);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory,
+                    SessionFactoryServiceRegistry serviceRegistry) {
+            }
+        };
+        hibernateProperties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+                (IntegratorProvider) () -> List.of(integrator));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Tombstone.EntityType type = typeOf(event.getEntity());
+        if (type != null) {
+            jdbcTemplate.update(INSERT_SQL, type.name(), event.getId(), LocalDateTime.now());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static Tombstone.EntityType typeOf(Object entity) {
+        if (entity instanceof Owner) {
+            return Tombstone.EntityType.OWNER;
+        }
+        if (entity instanceof Pet) {
+            return Tombstone.EntityType.PET;
+        }
+        if (entity instanceof Appointment) {
+            return Tombstone.EntityType.APPOINTMENT;
+        }
+        if (entity instanceof MedicalRecord) {
+            return Tombstone.EntityType.MEDICAL_RECORD;
+        }
+        return null;
+    }
+}
@@ -1,9 +1,21 @@
 package com.example.vetclinic.infrastructure.persistence;
 
 import com.example.vetclinic.domain.model.Vet;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface VetJpaRepository extends JpaRepository<Vet, Long> {
+public interface VetJpaRepository extends JpaRepository<Vet, Long>, KeysetRepository<Vet> {
+
+    @Override
+    @EntityGraph(Vet.SPECIALTIES_GRAPH)
+    List<Vet> findAll();
+
+    @Override
+    @EntityGraph(Vet.SPECIALTIES_GRAPH)
+    Optional<Vet> findById(Long id);
 }
@@ -0,0 +1,55 @@
+package com.example.vetclinic.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+
+/**
+ * Serializes bookings for one vet on one day. On PostgreSQL this is a transaction-scoped
+ * advisory lock keyed by (vet, day); other databases fall back to locking the vet row.
+ * Either way the lock is released when the surrounding transaction ends.
+ */
+@Component
+@RequiredArgsConstructor
+public class VetScheduleLock {
+
+    private static final ResultSetExtractor<Void> IGNORE_RESULT = rs -> null;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean advisoryLocks;
+
+    public void lock(Long vetId, LocalDate day) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Vet schedule lock requires an active transaction");
+        }
+        if (supportsAdvisoryLocks()) {
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)", IGNORE_RESULT,
+                    Long.hashCode(vetId), (int) day.toEpochDay());
+        } else {
+            jdbcTemplate.query("SELECT id FROM vets WHERE id = ? FOR UPDATE", IGNORE_RESULT, vetId);
+        }
+    }
+
+    private boolean supportsAdvisoryLocks() {
+        Boolean supported = advisoryLocks;
+        if (supported == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                        DatabaseMetaData::getDatabaseProductName);
+                supported = "PostgreSQL".equals(product);
+            } catch (MetaDataAccessException e) {
+                supported = false;
+            }
+            advisoryLocks = supported;
+        }
+        return supported;
+    }
+}
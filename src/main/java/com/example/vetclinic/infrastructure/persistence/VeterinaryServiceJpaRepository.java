@@ -3,13 +3,19 @@ package com.example.vetclinic.infrastructure.persistence;
 import com.example.vetclinic.domain.model.ServiceType;
 import com.example.vetclinic.domain.model.VeterinaryService;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VeterinaryServiceJpaRepository extends JpaRepository<VeterinaryService, Long> {
     List<VeterinaryService> findByServiceType(ServiceType serviceType);
 
     List<VeterinaryService> findByActiveTrue();
+
+    @Query("SELECT s.estimatedDurationMinutes FROM VeterinaryService s WHERE s.id = :id")
+    Optional<Integer> findEstimatedDurationMinutesById(@Param("id") Long id);
 }
@@ -0,0 +1,497 @@
+package com.example.vetclinic.infrastructure.synthetic;
+
+import com.example.vetclinic.domain.model.AppointmentStatus;
+import com.example.vetclinic.domain.model.ServiceType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of clinic rows. Every owner, pet, vet and vet-day of appointments
+ * draws from its own random stream derived from the seed and its index, so the dataset is the
+ * same whatever the chunk size or the number of loader threads. Ids are assigned up front
+ * from the given base, which lets chunks be inserted in parallel in any order.
+ */
+public final class SyntheticDataGenerator {
+
+    public static final int APPOINTMENT_NOTES_LENGTH = 1000;
+    public static final int DIAGNOSIS_LENGTH = 1000;
+    public static final int TREATMENT_LENGTH = 1000;
+    public static final int RECORD_NOTES_LENGTH = 2000;
+    public static final int SERVICE_DESCRIPTION_LENGTH = 500;
+
+    static final String CREATED_BY = "synthetic";
+
+    static final List<String> SPECIALTIES = List.of(
+            "Medicina interna", "Cirugía", "Dermatología", "Cardiología", "Oftalmología",
+            "Odontología", "Traumatología", "Oncología", "Animales exóticos", "Diagnóstico por imagen");
+
+    private static final LocalTime OPENING = LocalTime.of(8, 0);
+    private static final int SLOT_MINUTES = 15;
+    private static final int SLOTS_PER_DAY = 40;
+    private static final int MAX_APPOINTMENTS_PER_DAY = 24;
+    private static final int MAX_PETS_PER_OWNER = 6;
+
+    // Independent random streams per entity kind
+    private static final long OWNER_STREAM = 1;
+    private static final long PET_STREAM = 2;
+    private static final long VET_STREAM = 3;
+    private static final long APPOINTMENT_STREAM = 4;
+    private static final long SERVICE_STREAM = 5;
+
+    private static final String[] FIRST_NAMES = {
+            "María", "José", "Lucía", "Antonio", "Carmen", "Manuel", "Sofía", "Javier", "Laura", "David",
+            "Marta", "Daniel", "Paula", "Alejandro", "Elena", "Pablo", "Isabel", "Sergio", "Ana", "Álvaro"};
+
+    private static final String[] LAST_NAMES = {
+            "García", "Rodríguez", "González", "Fernández", "López", "Martínez", "Sánchez", "Pérez",
+            "Gómez", "Martín", "Jiménez", "Ruiz", "Hernández", "Díaz", "Moreno", "Muñoz", "Álvarez",
+            "Romero", "Navarro", "Torres"};
+
+    private static final String[] PET_NAMES = {
+            "Luna", "Max", "Coco", "Nala", "Rocky", "Kira", "Toby", "Lola", "Simba", "Bruno",
+            "Mia", "Thor", "Canela", "Zeus", "Nina", "Leo", "Chispa", "Rufo", "Trufa", "Oliver"};
+
+    private static final Species[] SPECIES = {
+            new Species("Perro", 55, new String[] {"Mestizo", "Labrador", "Pastor alemán", "Golden retriever",
+                    "Bulldog francés", "Yorkshire", "Chihuahua", "Beagle"}, 2.0, 45.0,
+                    new String[] {"Rabia", "Polivalente canina", "Leishmaniosis"}),
+            new Species("Gato", 35, new String[] {"Común europeo", "Siamés", "Persa", "Maine coon", "British shorthair"},
+                    2.5, 7.5, new String[] {"Rabia", "Trivalente felina", "Leucemia felina"}),
+            new Species("Conejo", 5, new String[] {"Belier", "Cabeza de león", "Enano holandés"}, 1.0, 3.0,
+                    new String[] {"Mixomatosis", "Enfermedad hemorrágica vírica"}),
+            new Species("Hurón", 3, new String[] {"Albino", "Turón"}, 0.6, 2.5,
+                    new String[] {"Rabia", "Moquillo"}),
+            new Species("Ave", 2, new String[] {"Periquito", "Agapornis", "Ninfa"}, 0.05, 1.2,
+                    new String[] {"Polyomavirus"})};
+
+    private static final ServiceTemplate[] SERVICES = {
+            new ServiceTemplate("Consulta general", ServiceType.CHECKUP, 30, "35.00", 40),
+            new ServiceTemplate("Vacunación", ServiceType.VACCINATION, 15, "25.00", 20),
+            new ServiceTemplate("Revisión postoperatoria", ServiceType.CHECKUP, 20, "20.00", 8),
+            new ServiceTemplate("Análisis de sangre", ServiceType.LABORATORY, 20, "45.00", 8),
+            new ServiceTemplate("Radiografía", ServiceType.IMAGING, 30, "60.00", 5),
+            new ServiceTemplate("Ecografía abdominal", ServiceType.IMAGING, 45, "75.00", 4),
+            new ServiceTemplate("Limpieza dental", ServiceType.DENTAL, 60, "90.00", 5),
+            new ServiceTemplate("Urgencia", ServiceType.EMERGENCY, 45, "80.00", 4),
+            new ServiceTemplate("Cirugía menor", ServiceType.SURGERY, 90, "180.00", 3),
+            new ServiceTemplate("Baño y corte", ServiceType.GROOMING, 60, "30.00", 3)};
+
+    private static final String[] NOTE_SENTENCES = {
+            "El propietario refiere que come menos desde hace tres días.",
+            "Acude para revisión anual y actualización del calendario vacunal.",
+            "Traer analítica previa y cartilla sanitaria.",
+            "Paciente nervioso en consulta, manejar con bozal.",
+            "Se rasca las orejas con frecuencia y sacude la cabeza.",
+            "Vómitos ocasionales tras las comidas durante la última semana.",
+            "Cojera intermitente de la extremidad posterior izquierda.",
+            "Control de peso tras el cambio de pienso.",
+            "Llamar al propietario para confirmar la cita el día anterior.",
+            "Ayuno de ocho horas antes de la sedación."};
+
+    private static final String[] DIAGNOSIS_SENTENCES = {
+            "Otitis externa eritematosa en el conducto auditivo derecho.",
+            "Gastroenteritis aguda sin signos de obstrucción en la palpación abdominal.",
+            "Dermatitis alérgica con lesiones en la zona lumbar y base de la cola.",
+            "Soplo cardíaco grado II/VI, pendiente de ecocardiografía.",
+            "Enfermedad periodontal moderada con acúmulo de sarro en premolares.",
+            "Sobrepeso, condición corporal 7 sobre 9.",
+            "Conjuntivitis bilateral con secreción serosa.",
+            "Luxación de rótula grado I sin dolor a la manipulación.",
+            "Parámetros dentro de la normalidad en la exploración general.",
+            "Insuficiencia renal crónica en estadio IRIS 2 según analítica."};
+
+    private static final String[] TREATMENT_SENTENCES = {
+            "Limpieza del conducto auditivo y gotas óticas cada doce horas durante siete días.",
+            "Dieta blanda en tomas pequeñas y protector gástrico durante cinco días.",
+            "Antiinflamatorio oral una vez al día con comida durante cuatro días.",
+            "Champú clorhexidina dos veces por semana y revisión en quince días.",
+            "Colirio antibiótico tres veces al día durante una semana.",
+            "Control de peso mensual con pienso de saciedad.",
+            "Limpieza dental bajo anestesia programada.",
+            "Reposo relativo y paseos cortos durante diez días.",
+            "Fluidoterapia subcutánea y dieta renal de por vida.",
+            "Desparasitación interna y externa según calendario."};
+
+    private final SyntheticDataSpec spec;
+    private final IdBase base;
+    private final long[] specialtyIds;
+    private final LocalDate firstDay;
+    private final int days;
+    private final int ownerChunks;
+    private final int cellsPerChunk;
+    private final int appointmentChunks;
+    // Cumulative pet and appointment counts, used to assign ids without generating the rows
+    private final long[] petOffsets;
+    private final long[] appointmentOffsets;
+
+    public SyntheticDataGenerator(SyntheticDataSpec spec, IdBase base, List<Long> specialtyIds) {
+        if (spec.getOwners() <= 0 || spec.getVets() <= 0 || spec.getBatchSize() <= 0) {
+            throw new IllegalArgumentException("Owners, vets and batch size must be positive");
+        }
+        this.spec = spec;
+        this.base = base;
+        this.specialtyIds = specialtyIds.stream().mapToLong(Long::longValue).toArray();
+        this.firstDay = spec.getReferenceDate().minusDays(spec.getHistoryDays());
+        this.days = spec.getHistoryDays() + spec.getFutureDays();
+        this.ownerChunks = (spec.getOwners() + spec.getBatchSize() - 1) / spec.getBatchSize();
+
+        this.petOffsets = new long[spec.getOwners() + 1];
+        for (int owner = 0; owner < spec.getOwners(); owner++) {
+            petOffsets[owner + 1] = petOffsets[owner] + petCount(random(OWNER_STREAM, owner));
+        }
+
+        int cells = spec.getVets() * days;
+        this.appointmentOffsets = new long[cells + 1];
+        for (int cell = 0; cell < cells; cell++) {
+            appointmentOffsets[cell + 1] = appointmentOffsets[cell]
+                    + appointmentCount(random(APPOINTMENT_STREAM, cell), dayOf(cell));
+        }
+        int perDay = Math.max(1, (int) Math.ceil(spec.getAppointmentsPerVetPerDay()));
+        this.cellsPerChunk = Math.max(1, spec.getBatchSize() / perDay);
+        this.appointmentChunks = (cells + cellsPerChunk - 1) / cellsPerChunk;
+    }
+
+    public long petCount() {
+        return petOffsets[spec.getOwners()];
+    }
+
+    public long appointmentCount() {
+        return appointmentOffsets[appointmentOffsets.length - 1];
+    }
+
+    public int serviceCount() {
+        return SERVICES.length;
+    }
+
+    public int ownerChunks() {
+        return ownerChunks;
+    }
+
+    public int appointmentChunks() {
+        return appointmentChunks;
+    }
+
+    /**
+     * Rows of {@code veterinary_services}: id, name, description, service_type, base_cost,
+     * estimated_duration_minutes, active, created_at, created_by.
+     */
+    public List<Object[]> services() {
+        SplittableRandom random = random(SERVICE_STREAM, 0);
+        Timestamp createdAt = Timestamp.valueOf(firstDay.minusYears(1).atTime(OPENING));
+        List<Object[]> rows = new ArrayList<>(SERVICES.length);
+        for (int i = 0; i < SERVICES.length; i++) {
+            ServiceTemplate service = SERVICES[i];
+            rows.add(new Object[] {serviceId(i), service.name(),
+                    text(random, TREATMENT_SENTENCES, SERVICE_DESCRIPTION_LENGTH), service.type().name(),
+                    new BigDecimal(service.baseCost()), service.durationMinutes(), true, createdAt, CREATED_BY});
+        }
+        return rows;
+    }
+
+    /**
+     * Rows of {@code vets}: id, first_name, last_name.
+     */
+    public List<Object[]> vets() {
+        List<Object[]> rows = new ArrayList<>(spec.getVets());
+        for (int vet = 0; vet < spec.getVets(); vet++) {
+            SplittableRandom random = random(VET_STREAM, vet);
+            rows.add(new Object[] {vetId(vet), pick(random, FIRST_NAMES),
+                    pick(random, LAST_NAMES) + " " + pick(random, LAST_NAMES)});
+        }
+        return rows;
+    }
+
+    /**
+     * Rows of {@code vet_specialties}: vet_id, specialty_id. Each vet has one to three.
+     */
+    public List<Object[]> vetSpecialties() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int vet = 0; vet < spec.getVets(); vet++) {
+            SplittableRandom random = random(VET_STREAM, vet);
+            // Skip the draws used for the name
+            random.nextInt(FIRST_NAMES.length);
+            random.nextInt(LAST_NAMES.length);
+            random.nextInt(LAST_NAMES.length);
+            int wanted = Math.min(specialtyIds.length, 1 + random.nextInt(3));
+            for (int i = 0; i < specialtyIds.length && wanted > 0; i++) {
+                if (random.nextInt(specialtyIds.length - i) < wanted) {
+                    rows.add(new Object[] {vetId(vet), specialtyIds[i]});
+                    wanted--;
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Rows of {@code owners} for one chunk: id, first_name, last_name, phone, email,
+     * created_at, created_by.
+     */
+    public List<Object[]> owners(int chunk) {
+        int from = chunk * spec.getBatchSize();
+        int to = Math.min(spec.getOwners(), from + spec.getBatchSize());
+        List<Object[]> rows = new ArrayList<>(to - from);
+        for (int owner = from; owner < to; owner++) {
+            SplittableRandom random = random(OWNER_STREAM, owner);
+            petCount(random);
+            String firstName = pick(random, FIRST_NAMES);
+            String lastName = pick(random, LAST_NAMES);
+            String secondLastName = pick(random, LAST_NAMES);
+            long id = base.owner() + owner + 1;
+            String phone = "6" + String.format("%08d", random.nextInt(100_000_000));
+            String email = ascii(firstName) + "." + ascii(lastName) + id + "@example.com";
+            LocalDateTime createdAt = firstDay.minusDays(random.nextInt(3650)).atTime(OPENING)
+                    .plusMinutes(random.nextInt(600));
+            rows.add(new Object[] {id, firstName, lastName + " " + secondLastName, phone, email,
+                    Timestamp.valueOf(createdAt), CREATED_BY});
+        }
+        return rows;
+    }
+
+    /**
+     * Rows of {@code pets} belonging to the owners of one chunk: id, name, species, breed,
+     * birth_date, owner_id, created_at, created_by.
+     */
+    public List<Object[]> pets(int chunk) {
+        int from = chunk * spec.getBatchSize();
+        int to = Math.min(spec.getOwners(), from + spec.getBatchSize());
+        List<Object[]> rows = new ArrayList<>((int) (petOffsets[to] - petOffsets[from]));
+        for (int owner = from; owner < to; owner++) {
+            for (long pet = petOffsets[owner]; pet < petOffsets[owner + 1]; pet++) {
+                SplittableRandom random = random(PET_STREAM, pet);
+                Species species = species(random);
+                // Base weight, only read back by medical records
+                random.nextDouble();
+                LocalDate birthDate = spec.getReferenceDate().minusDays(random.nextInt(60, 16 * 365));
+                LocalDateTime createdAt = firstDay.minusDays(random.nextInt(1825)).atTime(OPENING)
+                        .plusMinutes(random.nextInt(600));
+                rows.add(new Object[] {base.pet() + pet + 1, pick(random, PET_NAMES), species.name(),
+                        pick(random, species.breeds()), Date.valueOf(birthDate), base.owner() + owner + 1,
+                        Timestamp.valueOf(createdAt), CREATED_BY});
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Appointments of a range of vet-days and the medical records of the completed ones.
+     */
+    public AppointmentBatch appointments(int chunk) {
+        int fromCell = chunk * cellsPerChunk;
+        int toCell = Math.min(appointmentOffsets.length - 1, fromCell + cellsPerChunk);
+        List<Object[]> appointments = new ArrayList<>((int) (appointmentOffsets[toCell] - appointmentOffsets[fromCell]));
+        List<Object[]> records = new ArrayList<>(appointments.size());
+        for (int cell = fromCell; cell < toCell; cell++) {
+            appendVetDay(cell, appointments, records);
+        }
+        return new AppointmentBatch(appointments, records);
+    }
+
+    /*
+     * Appointment columns: id, appointment_date, end_date, status, notes, pet_id, vet_id,
+     * service_id, created_at, created_by. Medical record columns: id, record_date, diagnosis,
+     * treatment, notes, weight, temperature, vaccine_administered, pet_id, vet_id,
+     * appointment_id, created_at, created_by.
+     */
+    private void appendVetDay(int cell, List<Object[]> appointments, List<Object[]> records) {
+        LocalDate day = dayOf(cell);
+        long vetId = vetId(cell / days);
+        SplittableRandom random = random(APPOINTMENT_STREAM, cell);
+        int count = appointmentCount(random, day);
+
+        // Distinct start slots in ascending order (selection sampling)
+        int[] starts = new int[count];
+        for (int slot = 0, selected = 0; selected < count; slot++) {
+            if (random.nextInt(SLOTS_PER_DAY - slot) < count - selected) {
+                starts[selected++] = slot;
+            }
+        }
+
+        long pets = petCount();
+        boolean past = day.isBefore(spec.getReferenceDate());
+        for (int i = 0; i < count; i++) {
+            long index = appointmentOffsets[cell] + i;
+            int freeMinutes = ((i + 1 < count ? starts[i + 1] : SLOTS_PER_DAY) - starts[i]) * SLOT_MINUTES;
+            int service = pickService(random, freeMinutes);
+            LocalDateTime start = day.atTime(OPENING).plusMinutes((long) starts[i] * SLOT_MINUTES);
+            LocalDateTime end = start.plusMinutes(SERVICES[service].durationMinutes());
+            AppointmentStatus status = status(random, past);
+            // Regular patients come back more often than the long tail
+            long pet = Math.min(pets - 1, (long) (pets * Math.pow(random.nextDouble(), 1.6)));
+            String notes = random.nextInt(100) < 35 ? null : text(random, NOTE_SENTENCES, APPOINTMENT_NOTES_LENGTH);
+            LocalDateTime createdAt = start.minusDays(random.nextInt(1, 31)).minusMinutes(random.nextInt(600));
+
+            long appointmentId = base.appointment() + index + 1;
+            appointments.add(new Object[] {appointmentId, Timestamp.valueOf(start), Timestamp.valueOf(end),
+                    status.name(), notes, base.pet() + pet + 1, vetId, serviceId(service),
+                    Timestamp.valueOf(createdAt), CREATED_BY});
+
+            if (status == AppointmentStatus.COMPLETED && random.nextDouble() < spec.getMedicalRecordRatio()) {
+                records.add(medicalRecord(random, index, appointmentId, pet, vetId, SERVICES[service], end));
+            }
+        }
+    }
+
+    private Object[] medicalRecord(SplittableRandom random, long index, long appointmentId, long pet, long vetId,
+                                   ServiceTemplate service, LocalDateTime end) {
+        SplittableRandom petRandom = random(PET_STREAM, pet);
+        Species species = species(petRandom);
+        double weight = species.minKg() + petRandom.nextDouble() * (species.maxKg() - species.minKg());
+        weight *= 0.95 + random.nextDouble() * 0.1;
+        String vaccine = service.type() == ServiceType.VACCINATION ? pick(random, species.vaccines()) : null;
+        String notes = random.nextInt(100) < 40 ? null : text(random, NOTE_SENTENCES, RECORD_NOTES_LENGTH);
+        // Records have ids parallel to their appointments; appointments without one leave a gap
+        return new Object[] {base.medicalRecord() + index + 1, Timestamp.valueOf(end),
+                text(random, DIAGNOSIS_SENTENCES, DIAGNOSIS_LENGTH), text(random, TREATMENT_SENTENCES, TREATMENT_LENGTH),
+                notes, decimal(Math.max(0.01, weight)), decimal(37.5 + random.nextDouble() * 2.3), vaccine,
+                base.pet() + pet + 1, vetId, appointmentId, Timestamp.valueOf(end), CREATED_BY};
+    }
+
+    private int appointmentCount(SplittableRandom random, LocalDate day) {
+        double mean = spec.getAppointmentsPerVetPerDay();
+        if (day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            return 0;
+        }
+        if (day.getDayOfWeek() == DayOfWeek.SATURDAY) {
+            mean /= 2;
+        }
+        // Poisson by multiplication of uniforms; fine for the small means of a vet's day
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            count++;
+            product *= random.nextDouble();
+        }
+        return Math.min(count, MAX_APPOINTMENTS_PER_DAY);
+    }
+
+    private static int petCount(SplittableRandom random) {
+        // Geometric: most owners have one pet, a few have several
+        int count = 1;
+        while (count < MAX_PETS_PER_OWNER && random.nextInt(100) < 45) {
+            count++;
+        }
+        return count;
+    }
+
+    private static AppointmentStatus status(SplittableRandom random, boolean past) {
+        int roll = random.nextInt(100);
+        if (past) {
+            return roll < 85 ? AppointmentStatus.COMPLETED
+                    : roll < 95 ? AppointmentStatus.CANCELLED : AppointmentStatus.CONFIRMED;
+        }
+        return roll < 55 ? AppointmentStatus.PENDING
+                : roll < 95 ? AppointmentStatus.CONFIRMED : AppointmentStatus.CANCELLED;
+    }
+
+    private static int pickService(SplittableRandom random, int freeMinutes) {
+        int total = 0;
+        for (ServiceTemplate service : SERVICES) {
+            if (service.durationMinutes() <= freeMinutes) {
+                total += service.weight();
+            }
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < SERVICES.length; i++) {
+            if (SERVICES[i].durationMinutes() <= freeMinutes) {
+                roll -= SERVICES[i].weight();
+                if (roll < 0) {
+                    return i;
+                }
+            }
+        }
+        throw new IllegalStateException("No service fits in " + freeMinutes + " minutes");
+    }
+
+    private static Species species(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (Species species : SPECIES) {
+            roll -= species.weight();
+            if (roll < 0) {
+                return species;
+            }
+        }
+        return SPECIES[0];
+    }
+
+    /**
+     * Free text assembled from sentences. Most values fill 60-100% of the column, the rest
+     * are short, which is roughly what clinicians type.
+     */
+    private static String text(SplittableRandom random, String[] sentences, int maxLength) {
+        int length = random.nextInt(100) < 70
+                ? random.nextInt(maxLength * 6 / 10, maxLength + 1)
+                : random.nextInt(20, maxLength * 3 / 10 + 1);
+        StringBuilder text = new StringBuilder(length + 100);
+        while (text.length() < length) {
+            if (!text.isEmpty()) {
+                text.append(' ');
+            }
+            text.append(pick(random, sentences));
+        }
+        text.setLength(length);
+        return text.toString().strip();
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static BigDecimal decimal(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static String ascii(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "").toLowerCase();
+    }
+
+    private LocalDate dayOf(int cell) {
+        return firstDay.plusDays(cell % days);
+    }
+
+    private long vetId(int vet) {
+        return base.vet() + vet + 1;
+    }
+
+    private long serviceId(int service) {
+        return base.service() + service + 1;
+    }
+
+    private SplittableRandom random(long stream, long index) {
+        return new SplittableRandom(mix(mix(spec.getSeed() ^ stream * 0x9E3779B97F4A7C15L) + index));
+    }
+
+    // SplitMix64 finalizer, so that neighbouring indexes get unrelated seeds
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Largest existing id per table; generated ids start right after it.
+     */
+    public record IdBase(long owner, long pet, long vet, long service, long appointment, long medicalRecord) {
+    }
+
+    public record AppointmentBatch(List<Object[]> appointments, List<Object[]> medicalRecords) {
+    }
+
+    private record Species(String name, int weight, String[] breeds, double minKg, double maxKg, String[] vaccines) {
+    }
+
+    private record ServiceTemplate(String name, ServiceType type, int durationMinutes, String baseCost, int weight) {
+    }
+}
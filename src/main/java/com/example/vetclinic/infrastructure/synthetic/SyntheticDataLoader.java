@@ -0,0 +1,163 @@
+package com.example.vetclinic.infrastructure.synthetic;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+
+/**
+ * Loads a {@link SyntheticDataGenerator} dataset through batched JDBC inserts, on top of
+ * whatever the database already holds. Reference data goes first; owners, pets and then
+ * appointments with their medical records are each generated and inserted by a pool of
+ * threads, one batch per chunk. Works on H2 and PostgreSQL; on PostgreSQL add
+ * {@code reWriteBatchedInserts=true} to the JDBC URL for multi-row inserts.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataLoader {
+
+    private static final String INSERT_SERVICE = "INSERT INTO veterinary_services "
+            + "(id, name, description, service_type, base_cost, estimated_duration_minutes, active, created_at, created_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] SERVICE_TYPES = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.NUMERIC, Types.INTEGER, Types.BOOLEAN, Types.TIMESTAMP, Types.VARCHAR};
+
+    private static final String INSERT_VET = "INSERT INTO vets (id, first_name, last_name) VALUES (?, ?, ?)";
+    private static final int[] VET_TYPES = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR};
+
+    private static final String INSERT_VET_SPECIALTY = "INSERT INTO vet_specialties (vet_id, specialty_id) VALUES (?, ?)";
+    private static final int[] VET_SPECIALTY_TYPES = {Types.BIGINT, Types.BIGINT};
+
+    private static final String INSERT_OWNER = "INSERT INTO owners "
+            + "(id, first_name, last_name, phone, email, created_at, created_by) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] OWNER_TYPES = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR};
+
+    private static final String INSERT_PET = "INSERT INTO pets "
+            + "(id, name, species, breed, birth_date, owner_id, created_at, created_by) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] PET_TYPES = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.DATE, Types.BIGINT, Types.TIMESTAMP, Types.VARCHAR};
+
+    private static final String INSERT_APPOINTMENT = "INSERT INTO appointments "
+            + "(id, appointment_date, end_date, status, notes, pet_id, vet_id, service_id, created_at, created_by) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] APPOINTMENT_TYPES = {Types.BIGINT, Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR,
+            Types.VARCHAR, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.TIMESTAMP, Types.VARCHAR};
+
+    private static final String INSERT_MEDICAL_RECORD = "INSERT INTO medical_records "
+            + "(id, record_date, diagnosis, treatment, notes, weight, temperature, vaccine_administered, "
+            + "pet_id, vet_id, appointment_id, created_at, created_by) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] MEDICAL_RECORD_TYPES = {Types.BIGINT, Types.TIMESTAMP, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.NUMERIC, Types.NUMERIC, Types.VARCHAR, Types.BIGINT, Types.BIGINT, Types.BIGINT,
+            Types.TIMESTAMP, Types.VARCHAR};
+
+    // Tables whose ids are assigned by the generator
+    private static final List<String> GENERATED_ID_TABLES = List.of(
+            "owners", "pets", "vets", "veterinary_services", "appointments", "medical_records");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyntheticDataSummary load(SyntheticDataSpec spec) {
+        long started = System.nanoTime();
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(spec, currentIdBase(), ensureSpecialties());
+        log.info("Loading synthetic data: {} owners, {} pets, {} vets, {} appointments",
+                spec.getOwners(), generator.petCount(), spec.getVets(), generator.appointmentCount());
+
+        jdbcTemplate.batchUpdate(INSERT_SERVICE, generator.services(), SERVICE_TYPES);
+        jdbcTemplate.batchUpdate(INSERT_VET, generator.vets(), VET_TYPES);
+        jdbcTemplate.batchUpdate(INSERT_VET_SPECIALTY, generator.vetSpecialties(), VET_SPECIALTY_TYPES);
+
+        AtomicLong medicalRecords = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, spec.getThreads()));
+        try {
+            // Each phase only references rows committed by the previous ones
+            runChunks(executor, generator.ownerChunks(),
+                    chunk -> jdbcTemplate.batchUpdate(INSERT_OWNER, generator.owners(chunk), OWNER_TYPES));
+            runChunks(executor, generator.ownerChunks(),
+                    chunk -> jdbcTemplate.batchUpdate(INSERT_PET, generator.pets(chunk), PET_TYPES));
+            runChunks(executor, generator.appointmentChunks(), chunk -> {
+                SyntheticDataGenerator.AppointmentBatch batch = generator.appointments(chunk);
+                jdbcTemplate.batchUpdate(INSERT_APPOINTMENT, batch.appointments(), APPOINTMENT_TYPES);
+                jdbcTemplate.batchUpdate(INSERT_MEDICAL_RECORD, batch.medicalRecords(), MEDICAL_RECORD_TYPES);
+                medicalRecords.addAndGet(batch.medicalRecords().size());
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+        restartIdentities();
+
+        SyntheticDataSummary summary = SyntheticDataSummary.builder()
+                .owners(spec.getOwners())
+                .pets(generator.petCount())
+                .vets(spec.getVets())
+                .services(generator.serviceCount())
+                .appointments(generator.appointmentCount())
+                .medicalRecords(medicalRecords.get())
+                .elapsed(Duration.ofNanos(System.nanoTime() - started))
+                .build();
+        log.info("Synthetic data loaded: {}", summary);
+        return summary;
+    }
+
+    private SyntheticDataGenerator.IdBase currentIdBase() {
+        return new SyntheticDataGenerator.IdBase(maxId("owners"), maxId("pets"), maxId("vets"),
+                maxId("veterinary_services"), maxId("appointments"), maxId("medical_records"));
+    }
+
+    private List<Long> ensureSpecialties() {
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList("SELECT name FROM specialties", String.class));
+        List<Object[]> missing = new ArrayList<>();
+        for (String name : SyntheticDataGenerator.SPECIALTIES) {
+            if (!existing.contains(name)) {
+                missing.add(new Object[] {name});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO specialties (name) VALUES (?)", missing, new int[] {Types.VARCHAR});
+        return jdbcTemplate.queryForList("SELECT id FROM specialties ORDER BY id", Long.class);
+    }
+
+    private void restartIdentities() {
+        // Explicit ids bypass the identity columns, so move them past the loaded rows
+        for (String table : GENERATED_ID_TABLES) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (maxId(table) + 1));
+        }
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max != null ? max : 0L;
+    }
+
+    private static void runChunks(ExecutorService executor, int chunks, IntConsumer task) {
+        List<Future<?>> futures = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int current = chunk;
+            futures.add(executor.submit(() -> task.accept(current)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Synthetic data load interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Synthetic data load failed", e.getCause());
+        }
+    }
+}
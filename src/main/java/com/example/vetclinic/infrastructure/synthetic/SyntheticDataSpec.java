@@ -0,0 +1,48 @@
+package com.example.vetclinic.infrastructure.synthetic;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * Size and shape of a synthetic dataset. Appointments cover {@code historyDays} before and
+ * {@code futureDays} after the reference date for every vet, with a Poisson-distributed
+ * number per working day around {@code appointmentsPerVetPerDay}.
+ */
+@Value
+@Builder(toBuilder = true)
+public class SyntheticDataSpec {
+
+    @Builder.Default
+    long seed = 42L;
+
+    @Builder.Default
+    int owners = 1_000;
+
+    @Builder.Default
+    int vets = 10;
+
+    // Appointments before this day are mostly completed, later ones pending or confirmed
+    @Builder.Default
+    LocalDate referenceDate = LocalDate.of(2026, 1, 5);
+
+    @Builder.Default
+    int historyDays = 365;
+
+    @Builder.Default
+    int futureDays = 30;
+
+    @Builder.Default
+    double appointmentsPerVetPerDay = 9.0;
+
+    // Share of completed appointments that get a medical record
+    @Builder.Default
+    double medicalRecordRatio = 0.9;
+
+    @Builder.Default
+    int threads = Runtime.getRuntime().availableProcessors();
+
+    @Builder.Default
+    int batchSize = 1_000;
+}
@@ -0,0 +1,19 @@
+package com.example.vetclinic.infrastructure.synthetic;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+@Value
+@Builder
+public class SyntheticDataSummary {
+
+    long owners;
+    long pets;
+    long vets;
+    long services;
+    long appointments;
+    long medicalRecords;
+    Duration elapsed;
+}
@@ -1,19 +1,34 @@
 package com.example.vetclinic.presentation.controller;
 
+import com.example.vetclinic.application.dto.ChangeFeedResponse;
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
 import com.example.vetclinic.application.dto.appointment.AppointmentDTO;
 import com.example.vetclinic.application.dto.appointment.CreateAppointmentDTO;
+import com.example.vetclinic.application.dto.appointment.ImportAppointmentDTO;
 import com.example.vetclinic.application.dto.appointment.UpdateAppointmentDTO;
+import com.example.vetclinic.application.dto.bulk.BulkImportResultDTO;
 import com.example.vetclinic.application.service.AppointmentService;
+import com.example.vetclinic.application.service.BulkImportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -24,6 +39,10 @@ import java.util.List;
 public class AppointmentController {
 
     private final AppointmentService appointmentService;
+    private final BulkImportService bulkImportService;
+    private final BulkRequestReader bulkRequestReader;
+    private final StreamingExporter streamingExporter;
+    private final AppointmentEventStream appointmentEventStream;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA', 'USER')")
@@ -32,6 +51,39 @@ public class AppointmentController {
         return ResponseEntity.ok(appointmentService.getAllAppointments());
     }
 
+    @GetMapping("/paged")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA', 'USER')")
+    @Operation(summary = "Get appointments page", description = "Retrieve one page of appointments, by offset or by id cursor")
+    public ResponseEntity<PagedResponse<AppointmentDTO>> getAppointmentsPage(@ParameterObject @Valid PageQuery query) {
+        return ResponseEntity.ok(appointmentService.getAppointmentsPage(query));
+    }
+
+    @GetMapping("/changes")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA', 'USER')")
+    @Operation(summary = "Get appointment changes", description = "Rows modified and ids deleted since the cursor; without since, the full list")
+    public ResponseEntity<ChangeFeedResponse<AppointmentDTO>> getAppointmentChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return ResponseEntity.ok(appointmentService.getAppointmentChanges(since));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA', 'USER')")
+    @Operation(summary = "Subscribe to appointment events", description = "Server-sent events with batches of created, "
+            + "updated, confirmed and cancelled appointments, optionally for one vet or day")
+    public SseEmitter streamAppointmentEvents(
+            @RequestParam(required = false) Long vetId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return appointmentEventStream.subscribe(vetId, date);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export appointments", description = "Stream all appointments as CSV or NDJSON (Admin only)")
+    public ResponseEntity<StreamingResponseBody> exportAppointments(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return streamingExporter.export("appointments", format, appointmentService::exportAppointments);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA', 'USER')")
     @Operation(summary = "Get appointment by ID", description = "Retrieve appointment details by ID")
@@ -60,6 +112,15 @@ public class AppointmentController {
         return new ResponseEntity<>(appointmentService.createAppointment(createDTO), HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import appointments", description = "Create appointments from a JSON array or NDJSON stream, "
+            + "reporting errors per row (Admin only). Dates may be in the past and booking checks are not applied.")
+    public ResponseEntity<BulkImportResultDTO> importAppointments(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(bulkImportService.importAppointments(
+                bulkRequestReader.read(request, ImportAppointmentDTO.class)));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA', 'USER')")
     @Operation(summary = "Update appointment", description = "Update appointment details")
@@ -0,0 +1,174 @@
+package com.example.vetclinic.presentation.controller;
+
+import com.example.vetclinic.application.dto.appointment.AppointmentDTO;
+import com.example.vetclinic.application.dto.appointment.AppointmentEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-sent events for committed appointment changes. Events are queued per subscriber and
+ * sent as one batch per flush interval, keeping only the latest event of each appointment.
+ * Each subscriber is written to from its own virtual thread, so a slow client only delays
+ * itself; while it is behind its queue keeps coalescing, and once it holds more than
+ * {@code max-buffered} appointments it is dropped and replaced by a {@code resync} event,
+ * after which the client reloads through {@code /changes}.
+ */
+@Component
+@Slf4j
+public class AppointmentEventStream {
+
+    static final String BATCH_EVENT = "appointments";
+    static final String RESYNC_EVENT = "resync";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("appointment-events-", 0).factory());
+
+    @Value("${app.appointment-events.max-buffered:256}")
+    private int maxBuffered = 256;
+
+    @Value("${app.appointment-events.timeout-ms:1800000}")
+    private long timeoutMs = 1800000;
+
+    @Value("${app.appointment-events.heartbeat-ms:15000}")
+    private long heartbeatMs = 15000;
+
+    public SseEmitter subscribe(Long vetId, LocalDate date) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, vetId, date);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        try {
+            // Commits the response headers so the client sees the stream open right away
+            emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException e) {
+            subscribers.remove(subscriber);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAppointmentEvent(AppointmentEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.matches(event)) {
+                subscriber.offer(event, maxBuffered);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.appointment-events.flush-interval-ms:250}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.sending.compareAndSet(false, true)) {
+                senders.execute(() -> {
+                    try {
+                        subscriber.deliver(now, heartbeatMs);
+                    } catch (IOException | IllegalStateException e) {
+                        // Client gone; the container completes the emitter
+                        subscribers.remove(subscriber);
+                    } finally {
+                        subscriber.sending.set(false);
+                    }
+                });
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long vetId;
+        private final LocalDate date;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // Latest event per appointment id, in arrival order
+        private final Map<Long, AppointmentEvent> pending = new LinkedHashMap<>();
+        private boolean overflowed;
+        private long lastSentAt = System.currentTimeMillis();
+
+        Subscriber(SseEmitter emitter, Long vetId, LocalDate date) {
+            this.emitter = emitter;
+            this.vetId = vetId;
+            this.date = date;
+        }
+
+        // The slot left and the slot taken are each matched as a whole: a move between two
+        // slots outside the filter is not sent, even if one shares the vet and the other the day
+        boolean matches(AppointmentEvent event) {
+            AppointmentDTO appointment = event.getAppointment();
+            LocalDate newDate = appointment.getAppointmentDate() != null
+                    ? appointment.getAppointmentDate().toLocalDate()
+                    : null;
+            return matchesSlot(appointment.getVetId(), newDate)
+                    || (event.getPreviousVetId() != null
+                            && matchesSlot(event.getPreviousVetId(), event.getPreviousDate()));
+        }
+
+        private boolean matchesSlot(Long slotVetId, LocalDate slotDate) {
+            return (vetId == null || vetId.equals(slotVetId)) && (date == null || date.equals(slotDate));
+        }
+
+        synchronized void offer(AppointmentEvent event, int maxBuffered) {
+            if (overflowed) {
+                return;
+            }
+            pending.remove(event.getAppointment().getId());
+            pending.put(event.getAppointment().getId(), event);
+            if (pending.size() > maxBuffered) {
+                pending.clear();
+                overflowed = true;
+            }
+        }
+
+        void deliver(long now, long heartbeatMs) throws IOException {
+            List<AppointmentEvent> batch;
+            boolean resync;
+            synchronized (this) {
+                batch = new ArrayList<>(pending.values());
+                pending.clear();
+                resync = overflowed;
+                overflowed = false;
+            }
+            if (resync) {
+                emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(""));
+            } else if (!batch.isEmpty()) {
+                emitter.send(SseEmitter.event().name(BATCH_EVENT).data(batch, MediaType.APPLICATION_JSON));
+            } else if (now - lastSentAt >= heartbeatMs) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else {
+                return;
+            }
+            lastSentAt = now;
+        }
+    }
+}
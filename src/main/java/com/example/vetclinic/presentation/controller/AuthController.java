@@ -4,12 +4,15 @@ import com.example.vetclinic.application.dto.auth.JwtAuthenticationResponse;
 import com.example.vetclinic.application.dto.auth.LoginRequest;
 import com.example.vetclinic.application.dto.auth.SignUpRequest;
 import com.example.vetclinic.application.service.AuthService;
+import com.example.vetclinic.domain.exception.BusinessException;
 import com.example.vetclinic.domain.model.User;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -28,12 +31,18 @@ public class AuthController {
         return ResponseEntity.ok(authService.authenticateUser(loginRequest));
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        authService.logout(authorization.startsWith("Bearer ") ? authorization.substring(7) : authorization);
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/register")
     public ResponseEntity<?> registerUser(@Valid @RequestBody SignUpRequest signUpRequest) {
         try {
             User user = authService.registerUser(signUpRequest);
             return new ResponseEntity<>("User registered successfully", HttpStatus.CREATED);
-        } catch (RuntimeException e) {
+        } catch (BusinessException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         }
     }
@@ -0,0 +1,121 @@
+package com.example.vetclinic.presentation.controller;
+
+import com.example.vetclinic.application.dto.bulk.BulkRow;
+import com.example.vetclinic.domain.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads bulk request bodies one element at a time, so large uploads are never held in
+ * memory as a whole. Accepts a JSON array ({@code application/json}) or newline-delimited
+ * JSON ({@code application/x-ndjson}). An element that cannot be mapped becomes a failed
+ * row; malformed JSON ends the stream with a failed row at the point of the error.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkRequestReader {
+
+    private final ObjectMapper objectMapper;
+
+    public <T> Iterator<BulkRow<T>> read(HttpServletRequest request, Class<T> type) throws IOException {
+        boolean ndjson = request.getContentType() != null
+                && MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()));
+
+        JsonParser parser = objectMapper.getFactory().createParser(request.getInputStream());
+        if (!ndjson && parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new BusinessException("Bulk request body must be a JSON array or NDJSON");
+        }
+        return new RowIterator<>(parser, ndjson ? null : JsonToken.END_ARRAY, type);
+    }
+
+    private final class RowIterator<T> implements Iterator<BulkRow<T>> {
+
+        private final JsonParser parser;
+        private final JsonToken endToken;
+        private final Class<T> type;
+
+        private BulkRow<T> pending;
+        private boolean done;
+        private int index;
+
+        private RowIterator(JsonParser parser, JsonToken endToken, Class<T> type) {
+            this.parser = parser;
+            this.endToken = endToken;
+            this.type = type;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (pending == null && !done) {
+                advance();
+            }
+            return pending != null;
+        }
+
+        @Override
+        public BulkRow<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BulkRow<T> row = pending;
+            pending = null;
+            return row;
+        }
+
+        private void advance() {
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null && endToken != null) {
+                    fail("Unexpected end of input, the JSON array is not closed");
+                    return;
+                }
+                if (token == null || token == endToken) {
+                    close();
+                    return;
+                }
+                JsonNode node = objectMapper.readTree(parser);
+                pending = convert(node);
+            } catch (JsonProcessingException e) {
+                fail("Malformed JSON: " + e.getOriginalMessage());
+            } catch (IOException e) {
+                fail("Could not read request body: " + e.getMessage());
+            }
+        }
+
+        private BulkRow<T> convert(JsonNode node) {
+            int row = index++;
+            try {
+                return BulkRow.of(row, objectMapper.treeToValue(node, type));
+            } catch (JsonProcessingException e) {
+                return BulkRow.failed(row, "Invalid row: " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                return BulkRow.failed(row, "Invalid row: " + e.getMessage());
+            }
+        }
+
+        private void fail(String message) {
+            pending = BulkRow.failed(index++, message);
+            close();
+        }
+
+        private void close() {
+            done = true;
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // the request body is closed by the container anyway
+            }
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.vetclinic.presentation.controller;
 
+import com.example.vetclinic.application.dto.ChangeFeedResponse;
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
 import com.example.vetclinic.application.dto.medicalrecord.CreateMedicalRecordDTO;
 import com.example.vetclinic.application.dto.medicalrecord.MedicalRecordDTO;
 import com.example.vetclinic.application.dto.medicalrecord.UpdateMedicalRecordDTO;
@@ -9,11 +12,15 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -24,6 +31,7 @@ import java.util.List;
 public class MedicalRecordController {
 
     private final MedicalRecordService medicalRecordService;
+    private final StreamingExporter streamingExporter;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'VET')")
@@ -32,6 +40,29 @@ public class MedicalRecordController {
         return ResponseEntity.ok(medicalRecordService.getAllRecords());
     }
 
+    @GetMapping("/paged")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VET')")
+    @Operation(summary = "Get medical records page", description = "Retrieve one page of medical records, by offset or by id cursor")
+    public ResponseEntity<PagedResponse<MedicalRecordDTO>> getRecordsPage(@ParameterObject @Valid PageQuery query) {
+        return ResponseEntity.ok(medicalRecordService.getRecordsPage(query));
+    }
+
+    @GetMapping("/changes")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VET')")
+    @Operation(summary = "Get medical record changes", description = "Rows modified and ids deleted since the cursor; without since, the full list")
+    public ResponseEntity<ChangeFeedResponse<MedicalRecordDTO>> getRecordChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return ResponseEntity.ok(medicalRecordService.getRecordChanges(since));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Export medical records", description = "Stream all medical records as CSV or NDJSON (Admin only)")
+    public ResponseEntity<StreamingResponseBody> exportRecords(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return streamingExporter.export("medical-records", format, medicalRecordService::exportRecords);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'VET')")
     @Operation(summary = "Get medical record by ID", description = "Retrieve medical record details by ID")
@@ -1,19 +1,30 @@
 package com.example.vetclinic.presentation.controller;
 
+import com.example.vetclinic.application.dto.ChangeFeedResponse;
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
+import com.example.vetclinic.application.dto.bulk.BulkImportResultDTO;
 import com.example.vetclinic.application.dto.owner.CreateOwnerDTO;
 import com.example.vetclinic.application.dto.owner.OwnerDTO;
 import com.example.vetclinic.application.dto.owner.UpdateOwnerDTO;
+import com.example.vetclinic.application.service.BulkImportService;
 import com.example.vetclinic.application.service.OwnerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -24,6 +35,8 @@ import java.util.List;
 public class OwnerController {
 
     private final OwnerService ownerService;
+    private final BulkImportService bulkImportService;
+    private final BulkRequestReader bulkRequestReader;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA')")
@@ -32,6 +45,21 @@ public class OwnerController {
         return ResponseEntity.ok(ownerService.getAllOwners());
     }
 
+    @GetMapping("/paged")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA')")
+    @Operation(summary = "Get owners page", description = "Retrieve one page of owners, by offset or by id cursor")
+    public ResponseEntity<PagedResponse<OwnerDTO>> getOwnersPage(@ParameterObject @Valid PageQuery query) {
+        return ResponseEntity.ok(ownerService.getOwnersPage(query));
+    }
+
+    @GetMapping("/changes")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA')")
+    @Operation(summary = "Get owner changes", description = "Rows modified and ids deleted since the cursor; without since, the full list")
+    public ResponseEntity<ChangeFeedResponse<OwnerDTO>> getOwnerChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return ResponseEntity.ok(ownerService.getOwnerChanges(since));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA')")
     @Operation(summary = "Get owner by ID", description = "Retrieve owner details by ID")
@@ -46,6 +74,15 @@ public class OwnerController {
         return new ResponseEntity<>(ownerService.createOwner(createOwnerDTO), HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import owners", description = "Create owners from a JSON array or NDJSON stream, "
+            + "reporting errors per row (Admin only).")
+    public ResponseEntity<BulkImportResultDTO> importOwners(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(bulkImportService.importOwners(
+                bulkRequestReader.read(request, CreateOwnerDTO.class)));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'RECEPCIONISTA')")
     @Operation(summary = "Update owner", description = "Update owner details")
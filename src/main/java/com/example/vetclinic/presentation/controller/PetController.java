@@ -1,19 +1,30 @@
 package com.example.vetclinic.presentation.controller;
 
+import com.example.vetclinic.application.dto.ChangeFeedResponse;
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
+import com.example.vetclinic.application.dto.bulk.BulkImportResultDTO;
 import com.example.vetclinic.application.dto.pet.CreatePetDTO;
 import com.example.vetclinic.application.dto.pet.PetDTO;
 import com.example.vetclinic.application.dto.pet.UpdatePetDTO;
+import com.example.vetclinic.application.service.BulkImportService;
 import com.example.vetclinic.application.service.PetService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -24,6 +35,8 @@ import java.util.List;
 public class PetController {
 
     private final PetService petService;
+    private final BulkImportService bulkImportService;
+    private final BulkRequestReader bulkRequestReader;
 
     @GetMapping("/pets")
     @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA')")
@@ -32,6 +45,21 @@ public class PetController {
         return ResponseEntity.ok(petService.getAllPets());
     }
 
+    @GetMapping("/pets/paged")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA')")
+    @Operation(summary = "Get pets page", description = "Retrieve one page of pets, by offset or by id cursor")
+    public ResponseEntity<PagedResponse<PetDTO>> getPetsPage(@ParameterObject @Valid PageQuery query) {
+        return ResponseEntity.ok(petService.getPetsPage(query));
+    }
+
+    @GetMapping("/pets/changes")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA')")
+    @Operation(summary = "Get pet changes", description = "Rows modified and ids deleted since the cursor; without since, the full list")
+    public ResponseEntity<ChangeFeedResponse<PetDTO>> getPetChanges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return ResponseEntity.ok(petService.getPetChanges(since));
+    }
+
     @GetMapping("/pets/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA')")
     @Operation(summary = "Get pet by ID", description = "Retrieve pet details by ID")
@@ -53,6 +81,15 @@ public class PetController {
         return new ResponseEntity<>(petService.createPet(createPetDTO), HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/pets/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import pets", description = "Create pets from a JSON array or NDJSON stream, "
+            + "reporting errors per row (Admin only).")
+    public ResponseEntity<BulkImportResultDTO> importPets(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(bulkImportService.importPets(
+                bulkRequestReader.read(request, CreatePetDTO.class)));
+    }
+
     @PutMapping("/pets/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'RECEPCIONISTA')")
     @Operation(summary = "Update pet", description = "Update pet details")
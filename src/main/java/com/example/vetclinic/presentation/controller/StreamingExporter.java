@@ -0,0 +1,139 @@
+package com.example.vetclinic.presentation.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Writes an export response row by row as the source produces it. The source is run on
+ * the async request thread, so it must open its own transaction (a {@code @Transactional}
+ * service method does). CSV columns follow the JSON property order of the row type.
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamingExporter {
+
+    private final ObjectMapper objectMapper;
+
+    public <T> ResponseEntity<StreamingResponseBody> export(String name, ExportFormat format,
+            Consumer<Consumer<T>> source) {
+        StreamingResponseBody body = out -> {
+            try (RowWriter writer = format == ExportFormat.CSV
+                    ? new CsvRowWriter(out)
+                    : new NdjsonRowWriter(out)) {
+                source.accept(row -> {
+                    try {
+                        writer.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        String filename = name + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    private interface RowWriter extends AutoCloseable {
+        void write(Object row) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+
+        private NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+            this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void write(Object row) throws IOException {
+            writer.writeValue(generator, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private boolean headerWritten;
+
+        private CsvRowWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void write(Object row) throws IOException {
+            JsonNode node = objectMapper.valueToTree(row);
+            if (!headerWritten) {
+                boolean first = true;
+                for (Iterator<String> names = node.fieldNames(); names.hasNext(); first = false) {
+                    writeCell(names.next(), first);
+                }
+                writer.write("\r\n");
+                headerWritten = true;
+            }
+
+            boolean first = true;
+            for (JsonNode value : node) {
+                writeCell(value.isNull() ? "" : value.isValueNode() ? value.asText() : value.toString(), first);
+                first = false;
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeCell(String cell, boolean first) throws IOException {
+            if (!first) {
+                writer.write(',');
+            }
+            if (cell.indexOf(',') < 0 && cell.indexOf('"') < 0
+                    && cell.indexOf('\n') < 0 && cell.indexOf('\r') < 0) {
+                writer.write(cell);
+                return;
+            }
+            writer.write('"');
+            writer.write(cell.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+}
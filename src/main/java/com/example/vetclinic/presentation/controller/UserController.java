@@ -1,5 +1,7 @@
 package com.example.vetclinic.presentation.controller;
 
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
 import com.example.vetclinic.application.dto.user.UpdateUserDTO;
 import com.example.vetclinic.application.dto.user.UserDTO;
 import com.example.vetclinic.application.service.UserService;
@@ -8,6 +10,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -30,6 +33,13 @@ public class UserController {
         return ResponseEntity.ok(userService.getAllUsers());
     }
 
+    @GetMapping("/paged")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get users page", description = "Retrieve one page of users, by offset or by id cursor")
+    public ResponseEntity<PagedResponse<UserDTO>> getUsersPage(@ParameterObject @Valid PageQuery query) {
+        return ResponseEntity.ok(userService.getUsersPage(query));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or @userSecurity.isOwner(authentication, #id)")
     @Operation(summary = "Get user by ID", description = "Retrieve user details by ID")
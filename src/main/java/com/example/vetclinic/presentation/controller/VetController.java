@@ -1,19 +1,26 @@
 package com.example.vetclinic.presentation.controller;
 
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
 import com.example.vetclinic.application.dto.vet.CreateVetDTO;
 import com.example.vetclinic.application.dto.vet.UpdateVetDTO;
+import com.example.vetclinic.application.dto.vet.VetAvailabilityDTO;
 import com.example.vetclinic.application.dto.vet.VetDTO;
+import com.example.vetclinic.application.service.AvailabilityService;
 import com.example.vetclinic.application.service.VetService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -24,6 +31,7 @@ import java.util.List;
 public class VetController {
 
     private final VetService vetService;
+    private final AvailabilityService availabilityService;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA')")
@@ -32,6 +40,13 @@ public class VetController {
         return ResponseEntity.ok(vetService.getAllVets());
     }
 
+    @GetMapping("/paged")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA')")
+    @Operation(summary = "Get veterinarians page", description = "Retrieve one page of veterinarians, by offset or by id cursor")
+    public ResponseEntity<PagedResponse<VetDTO>> getVetsPage(@ParameterObject @Valid PageQuery query) {
+        return ResponseEntity.ok(vetService.getVetsPage(query));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA')")
     @Operation(summary = "Get vet by ID", description = "Retrieve veterinarian details by ID")
@@ -39,6 +54,17 @@ public class VetController {
         return ResponseEntity.ok(vetService.getVetById(id));
     }
 
+    @GetMapping("/{id}/availability")
+    @PreAuthorize("hasAnyRole('ADMIN', 'VET', 'RECEPCIONISTA', 'USER')")
+    @Operation(summary = "Get vet availability", description = "Retrieve the free time slots of a veterinarian for a date and service")
+    public ResponseEntity<VetAvailabilityDTO> getVetAvailability(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Long serviceId,
+            @RequestParam(required = false) Long excludeAppointmentId) {
+        return ResponseEntity.ok(availabilityService.getAvailability(id, date, serviceId, excludeAppointmentId));
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Create vet", description = "Create a new veterinarian")
@@ -0,0 +1,15 @@
+package com.example.vetclinic.security;
+
+/**
+ * How a verified token becomes an {@code Authentication}.
+ * <ul>
+ *   <li>{@code CLAIMS}: user id, username and roles are taken from the token. No database access,
+ *   but role changes and deleted users only take effect when the token expires.</li>
+ *   <li>{@code DATABASE}: the user is reloaded on every request, so changes apply immediately.</li>
+ * </ul>
+ * Tokens issued before the user id claim existed are always resolved from the database.
+ */
+public enum JwtAuthMode {
+    CLAIMS,
+    DATABASE
+}
@@ -1,25 +1,61 @@
 package com.example.vetclinic.security;
 
-import io.jsonwebtoken.*;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Issues and verifies JWTs. The signing key and parser are built once. Verified tokens are
+ * kept in a bounded cache keyed by their SHA-256 digest until they expire, so a client
+ * that repeats the same token skips signature verification and JSON parsing.
+ */
 @Component
 public class JwtTokenProvider {
 
-    @Value("${app.jwt.secret:SecretKeyMustBeAtLeast256BitsLongForSecurityReasons1234567890}")
-    private String jwtSecret;
+    static final String ROLES_CLAIM = "roles";
+    static final String USER_ID_CLAIM = "uid";
 
-    @Value("${app.jwt.expiration:86400000}") // 24 hours
-    private int jwtExpirationInMs;
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final int jwtExpirationInMs;
+    private final Cache<ByteBuffer, Claims> verifiedTokens;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    public JwtTokenProvider(
+            @Value("${app.jwt.secret:SecretKeyMustBeAtLeast256BitsLongForSecurityReasons1234567890}") String jwtSecret,
+            @Value("${app.jwt.expiration:86400000}") int jwtExpirationInMs,
+            @Value("${app.jwt.verified-cache-size:10000}") int verifiedCacheSize) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.jwtExpirationInMs = jwtExpirationInMs;
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheSize)
+                        .expireAfter(new UntilTokenExpiry())
+                        .build()
+                : null;
     }
 
     public String generateToken(Authentication authentication) {
@@ -32,38 +68,92 @@ public class JwtTokenProvider {
                 .reduce((a, b) -> a + "," + b)
                 .orElse("");
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
-                .claim("roles", roles)
-                .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+                .claim(ROLES_CLAIM, roles)
+                .setIssuedAt(now)
+                .setExpiration(expiryDate);
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            builder.claim(USER_ID_CLAIM, principal.getId());
+        }
+        return builder.signWith(signingKey, SignatureAlgorithm.HS256).compact();
+    }
+
+    /**
+     * Verifies the token once and returns its claims, or null when it is malformed, badly
+     * signed or expired.
+     */
+    public Claims verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+
+        ByteBuffer digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parse(token);
+        if (claims != null && claims.getExpiration() != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
     }
 
-    public String getUsernameFromJWT(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Builds the principal from verified claims alone, or returns null when the token has no
+     * user id claim (issued before it was added) and the user has to be loaded instead.
+     */
+    public UserPrincipal getPrincipal(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        if (userId == null) {
+            return null;
+        }
+        String roles = claims.get(ROLES_CLAIM, String.class);
+        List<SimpleGrantedAuthority> authorities = !StringUtils.hasText(roles)
+                ? List.of()
+                : Arrays.stream(roles.split(",")).map(SimpleGrantedAuthority::new).toList();
+        return new UserPrincipal(userId, claims.getSubject(), null, authorities);
+    }
 
-        return claims.getSubject();
+    private Claims parse(String token) {
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            // Invalid signature, malformed, unsupported or expired token
+            return null;
+        }
     }
 
-    public boolean validateToken(String authToken) {
+    private static ByteBuffer digest(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(authToken);
-            return true;
-        } catch (SecurityException | MalformedJwtException ex) {
-            // Invalid JWT signature
-        } catch (ExpiredJwtException ex) {
-            // Expired JWT token
-        } catch (UnsupportedJwtException ex) {
-            // Unsupported JWT token
-        } catch (IllegalArgumentException ex) {
-            // JWT claims string is empty
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, Claims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+            long millis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
-        return false;
     }
 }
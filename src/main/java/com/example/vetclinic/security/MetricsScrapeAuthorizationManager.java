@@ -0,0 +1,51 @@
+package com.example.vetclinic.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * Access to {@code /actuator/prometheus}: a user with role ADMIN, or the static bearer
+ * credential configured in {@code app.metrics.scrape-token}, which Prometheus sends on every
+ * scrape and never has to renew. Without that property only ADMIN can read the metrics.
+ */
+@Component
+public class MetricsScrapeAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthorizationManager<RequestAuthorizationContext> admin =
+            AuthorityAuthorizationManager.hasRole("ADMIN");
+    private final byte[] scrapeToken;
+
+    public MetricsScrapeAuthorizationManager(@Value("${app.metrics.scrape-token:}") String scrapeToken) {
+        this.scrapeToken = scrapeToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        if (scrapeToken.length > 0 && presentsScrapeToken(context.getRequest())) {
+            return new AuthorizationDecision(true);
+        }
+        return admin.check(authentication, context);
+    }
+
+    private boolean presentsScrapeToken(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        // Constant time, so the token cannot be guessed byte by byte from response times
+        return MessageDigest.isEqual(scrapeToken,
+                header.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8));
+    }
+}
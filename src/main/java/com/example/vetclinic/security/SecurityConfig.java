@@ -1,6 +1,7 @@
 package com.example.vetclinic.security;
 
 import com.example.vetclinic.infrastructure.persistence.UserJpaRepository;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,13 +20,16 @@ public class SecurityConfig {
     private final UserJpaRepository userRepo;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final MetricsScrapeAuthorizationManager metricsScrapeAuthorizationManager;
 
     public SecurityConfig(UserJpaRepository userRepo,
             JwtAuthenticationFilter jwtAuthenticationFilter,
-            JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint) {
+            JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
+            MetricsScrapeAuthorizationManager metricsScrapeAuthorizationManager) {
         this.userRepo = userRepo;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
+        this.metricsScrapeAuthorizationManager = metricsScrapeAuthorizationManager;
     }
 
     @Bean
@@ -34,6 +38,13 @@ public class SecurityConfig {
                 .csrf().disable()
                 .exceptionHandling(eh -> eh.authenticationEntryPoint(jwtAuthenticationEntryPoint))
                 .authorizeHttpRequests(auth -> auth
+                        // Re-dispatches of an already authorized request (streamed responses, SSE,
+                        // error pages) do not pass through the JWT filter again
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR)
+                        .permitAll()
+                        .requestMatchers(new org.springframework.security.web.util.matcher.AntPathRequestMatcher(
+                                "/api/auth/logout"))
+                        .authenticated()
                         .requestMatchers(
                                 new org.springframework.security.web.util.matcher.AntPathRequestMatcher("/api/auth/**"))
                         .permitAll()
@@ -52,6 +63,15 @@ public class SecurityConfig {
                         .requestMatchers(new org.springframework.security.web.util.matcher.AntPathRequestMatcher(
                                 "/h2-console/**"))
                         .permitAll()
+                        .requestMatchers(new org.springframework.security.web.util.matcher.AntPathRequestMatcher(
+                                "/actuator/health"))
+                        .permitAll()
+                        .requestMatchers(new org.springframework.security.web.util.matcher.AntPathRequestMatcher(
+                                "/actuator/prometheus"))
+                        .access(metricsScrapeAuthorizationManager)
+                        .requestMatchers(new org.springframework.security.web.util.matcher.AntPathRequestMatcher(
+                                "/actuator/**"))
+                        .hasRole("ADMIN")
                         .anyRequest().authenticated())
                 .headers(headers -> headers.frameOptions().disable())
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -62,8 +82,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor);
     }
 
     @Bean
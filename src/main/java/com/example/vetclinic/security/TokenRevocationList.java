@@ -0,0 +1,143 @@
+package com.example.vetclinic.security;
+
+import com.example.vetclinic.domain.model.RevokedToken;
+import com.example.vetclinic.infrastructure.persistence.RevokedTokenJpaRepository;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Denylist of revoked JWTs, checked on every authenticated request without touching the
+ * database. Revoked token ids are grouped in buckets by expiry time; each bucket has a
+ * Bloom filter in front of its exact set, so a token that was never revoked is rejected
+ * by a few bit probes. A whole bucket is dropped once every token in it has expired.
+ * Revocations are persisted, loaded at startup and re-synced periodically so that other
+ * instances pick them up.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationList {
+
+    private final RevokedTokenJpaRepository revokedTokenRepository;
+
+    private final ConcurrentSkipListMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+    private volatile LocalDateTime lastSync;
+
+    @Value("${app.jwt.revocation.bucket-minutes:60}")
+    private long bucketMinutes = 60;
+
+    @Value("${app.jwt.revocation.expected-per-bucket:10000}")
+    private int expectedPerBucket = 10000;
+
+    @Value("${app.jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    @Value("${app.jwt.revocation.refresh-interval-ms:60000}")
+    private long refreshIntervalMs = 60000;
+
+    public boolean isRevoked(Claims claims) {
+        String tokenId = claims.getId();
+        Date expiration = claims.getExpiration();
+        if (tokenId == null || expiration == null || buckets.isEmpty()) {
+            return false;
+        }
+        Bucket bucket = buckets.get(bucketOf(expiration.getTime()));
+        return bucket != null && bucket.contains(tokenId);
+    }
+
+    /**
+     * Revokes the token until it expires. Tokens without an id (issued before revocation
+     * was supported) cannot be revoked and are left to expire.
+     */
+    public void revoke(Claims claims) {
+        String tokenId = claims.getId();
+        Date expiration = claims.getExpiration();
+        if (tokenId == null || expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(toLocalDateTime(expiration.getTime()))
+                .revokedAt(LocalDateTime.now())
+                .build());
+        add(tokenId, expiration.getTime());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.refresh-interval-ms:60000}",
+            initialDelayString = "${app.jwt.revocation.refresh-interval-ms:60000}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        buckets.headMap(bucketOf(System.currentTimeMillis())).clear();
+        int purged = revokedTokenRepository.deleteExpired(now);
+
+        // Overlap the previous window so revocations committed late by another instance are not missed
+        List<RevokedToken> revoked = lastSync == null
+                ? revokedTokenRepository.findByExpiresAtAfter(now)
+                : revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(
+                        lastSync.minus(Duration.ofMillis(refreshIntervalMs)), now);
+        int loaded = 0;
+        for (RevokedToken token : revoked) {
+            add(token.getTokenId(), token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            loaded++;
+        }
+        lastSync = now;
+        log.debug("Token revocation list refreshed: {} loaded, {} purged, {} buckets", loaded, purged, buckets.size());
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private void add(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        buckets.computeIfAbsent(bucketOf(expiresAtMillis), b -> new Bucket(expectedPerBucket, falsePositiveRate))
+                .add(tokenId);
+    }
+
+    private long bucketOf(long epochMillis) {
+        return epochMillis / (bucketMinutes * 60_000);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static final class Bucket {
+
+        private final BloomFilter filter;
+        private final Set<String> tokenIds = ConcurrentHashMap.newKeySet();
+
+        Bucket(int expectedInsertions, double falsePositiveRate) {
+            this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+
+        void add(String tokenId) {
+            tokenIds.add(tokenId);
+            filter.put(tokenId);
+        }
+
+        boolean contains(String tokenId) {
+            return filter.mightContain(tokenId) && tokenIds.contains(tokenId);
+        }
+    }
+}
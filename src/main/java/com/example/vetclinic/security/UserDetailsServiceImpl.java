@@ -29,8 +29,6 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .map(r -> new SimpleGrantedAuthority(r.getName()))
                 .collect(Collectors.toSet());
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(), user.getPassword(), authorities
-        );
+        return new UserPrincipal(user.getId(), user.getUsername(), user.getPassword(), authorities);
     }
 }
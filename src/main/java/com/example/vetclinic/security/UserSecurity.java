@@ -19,6 +19,9 @@ public class UserSecurity {
         }
 
         Object principal = authentication.getPrincipal();
+        if (principal instanceof UserPrincipal userPrincipal) {
+            return userPrincipal.getId().equals(userId);
+        }
         if (!(principal instanceof UserDetails)) {
             return false;
         }
@@ -0,0 +1,150 @@
+-- ============================================
+-- ESQUEMA BASE
+-- Debe mantenerse igual en db/migration/h2 y db/migration/postgresql
+-- ============================================
+
+CREATE TABLE roles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, role_id),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_roles_role FOREIGN KEY (role_id) REFERENCES roles (id)
+);
+
+CREATE TABLE specialties (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_specialties_name UNIQUE (name)
+);
+
+CREATE TABLE vets (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE vet_specialties (
+    vet_id BIGINT NOT NULL,
+    specialty_id BIGINT NOT NULL,
+    PRIMARY KEY (vet_id, specialty_id),
+    CONSTRAINT fk_vet_specialties_vet FOREIGN KEY (vet_id) REFERENCES vets (id),
+    CONSTRAINT fk_vet_specialties_specialty FOREIGN KEY (specialty_id) REFERENCES specialties (id)
+);
+
+CREATE TABLE owners (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    phone VARCHAR(255),
+    email VARCHAR(255),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    created_by VARCHAR(255),
+    modified_by VARCHAR(255)
+);
+
+CREATE TABLE pets (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    species VARCHAR(255),
+    breed VARCHAR(255),
+    birth_date DATE,
+    owner_id BIGINT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    created_by VARCHAR(255),
+    modified_by VARCHAR(255),
+    CONSTRAINT fk_pets_owner FOREIGN KEY (owner_id) REFERENCES owners (id)
+);
+
+CREATE TABLE veterinary_services (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(500),
+    service_type VARCHAR(255) NOT NULL,
+    base_cost NUMERIC(10, 2) NOT NULL,
+    estimated_duration_minutes INTEGER,
+    active BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    created_by VARCHAR(255),
+    modified_by VARCHAR(255)
+);
+
+CREATE TABLE clinic (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    phone VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    opening_time TIME(6) NOT NULL,
+    closing_time TIME(6) NOT NULL,
+    max_daily_appointments INTEGER NOT NULL,
+    active BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    created_by VARCHAR(255),
+    modified_by VARCHAR(255)
+);
+
+CREATE TABLE appointments (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    appointment_date TIMESTAMP(6) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    notes VARCHAR(1000),
+    pet_id BIGINT NOT NULL,
+    vet_id BIGINT NOT NULL,
+    service_id BIGINT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    created_by VARCHAR(255),
+    modified_by VARCHAR(255),
+    CONSTRAINT fk_appointments_pet FOREIGN KEY (pet_id) REFERENCES pets (id),
+    CONSTRAINT fk_appointments_vet FOREIGN KEY (vet_id) REFERENCES vets (id),
+    CONSTRAINT fk_appointments_service FOREIGN KEY (service_id) REFERENCES veterinary_services (id)
+);
+
+CREATE TABLE medical_records (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    record_date TIMESTAMP(6) NOT NULL,
+    diagnosis VARCHAR(1000),
+    treatment VARCHAR(1000),
+    notes VARCHAR(2000),
+    weight NUMERIC(5, 2),
+    temperature NUMERIC(4, 2),
+    vaccine_administered VARCHAR(255),
+    pet_id BIGINT NOT NULL,
+    vet_id BIGINT NOT NULL,
+    appointment_id BIGINT,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    created_by VARCHAR(255),
+    modified_by VARCHAR(255),
+    CONSTRAINT fk_medical_records_pet FOREIGN KEY (pet_id) REFERENCES pets (id),
+    CONSTRAINT fk_medical_records_vet FOREIGN KEY (vet_id) REFERENCES vets (id),
+    CONSTRAINT fk_medical_records_appointment FOREIGN KEY (appointment_id) REFERENCES appointments (id)
+);
+
+CREATE TABLE visits (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    visit_date TIMESTAMP(6),
+    description VARCHAR(255),
+    pet_id BIGINT,
+    vet_id BIGINT,
+    CONSTRAINT fk_visits_pet FOREIGN KEY (pet_id) REFERENCES pets (id),
+    CONSTRAINT fk_visits_vet FOREIGN KEY (vet_id) REFERENCES vets (id)
+);
@@ -0,0 +1,10 @@
+-- Tokens JWT revocados (logout) hasta su caducidad; token_id es el claim "jti"
+CREATE TABLE revoked_tokens (
+    token_id VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMP(6) NOT NULL,
+    revoked_at TIMESTAMP(6) NOT NULL
+);
+
+-- Carga y sincronización de revocaciones recientes, y purga de las caducadas
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
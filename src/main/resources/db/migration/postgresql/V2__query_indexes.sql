@@ -0,0 +1,12 @@
+-- Índices para los filtros y ordenaciones más frecuentes
+
+-- Disponibilidad y citas por veterinario (vet_id = ? AND appointment_date BETWEEN ...)
+CREATE INDEX idx_appointments_vet_date ON appointments (vet_id, appointment_date);
+CREATE INDEX idx_appointments_pet ON appointments (pet_id);
+CREATE INDEX idx_appointments_status ON appointments (status);
+
+-- Historial de una mascota ordenado por fecha (pet_id = ? ORDER BY record_date DESC)
+CREATE INDEX idx_medical_records_pet_date ON medical_records (pet_id, record_date DESC);
+CREATE INDEX idx_medical_records_vet ON medical_records (vet_id);
+
+CREATE INDEX idx_pets_owner ON pets (owner_id);
@@ -0,0 +1,13 @@
+-- Hora de fin de la cita, calculada con la duración del servicio (30 minutos si no es positiva)
+ALTER TABLE appointments ADD COLUMN end_date TIMESTAMP(6);
+
+UPDATE appointments a
+SET end_date = a.appointment_date + make_interval(mins =>
+        COALESCE((SELECT CASE WHEN s.estimated_duration_minutes > 0 THEN s.estimated_duration_minutes END
+                  FROM veterinary_services s WHERE s.id = a.service_id), 30));
+
+ALTER TABLE appointments ALTER COLUMN end_date SET NOT NULL;
+
+-- Búsqueda de solapes: vet_id = ? AND appointment_date < :fin AND end_date > :inicio
+DROP INDEX idx_appointments_vet_date;
+CREATE INDEX idx_appointments_vet_period ON appointments (vet_id, appointment_date, end_date);
@@ -0,0 +1,28 @@
+-- Feed de cambios (?since=): filas modificadas desde un instante, por updated_at, y borrados
+
+-- Las inserciones masivas por JDBC no rellenan updated_at; a partir de ahora lo hace la base de datos
+UPDATE owners SET updated_at = created_at WHERE updated_at IS NULL;
+UPDATE pets SET updated_at = created_at WHERE updated_at IS NULL;
+UPDATE appointments SET updated_at = created_at WHERE updated_at IS NULL;
+UPDATE medical_records SET updated_at = created_at WHERE updated_at IS NULL;
+
+ALTER TABLE owners ALTER COLUMN updated_at SET DEFAULT LOCALTIMESTAMP;
+ALTER TABLE pets ALTER COLUMN updated_at SET DEFAULT LOCALTIMESTAMP;
+ALTER TABLE appointments ALTER COLUMN updated_at SET DEFAULT LOCALTIMESTAMP;
+ALTER TABLE medical_records ALTER COLUMN updated_at SET DEFAULT LOCALTIMESTAMP;
+
+-- updated_at >= ?
+CREATE INDEX idx_owners_updated_at ON owners (updated_at);
+CREATE INDEX idx_pets_updated_at ON pets (updated_at);
+CREATE INDEX idx_appointments_updated_at ON appointments (updated_at);
+CREATE INDEX idx_medical_records_updated_at ON medical_records (updated_at);
+
+-- Registro de borrados (tombstones) para que los clientes eliminen su copia local
+CREATE TABLE tombstones (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type VARCHAR(32) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    deleted_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_tombstones_type_deleted_at ON tombstones (entity_type, deleted_at);
@@ -237,9 +237,10 @@ SELECT 'Veterinary Clinic San Francisco', 'Av. Principal 123, San Francisco', '5
 WHERE NOT EXISTS (SELECT 1 FROM clinic);
 
 -- Citas (Appointments)
-INSERT INTO appointments (appointment_date, status, notes, pet_id, vet_id, service_id, created_at, updated_at)
+INSERT INTO appointments (appointment_date, end_date, status, notes, pet_id, vet_id, service_id, created_at, updated_at)
 SELECT 
     DATEADD('DAY', 2, CURRENT_TIMESTAMP), 
+    DATEADD('MINUTE', COALESCE(s.estimated_duration_minutes, 30), DATEADD('DAY', 2, CURRENT_TIMESTAMP)),
     'PENDING',
     'Primera consulta para revisión general',
     p.id,
@@ -251,9 +252,10 @@ FROM pets p, vets v, veterinary_services s
 WHERE p.name = 'Max' AND v.first_name = 'María' AND s.name = 'Consulta General'
 AND NOT EXISTS (SELECT 1 FROM appointments a WHERE a.pet_id = p.id AND a.vet_id = v.id AND a.appointment_date = DATEADD('DAY', 2, CURRENT_TIMESTAMP));
 
-INSERT INTO appointments (appointment_date, status, notes, pet_id, vet_id, service_id, created_at, updated_at)
+INSERT INTO appointments (appointment_date, end_date, status, notes, pet_id, vet_id, service_id, created_at, updated_at)
 SELECT 
     DATEADD('DAY', 5, CURRENT_TIMESTAMP), 
+    DATEADD('MINUTE', COALESCE(s.estimated_duration_minutes, 30), DATEADD('DAY', 5, CURRENT_TIMESTAMP)),
     'CONFIRMED',
     'Vacunación anual programada',
     p.id,
@@ -265,9 +267,10 @@ FROM pets p, vets v, veterinary_services s
 WHERE p.name = 'Luna' AND v.first_name = 'Carlos' AND s.name = 'Vacunación Anual'
 AND NOT EXISTS (SELECT 1 FROM appointments a WHERE a.pet_id = p.id AND a.vet_id = v.id AND a.appointment_date = DATEADD('DAY', 5, CURRENT_TIMESTAMP));
 
-INSERT INTO appointments (appointment_date, status, notes, pet_id, vet_id, service_id, created_at, updated_at)
+INSERT INTO appointments (appointment_date, end_date, status, notes, pet_id, vet_id, service_id, created_at, updated_at)
 SELECT 
     DATEADD('DAY', 1, CURRENT_TIMESTAMP), 
+    DATEADD('MINUTE', COALESCE(s.estimated_duration_minutes, 30), DATEADD('DAY', 1, CURRENT_TIMESTAMP)),
     'PENDING',
     'Consulta de seguimiento',
     p.id,
@@ -279,9 +282,10 @@ FROM pets p, vets v, veterinary_services s
 WHERE p.name = 'Rocky' AND v.first_name = 'Laura' AND s.name = 'Consulta General'
 AND NOT EXISTS (SELECT 1 FROM appointments a WHERE a.pet_id = p.id AND a.vet_id = v.id AND a.appointment_date = DATEADD('DAY', 1, CURRENT_TIMESTAMP));
 
-INSERT INTO appointments (appointment_date, status, notes, pet_id, vet_id, service_id, created_at, updated_at)
+INSERT INTO appointments (appointment_date, end_date, status, notes, pet_id, vet_id, service_id, created_at, updated_at)
 SELECT 
     DATEADD('DAY', -3, CURRENT_TIMESTAMP), 
+    DATEADD('MINUTE', COALESCE(s.estimated_duration_minutes, 30), DATEADD('DAY', -3, CURRENT_TIMESTAMP)),
     'COMPLETED',
     'Consulta completada exitosamente',
     p.id,
@@ -1,7 +1,12 @@
 package com.example.vetclinic.application.service;
 
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
 import com.example.vetclinic.application.dto.appointment.AppointmentDTO;
+import com.example.vetclinic.application.dto.appointment.AppointmentEvent;
 import com.example.vetclinic.application.dto.appointment.CreateAppointmentDTO;
+import com.example.vetclinic.application.dto.appointment.UpdateAppointmentDTO;
+import com.example.vetclinic.domain.exception.ConflictException;
 import com.example.vetclinic.domain.model.*;
 import com.example.vetclinic.infrastructure.mapper.AppointmentMapper;
 import com.example.vetclinic.infrastructure.persistence.*;
@@ -12,15 +17,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +53,18 @@ class AppointmentServiceTest {
     @Mock
     private AppointmentMapper appointmentMapper;
 
+    @Mock
+    private AvailabilityService availabilityService;
+
+    @Mock
+    private VetScheduleLock vetScheduleLock;
+
+    @Mock
+    private DailyCapacityLedger capacityLedger;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AppointmentService appointmentService;
 
@@ -112,6 +136,20 @@ class AppointmentServiceTest {
         verify(appointmentRepository).findById(1L);
     }
 
+    @Test
+    void getAppointmentsByVet_ShouldReturnProjectedDTOs() {
+        // Given
+        when(vetRepository.existsById(1L)).thenReturn(true);
+        when(appointmentRepository.findDTOsByVetId(1L)).thenReturn(List.of(appointmentDTO));
+
+        // When
+        List<AppointmentDTO> result = appointmentService.getAppointmentsByVet(1L);
+
+        // Then
+        assertThat(result).containsExactly(appointmentDTO);
+        verifyNoInteractions(appointmentMapper);
+    }
+
     @Test
     void createAppointment_ShouldReturnCreatedAppointment() {
         // Given
@@ -133,6 +171,118 @@ class AppointmentServiceTest {
         verify(appointmentRepository).save(any(Appointment.class));
     }
 
+    @Test
+    void createAppointment_ShouldStoreEndDateFromServiceDurationUnderVetDayLock() {
+        // Given
+        when(petRepository.findById(1L)).thenReturn(Optional.of(pet));
+        when(vetRepository.findById(1L)).thenReturn(Optional.of(vet));
+        when(serviceRepository.findById(1L)).thenReturn(Optional.of(service));
+        when(appointmentMapper.toEntity(createAppointmentDTO)).thenReturn(appointment);
+        when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
+        LocalDateTime start = appointment.getAppointmentDate();
+
+        // When
+        appointmentService.createAppointment(createAppointmentDTO);
+
+        // Then
+        assertThat(appointment.getEndDate()).isEqualTo(start.plusMinutes(15));
+        var inOrder = inOrder(vetScheduleLock, appointmentRepository);
+        inOrder.verify(vetScheduleLock).lock(1L, start.toLocalDate());
+        inOrder.verify(appointmentRepository).existsOverlapping(1L, start, start.plusMinutes(15), 1L);
+        inOrder.verify(appointmentRepository).save(appointment);
+        verify(capacityLedger).reserve(start.toLocalDate());
+    }
+
+    @Test
+    void createAppointment_ShouldLockEveryDayInOrder_WhenBookingCrossesMidnight() {
+        // Given
+        LocalDateTime start = LocalDate.now().plusDays(2).atTime(23, 50);
+        appointment.setAppointmentDate(start);
+        when(petRepository.findById(1L)).thenReturn(Optional.of(pet));
+        when(vetRepository.findById(1L)).thenReturn(Optional.of(vet));
+        when(serviceRepository.findById(1L)).thenReturn(Optional.of(service));
+        when(appointmentMapper.toEntity(createAppointmentDTO)).thenReturn(appointment);
+        when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
+
+        // When
+        appointmentService.createAppointment(createAppointmentDTO);
+
+        // Then
+        var inOrder = inOrder(vetScheduleLock, appointmentRepository);
+        inOrder.verify(vetScheduleLock).lock(1L, start.toLocalDate());
+        inOrder.verify(vetScheduleLock).lock(1L, start.toLocalDate().plusDays(1));
+        inOrder.verify(appointmentRepository).existsOverlapping(1L, start, start.plusMinutes(15), 1L);
+        verify(vetScheduleLock, times(2)).lock(any(), any());
+    }
+
+    @Test
+    void createAppointment_ShouldLockOnlyTheStartDay_WhenBookingEndsAtMidnight() {
+        // Given
+        LocalDateTime start = LocalDate.now().plusDays(2).atTime(23, 45);
+        appointment.setAppointmentDate(start);
+        when(petRepository.findById(1L)).thenReturn(Optional.of(pet));
+        when(vetRepository.findById(1L)).thenReturn(Optional.of(vet));
+        when(serviceRepository.findById(1L)).thenReturn(Optional.of(service));
+        when(appointmentMapper.toEntity(createAppointmentDTO)).thenReturn(appointment);
+        when(appointmentRepository.save(any(Appointment.class))).thenReturn(appointment);
+
+        // When
+        appointmentService.createAppointment(createAppointmentDTO);
+
+        // Then
+        verify(vetScheduleLock).lock(1L, start.toLocalDate());
+        verify(vetScheduleLock, times(1)).lock(any(), any());
+    }
+
+    @Test
+    void createAppointment_ShouldNotSave_WhenDailyLimitReached() {
+        // Given
+        when(petRepository.findById(1L)).thenReturn(Optional.of(pet));
+        when(vetRepository.findById(1L)).thenReturn(Optional.of(vet));
+        when(serviceRepository.findById(1L)).thenReturn(Optional.of(service));
+        when(appointmentMapper.toEntity(createAppointmentDTO)).thenReturn(appointment);
+        doThrow(new ConflictException("Daily appointment limit of 30 reached"))
+                .when(capacityLedger).reserve(any());
+
+        // When & Then
+        assertThatThrownBy(() -> appointmentService.createAppointment(createAppointmentDTO))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("Daily appointment limit");
+        verify(appointmentRepository, never()).save(any(Appointment.class));
+    }
+
+    @Test
+    void createAppointment_ShouldThrowConflict_WhenVetIsAlreadyBooked() {
+        // Given
+        when(petRepository.findById(1L)).thenReturn(Optional.of(pet));
+        when(vetRepository.findById(1L)).thenReturn(Optional.of(vet));
+        when(serviceRepository.findById(1L)).thenReturn(Optional.of(service));
+        when(appointmentMapper.toEntity(createAppointmentDTO)).thenReturn(appointment);
+        when(appointmentRepository.existsOverlapping(eq(1L), any(), any(), any())).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> appointmentService.createAppointment(createAppointmentDTO))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("already has an appointment");
+        verify(appointmentRepository, never()).save(any(Appointment.class));
+    }
+
+    @Test
+    void updateAppointment_ShouldSkipConflictCheck_WhenScheduleUnchanged() {
+        // Given
+        UpdateAppointmentDTO updateDTO = new UpdateAppointmentDTO();
+        updateDTO.setNotes("Traer cartilla");
+        when(appointmentRepository.findById(1L)).thenReturn(Optional.of(appointment));
+        when(appointmentRepository.save(appointment)).thenReturn(appointment);
+
+        // When
+        appointmentService.updateAppointment(1L, updateDTO);
+
+        // Then
+        verifyNoInteractions(vetScheduleLock);
+        verify(appointmentRepository, never()).existsOverlapping(any(), any(), any(), any());
+    }
+
     @Test
     void confirmAppointment_ShouldChangeStatusToConfirmed() {
         // Given
@@ -148,6 +298,67 @@ class AppointmentServiceTest {
         verify(appointmentRepository).save(appointment);
     }
 
+    @Test
+    void confirmAppointment_ShouldThrowConflict_WhenCancelledSlotWasRebooked() {
+        // Given
+        appointment.setStatus(AppointmentStatus.CANCELLED);
+        when(appointmentRepository.findById(1L)).thenReturn(Optional.of(appointment));
+        when(appointmentRepository.existsOverlapping(eq(1L), any(), any(), eq(1L))).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> appointmentService.confirmAppointment(1L))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("already has an appointment");
+        verify(vetScheduleLock).lock(1L, appointment.getAppointmentDate().toLocalDate());
+        assertThat(appointment.getStatus()).isEqualTo(AppointmentStatus.CANCELLED);
+        verify(appointmentRepository, never()).save(any(Appointment.class));
+    }
+
+    @Test
+    void confirmAppointment_ShouldReserveSlot_WhenReinstatingCancelledAppointment() {
+        // Given
+        appointment.setStatus(AppointmentStatus.CANCELLED);
+        when(appointmentRepository.findById(1L)).thenReturn(Optional.of(appointment));
+        when(appointmentRepository.save(appointment)).thenReturn(appointment);
+
+        // When
+        appointmentService.confirmAppointment(1L);
+
+        // Then
+        assertThat(appointment.getStatus()).isEqualTo(AppointmentStatus.CONFIRMED);
+        verify(vetScheduleLock).lock(1L, appointment.getAppointmentDate().toLocalDate());
+        verify(capacityLedger).reserve(appointment.getAppointmentDate().toLocalDate());
+        verify(availabilityService).invalidate(1L, appointment.getAppointmentDate().toLocalDate());
+    }
+
+    @Test
+    void confirmAppointment_ShouldNotReinstate_WhenDailyLimitReached() {
+        // Given
+        appointment.setStatus(AppointmentStatus.CANCELLED);
+        when(appointmentRepository.findById(1L)).thenReturn(Optional.of(appointment));
+        doThrow(new ConflictException("Daily appointment limit of 30 reached"))
+                .when(capacityLedger).reserve(any());
+
+        // When & Then
+        assertThatThrownBy(() -> appointmentService.confirmAppointment(1L))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("Daily appointment limit");
+        verify(appointmentRepository, never()).save(any(Appointment.class));
+    }
+
+    @Test
+    void confirmAppointment_ShouldNotReserveCapacity_WhenAlreadyActive() {
+        // Given
+        when(appointmentRepository.findById(1L)).thenReturn(Optional.of(appointment));
+        when(appointmentRepository.save(appointment)).thenReturn(appointment);
+
+        // When
+        appointmentService.confirmAppointment(1L);
+
+        // Then
+        verifyNoInteractions(capacityLedger, vetScheduleLock);
+    }
+
     @Test
     void cancelAppointment_ShouldChangeStatusToCancelled() {
         // Given
@@ -161,6 +372,22 @@ class AppointmentServiceTest {
         // Then
         assertThat(appointment.getStatus()).isEqualTo(AppointmentStatus.CANCELLED);
         verify(appointmentRepository).save(appointment);
+        verify(capacityLedger).release(appointment.getAppointmentDate().toLocalDate());
+        verify(eventPublisher).publishEvent(new AppointmentEvent(AppointmentEvent.Type.CANCELLED, appointmentDTO));
+    }
+
+    @Test
+    void cancelAppointment_ShouldNotReleaseCapacityTwice_WhenAlreadyCancelled() {
+        // Given
+        appointment.setStatus(AppointmentStatus.CANCELLED);
+        when(appointmentRepository.findById(1L)).thenReturn(Optional.of(appointment));
+        when(appointmentRepository.save(appointment)).thenReturn(appointment);
+
+        // When
+        appointmentService.cancelAppointment(1L);
+
+        // Then
+        verifyNoInteractions(capacityLedger);
     }
 
     @Test
@@ -174,4 +401,42 @@ class AppointmentServiceTest {
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("Pet not found");
     }
+
+    @Test
+    void getAppointmentsPage_ShouldReadByCursor_WhenCursorGiven() {
+        // Given
+        PageQuery query = PageQuery.builder().cursor(0L).size(1).includeTotal(false).build();
+        when(appointmentRepository.findByIdGreaterThan(eq(0L), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(appointment), PageRequest.of(0, 1), true));
+        when(appointmentMapper.toDTO(appointment)).thenReturn(appointmentDTO);
+
+        // When
+        PagedResponse<AppointmentDTO> result = appointmentService.getAppointmentsPage(query);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(appointmentDTO);
+        assertThat(result.getNextCursor()).isEqualTo(1L);
+        assertThat(result.getTotalElements()).isNull();
+        assertThat(result.isLast()).isFalse();
+        verify(appointmentRepository, never()).count();
+    }
+
+    @Test
+    void getAppointmentsPage_ShouldReadByOffsetWithTotal_WhenNoCursor() {
+        // Given
+        PageQuery query = PageQuery.builder().page(0).size(20).build();
+        when(appointmentRepository.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(appointment), PageRequest.of(0, 20), 1));
+        when(appointmentMapper.toDTO(appointment)).thenReturn(appointmentDTO);
+
+        // When
+        PagedResponse<AppointmentDTO> result = appointmentService.getAppointmentsPage(query);
+
+        // Then
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+        assertThat(result.getTotalPages()).isEqualTo(1);
+        assertThat(result.isFirst()).isTrue();
+        assertThat(result.isLast()).isTrue();
+        assertThat(result.getNextCursor()).isNull();
+    }
 }
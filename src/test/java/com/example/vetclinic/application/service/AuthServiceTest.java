@@ -3,6 +3,7 @@ package com.example.vetclinic.application.service;
 import com.example.vetclinic.application.dto.auth.JwtAuthenticationResponse;
 import com.example.vetclinic.application.dto.auth.LoginRequest;
 import com.example.vetclinic.application.dto.auth.SignUpRequest;
+import com.example.vetclinic.domain.exception.BusinessException;
 import com.example.vetclinic.domain.model.Role;
 import com.example.vetclinic.domain.model.User;
 import com.example.vetclinic.infrastructure.persistence.RoleJpaRepository;
@@ -119,7 +120,8 @@ class AuthServiceTest {
         when(userRepository.existsByUsername("testuser")).thenReturn(false);
         when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
-        when(roleRepository.findByName("ROLE_USER")).thenReturn(Optional.of(role));
+        when(roleRepository.findIdByName("ROLE_USER")).thenReturn(Optional.of(1L));
+        when(roleRepository.getReferenceById(1L)).thenReturn(role);
         when(userRepository.save(any(User.class))).thenReturn(user);
 
         // When
@@ -132,7 +134,7 @@ class AuthServiceTest {
         verify(userRepository).existsByUsername("testuser");
         verify(userRepository).existsByEmail("test@example.com");
         verify(passwordEncoder).encode("password123");
-        verify(roleRepository).findByName("ROLE_USER");
+        verify(roleRepository).findIdByName("ROLE_USER");
         verify(userRepository).save(any(User.class));
     }
 
@@ -143,7 +145,7 @@ class AuthServiceTest {
 
         // When & Then
         assertThatThrownBy(() -> authService.registerUser(signUpRequest))
-                .isInstanceOf(RuntimeException.class)
+                .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Username is already taken");
         verify(userRepository).existsByUsername("testuser");
         verify(userRepository, never()).existsByEmail(any());
@@ -158,7 +160,7 @@ class AuthServiceTest {
 
         // When & Then
         assertThatThrownBy(() -> authService.registerUser(signUpRequest))
-                .isInstanceOf(RuntimeException.class)
+                .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("Email Address already in use");
         verify(userRepository).existsByUsername("testuser");
         verify(userRepository).existsByEmail("test@example.com");
@@ -171,13 +173,13 @@ class AuthServiceTest {
         when(userRepository.existsByUsername("testuser")).thenReturn(false);
         when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
-        when(roleRepository.findByName("ROLE_USER")).thenReturn(Optional.empty());
+        when(roleRepository.findIdByName("ROLE_USER")).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> authService.registerUser(signUpRequest))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("User Role not set");
-        verify(roleRepository).findByName("ROLE_USER");
+        verify(roleRepository).findIdByName("ROLE_USER");
         verify(userRepository, never()).save(any());
     }
 }
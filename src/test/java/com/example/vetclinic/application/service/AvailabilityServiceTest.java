@@ -0,0 +1,151 @@
+package com.example.vetclinic.application.service;
+
+import com.example.vetclinic.application.dto.vet.VetAvailabilityDTO;
+import com.example.vetclinic.domain.model.Clinic;
+import com.example.vetclinic.infrastructure.persistence.*;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityServiceTest {
+
+    @Mock
+    private AppointmentJpaRepository appointmentRepository;
+
+    @Mock
+    private VetJpaRepository vetRepository;
+
+    @Mock
+    private VeterinaryServiceJpaRepository serviceRepository;
+
+    @Mock
+    private ClinicJpaRepository clinicRepository;
+
+    @InjectMocks
+    private AvailabilityService availabilityService;
+
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        date = LocalDate.now().plusDays(3);
+
+        Clinic clinic = Clinic.builder()
+                .id(1L)
+                .openingTime(LocalTime.of(9, 0))
+                .closingTime(LocalTime.of(11, 0))
+                .maxDailyAppointments(20)
+                .active(true)
+                .build();
+        lenient().when(clinicRepository.findFirstByActiveTrue()).thenReturn(Optional.of(clinic));
+        lenient().when(vetRepository.existsById(1L)).thenReturn(true);
+    }
+
+    @Test
+    void getAvailability_ShouldUseClinicHoursAndServiceDuration() {
+        // Given
+        when(serviceRepository.findEstimatedDurationMinutesById(2L)).thenReturn(Optional.of(60));
+        when(appointmentRepository.findBookedSlots(eq(1L), any(), any())).thenReturn(List.of());
+
+        // When
+        VetAvailabilityDTO result = availabilityService.getAvailability(1L, date, 2L, null);
+
+        // Then
+        assertThat(result.getDurationMinutes()).isEqualTo(60);
+        assertThat(result.getOpeningTime()).isEqualTo(LocalTime.of(9, 0));
+        assertThat(result.getAvailableSlots()).containsExactly(
+                LocalTime.of(9, 0), LocalTime.of(9, 15), LocalTime.of(9, 30),
+                LocalTime.of(9, 45), LocalTime.of(10, 0));
+    }
+
+    @Test
+    void getAvailability_ShouldExcludeSlotsOverlappingBookedAppointments() {
+        // Given
+        AppointmentSlotView booked = slot(10L, LocalDateTime.of(date, LocalTime.of(9, 30)), 20);
+        when(serviceRepository.findEstimatedDurationMinutesById(2L)).thenReturn(Optional.of(30));
+        when(appointmentRepository.findBookedSlots(eq(1L), any(), any())).thenReturn(List.of(booked));
+
+        // When
+        VetAvailabilityDTO result = availabilityService.getAvailability(1L, date, 2L, null);
+
+        // Then
+        assertThat(result.getAvailableSlots()).containsExactly(
+                LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(10, 15), LocalTime.of(10, 30));
+    }
+
+    @Test
+    void getAvailability_ShouldServeRepeatedQueriesFromCacheUntilInvalidated() {
+        // Given
+        when(appointmentRepository.findBookedSlots(eq(1L), any(), any())).thenReturn(List.of());
+
+        // When
+        availabilityService.getAvailability(1L, date, null, null);
+        availabilityService.getAvailability(1L, date, null, null);
+        availabilityService.invalidate(1L, date);
+        availabilityService.getAvailability(1L, date, null, null);
+
+        // Then
+        verify(appointmentRepository, times(2)).findBookedSlots(eq(1L), any(), any());
+        verify(clinicRepository, times(1)).findFirstByActiveTrue();
+    }
+
+    @Test
+    void getAvailability_ShouldIgnoreExcludedAppointment() {
+        // Given
+        AppointmentSlotView booked = slot(10L, LocalDateTime.of(date, LocalTime.of(9, 0)), 120);
+        when(appointmentRepository.findBookedSlots(eq(1L), any(), any())).thenReturn(List.of(booked));
+
+        // When
+        VetAvailabilityDTO result = availabilityService.getAvailability(1L, date, null, 10L);
+
+        // Then
+        assertThat(result.getAvailableSlots()).hasSize(7);
+    }
+
+    @Test
+    void getAvailability_ShouldThrowException_WhenVetNotFound() {
+        // Given
+        when(vetRepository.existsById(999L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> availabilityService.getAvailability(999L, date, null, null))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Vet not found");
+    }
+
+    private AppointmentSlotView slot(Long id, LocalDateTime start, Integer duration) {
+        return new AppointmentSlotView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getAppointmentDate() {
+                return start;
+            }
+
+            @Override
+            public LocalDateTime getEndDate() {
+                return start.plusMinutes(duration);
+            }
+        };
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.vetclinic.application.service;
+
+import com.example.vetclinic.application.dto.appointment.ImportAppointmentDTO;
+import com.example.vetclinic.application.dto.bulk.BulkImportResultDTO;
+import com.example.vetclinic.application.dto.bulk.BulkRow;
+import com.example.vetclinic.application.dto.owner.CreateOwnerDTO;
+import com.example.vetclinic.application.dto.pet.CreatePetDTO;
+import com.example.vetclinic.domain.model.Appointment;
+import com.example.vetclinic.domain.model.AppointmentStatus;
+import com.example.vetclinic.domain.model.Owner;
+import com.example.vetclinic.domain.model.Pet;
+import com.example.vetclinic.infrastructure.persistence.BulkInsertRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkImportServiceTest {
+
+    @Mock
+    private BulkInsertRepository bulkInsertRepository;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private AuditorAware<String> auditorAware;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private DailyCapacityLedger capacityLedger;
+
+    @Mock
+    private AvailabilityService availabilityService;
+
+    @InjectMocks
+    private BulkImportService bulkImportService;
+
+    @Captor
+    private ArgumentCaptor<List<Owner>> ownerBatch;
+
+    @Captor
+    private ArgumentCaptor<List<Pet>> petBatch;
+
+    @Captor
+    private ArgumentCaptor<List<Appointment>> appointmentBatch;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bulkImportService, "chunkSize", 2);
+        lenient().when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of("admin"));
+    }
+
+    @Test
+    void importOwners_ShouldWriteValidRowsInChunksAndReportInvalidOnes() {
+        // Given
+        when(bulkInsertRepository.insertOwners(anyList())).thenAnswer(invocation -> ids(invocation.getArgument(0)));
+
+        // When
+        BulkImportResultDTO result = bulkImportService.importOwners(rows(
+                owner("Ana", "Gómez"), owner("", "Ruiz"), owner("Luis", "Martínez"), owner("Eva", "Torres")));
+
+        // Then
+        assertThat(result.getReceived()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getIds()).containsExactly(1L, null, 2L, 1L);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getRow()).isEqualTo(1);
+            assertThat(error.getMessages()).containsExactly("firstName: First name is required");
+        });
+
+        verify(bulkInsertRepository, times(2)).insertOwners(ownerBatch.capture());
+        assertThat(ownerBatch.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(ownerBatch.getValue().get(0).getCreatedBy()).isEqualTo("admin");
+        assertThat(ownerBatch.getValue().get(0).getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void importOwners_ShouldKeepUnreadableRowsAsErrors() {
+        // Given
+        when(bulkInsertRepository.insertOwners(anyList())).thenAnswer(invocation -> ids(invocation.getArgument(0)));
+        List<BulkRow<CreateOwnerDTO>> rows = List.of(
+                BulkRow.of(0, owner("Ana", "Gómez")),
+                BulkRow.failed(1, "Malformed JSON: unexpected end-of-input"));
+
+        // When
+        BulkImportResultDTO result = bulkImportService.importOwners(rows.iterator());
+
+        // Then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessages()).containsExactly("Malformed JSON: unexpected end-of-input"));
+    }
+
+    @Test
+    void importPets_ShouldResolveOwnersOncePerChunkAndRejectUnknownOwners() {
+        // Given
+        when(bulkInsertRepository.findExistingOwnerIds(anyCollection())).thenReturn(Set.of(1L));
+        when(bulkInsertRepository.insertPets(anyList())).thenAnswer(invocation -> ids(invocation.getArgument(0)));
+
+        // When
+        BulkImportResultDTO result = bulkImportService.importPets(rows(pet("Max", 1L), pet("Luna", 99L)));
+
+        // Then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getIds()).containsExactly(1L, null);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessages()).containsExactly("Owner not found with id: 99"));
+        verify(bulkInsertRepository, times(1)).findExistingOwnerIds(Set.of(1L, 99L));
+
+        verify(bulkInsertRepository).insertPets(petBatch.capture());
+        assertThat(petBatch.getValue()).singleElement().satisfies(pet -> assertThat(pet.getOwner().getId()).isEqualTo(1L));
+    }
+
+    @Test
+    void importAppointments_ShouldDeriveEndDateAndStatusThenRefreshCaches() {
+        // Given
+        LocalDateTime past = LocalDateTime.of(2023, 3, 1, 10, 0);
+        Map<Long, Integer> durations = new HashMap<>();
+        durations.put(5L, 45);
+        when(bulkInsertRepository.findExistingPetIds(anyCollection())).thenReturn(Set.of(1L));
+        when(bulkInsertRepository.findExistingVetIds(anyCollection())).thenReturn(Set.of(2L));
+        when(bulkInsertRepository.findServiceDurations(anyCollection())).thenReturn(durations);
+        when(bulkInsertRepository.insertAppointments(anyList())).thenAnswer(invocation -> ids(invocation.getArgument(0)));
+
+        ImportAppointmentDTO completed = appointment(past, 1L, 2L, 5L);
+        completed.setStatus(AppointmentStatus.COMPLETED);
+
+        // When
+        BulkImportResultDTO result = bulkImportService.importAppointments(rows(
+                completed, appointment(past, 1L, 3L, null)));
+
+        // Then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessages()).containsExactly("Vet not found with id: 3"));
+
+        verify(bulkInsertRepository).insertAppointments(appointmentBatch.capture());
+        Appointment saved = appointmentBatch.getValue().get(0);
+        assertThat(saved.getStatus()).isEqualTo(AppointmentStatus.COMPLETED);
+        assertThat(saved.getEndDate()).isEqualTo(past.plusMinutes(45));
+
+        verify(capacityLedger).reconcile();
+        verify(availabilityService).evictAll();
+    }
+
+    @Test
+    void importOwners_ShouldRetryRowByRowAndRejectOnlyTheOffendingRow_WhenDatabaseRefusesChunk() {
+        // Given
+        when(bulkInsertRepository.insertOwners(anyList())).thenAnswer(invocation -> {
+            List<Owner> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(owner -> owner.getLastName().equals("Martínez"))) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            return ids(batch);
+        });
+
+        // When
+        BulkImportResultDTO result = bulkImportService.importOwners(rows(
+                owner("Ana", "Gómez"), owner("Luis", "Martínez"), owner("Eva", "Torres")));
+
+        // Then
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getIds()).containsExactly(1L, null, 1L);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getRow()).isEqualTo(1);
+            assertThat(error.getMessages()).containsExactly("Rejected by the database: value too long");
+        });
+        verify(bulkInsertRepository, times(4)).insertOwners(anyList());
+    }
+
+    @Test
+    void importOwners_ShouldReportRowsInsteadOfFailing_WhenGeneratedKeysDoNotMatch() {
+        // Given
+        when(bulkInsertRepository.insertOwners(anyList()))
+                .thenThrow(new IllegalStateException("Expected 1 generated keys but got 0"));
+
+        // When
+        BulkImportResultDTO result = bulkImportService.importOwners(rows(
+                owner("Ana", "Gómez"), owner("Luis", "Martínez")));
+
+        // Then
+        assertThat(result.getImported()).isZero();
+        assertThat(result.getErrors()).extracting(error -> error.getRow()).containsExactly(0, 1);
+        assertThat(result.getErrors().get(0).getMessages())
+                .containsExactly("Rejected by the database: Expected 1 generated keys but got 0");
+    }
+
+    @SafeVarargs
+    private static <T> Iterator<BulkRow<T>> rows(T... values) {
+        List<BulkRow<T>> rows = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            rows.add(BulkRow.of(i, values[i]));
+        }
+        return rows.iterator();
+    }
+
+    private static List<Long> ids(List<?> batch) {
+        return LongStream.rangeClosed(1, batch.size()).boxed().toList();
+    }
+
+    private static CreateOwnerDTO owner(String firstName, String lastName) {
+        CreateOwnerDTO dto = new CreateOwnerDTO();
+        dto.setFirstName(firstName);
+        dto.setLastName(lastName);
+        return dto;
+    }
+
+    private static CreatePetDTO pet(String name, Long ownerId) {
+        CreatePetDTO dto = new CreatePetDTO();
+        dto.setName(name);
+        dto.setSpecies("Perro");
+        dto.setOwnerId(ownerId);
+        return dto;
+    }
+
+    private static ImportAppointmentDTO appointment(LocalDateTime date, Long petId, Long vetId, Long serviceId) {
+        ImportAppointmentDTO dto = new ImportAppointmentDTO();
+        dto.setAppointmentDate(date);
+        dto.setPetId(petId);
+        dto.setVetId(vetId);
+        dto.setServiceId(serviceId);
+        return dto;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.vetclinic.application.service;
+
+import com.example.vetclinic.application.dto.ChangeFeedResponse;
+import com.example.vetclinic.application.dto.owner.CreateOwnerDTO;
+import com.example.vetclinic.application.dto.owner.OwnerDTO;
+import com.example.vetclinic.application.dto.owner.UpdateOwnerDTO;
+import com.example.vetclinic.application.dto.pet.CreatePetDTO;
+import com.example.vetclinic.application.dto.pet.PetDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ChangeFeedTest {
+
+    @Autowired
+    private OwnerService ownerService;
+
+    @Autowired
+    private PetService petService;
+
+    @Test
+    void getOwnerChanges_ShouldReturnFullListWithResetWithoutCursor() {
+        // When
+        ChangeFeedResponse<OwnerDTO> feed = ownerService.getOwnerChanges(null);
+
+        // Then
+        assertThat(feed.isReset()).isTrue();
+        assertThat(feed.getChanges()).hasSameSizeAs(ownerService.getAllOwners());
+        assertThat(feed.getCursor()).isBefore(LocalDateTime.now());
+    }
+
+    @Test
+    void getOwnerChanges_ShouldReturnOnlyRowsModifiedSinceCursor() {
+        // Given
+        OwnerDTO unchanged = ownerService.createOwner(owner("Sin", "Cambios"));
+        OwnerDTO updated = ownerService.createOwner(owner("Con", "Cambios"));
+        LocalDateTime since = LocalDateTime.now();
+        UpdateOwnerDTO update = new UpdateOwnerDTO();
+        update.setPhone("555-0199");
+        ownerService.updateOwner(updated.getId(), update);
+        OwnerDTO created = ownerService.createOwner(owner("Nuevo", "Cliente"));
+
+        // When
+        ChangeFeedResponse<OwnerDTO> feed = ownerService.getOwnerChanges(since);
+
+        // Then
+        assertThat(feed.isReset()).isFalse();
+        assertThat(feed.getChanges()).extracting(OwnerDTO::getId)
+                .contains(updated.getId(), created.getId())
+                .doesNotContain(unchanged.getId());
+        assertThat(feed.getDeletedIds()).isEmpty();
+    }
+
+    @Test
+    void deleteOwner_ShouldLeaveTombstonesForTheOwnerAndCascadedPets() {
+        // Given
+        OwnerDTO owner = ownerService.createOwner(owner("Baja", "Cliente"));
+        CreatePetDTO createPet = new CreatePetDTO();
+        createPet.setName("Toby");
+        createPet.setSpecies("Perro");
+        createPet.setOwnerId(owner.getId());
+        PetDTO pet = petService.createPet(createPet);
+        LocalDateTime since = LocalDateTime.now();
+
+        // When
+        ownerService.deleteOwner(owner.getId());
+
+        // Then
+        ChangeFeedResponse<OwnerDTO> owners = ownerService.getOwnerChanges(since);
+        ChangeFeedResponse<PetDTO> pets = petService.getPetChanges(since);
+        assertThat(owners.getDeletedIds()).contains(owner.getId());
+        assertThat(owners.getChanges()).extracting(OwnerDTO::getId).doesNotContain(owner.getId());
+        assertThat(pets.getDeletedIds()).contains(pet.getId());
+    }
+
+    @Test
+    void getPetChanges_ShouldResetWhenCursorIsOlderThanTombstoneRetention() {
+        // When
+        ChangeFeedResponse<PetDTO> feed = petService.getPetChanges(LocalDateTime.now().minusDays(31));
+
+        // Then
+        assertThat(feed.isReset()).isTrue();
+        assertThat(feed.getChanges()).hasSameSizeAs(petService.getAllPets());
+    }
+
+    private static CreateOwnerDTO owner(String firstName, String lastName) {
+        CreateOwnerDTO dto = new CreateOwnerDTO();
+        dto.setFirstName(firstName);
+        dto.setLastName(lastName);
+        return dto;
+    }
+}
@@ -15,7 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalTime;
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,22 +32,13 @@ class ClinicServiceTest {
     private AppointmentJpaRepository appointmentRepository;
 
     @Mock
-    private PetJpaRepository petRepository;
-
-    @Mock
-    private OwnerJpaRepository ownerRepository;
-
-    @Mock
-    private VetJpaRepository vetRepository;
-
-    @Mock
-    private MedicalRecordJpaRepository medicalRecordRepository;
+    private ClinicMapper clinicMapper;
 
     @Mock
-    private VeterinaryServiceJpaRepository veterinaryServiceRepository;
+    private AvailabilityService availabilityService;
 
     @Mock
-    private ClinicMapper clinicMapper;
+    private DailyCapacityLedger capacityLedger;
 
     @InjectMocks
     private ClinicService clinicService;
@@ -114,21 +105,18 @@ class ClinicServiceTest {
         assertThat(result).isNotNull();
         verify(clinicMapper).updateEntityFromDTO(configDTO, clinic);
         verify(clinicRepository).save(clinic);
+        verify(capacityLedger).updateLimit(clinic.getMaxDailyAppointments());
     }
 
     @Test
     void getClinicStats_ShouldReturnStatistics() {
         // Given
-        when(appointmentRepository.count()).thenReturn(100L);
-        when(appointmentRepository.countByStatus(AppointmentStatus.PENDING)).thenReturn(20L);
-        when(appointmentRepository.countByStatus(AppointmentStatus.CONFIRMED)).thenReturn(30L);
-        when(appointmentRepository.countByStatus(AppointmentStatus.COMPLETED)).thenReturn(40L);
-        when(appointmentRepository.countByStatus(AppointmentStatus.CANCELLED)).thenReturn(10L);
-        when(petRepository.count()).thenReturn(50L);
-        when(ownerRepository.count()).thenReturn(30L);
-        when(vetRepository.count()).thenReturn(5L);
-        when(medicalRecordRepository.count()).thenReturn(80L);
-        when(appointmentRepository.findAll()).thenReturn(new ArrayList<>());
+        when(appointmentRepository.aggregateByStatus()).thenReturn(List.of(
+                statusRow(AppointmentStatus.PENDING, 20L, new BigDecimal("1000.00")),
+                statusRow(AppointmentStatus.CONFIRMED, 30L, new BigDecimal("1500.00")),
+                statusRow(AppointmentStatus.COMPLETED, 40L, new BigDecimal("2000.00")),
+                statusRow(AppointmentStatus.CANCELLED, 10L, null)));
+        when(clinicRepository.countTotals()).thenReturn(totals(50L, 30L, 5L, 80L, 8L));
 
         // When
         ClinicStatsDTO result = clinicService.getClinicStats();
@@ -140,12 +128,31 @@ class ClinicServiceTest {
         assertThat(result.getConfirmedAppointments()).isEqualTo(30L);
         assertThat(result.getCompletedAppointments()).isEqualTo(40L);
         assertThat(result.getCancelledAppointments()).isEqualTo(10L);
+        assertThat(result.getAppointmentsByStatus()).containsEntry("COMPLETED", 40L).hasSize(4);
         assertThat(result.getTotalPets()).isEqualTo(50L);
         assertThat(result.getTotalOwners()).isEqualTo(30L);
         assertThat(result.getTotalVets()).isEqualTo(5L);
         assertThat(result.getTotalMedicalRecords()).isEqualTo(80L);
-        verify(appointmentRepository).count();
-        verify(petRepository).count();
+        assertThat(result.getActiveServices()).isEqualTo(8L);
+        assertThat(result.getEstimatedRevenue()).isEqualByComparingTo("2000.00");
+        verify(appointmentRepository).aggregateByStatus();
+        verify(appointmentRepository, never()).findAll();
+    }
+
+    @Test
+    void getClinicStats_ShouldReturnZeros_WhenThereAreNoAppointments() {
+        // Given
+        when(appointmentRepository.aggregateByStatus()).thenReturn(List.of());
+        when(clinicRepository.countTotals()).thenReturn(totals(0L, 0L, 0L, 0L, 0L));
+
+        // When
+        ClinicStatsDTO result = clinicService.getClinicStats();
+
+        // Then
+        assertThat(result.getTotalAppointments()).isZero();
+        assertThat(result.getCompletedAppointments()).isZero();
+        assertThat(result.getAppointmentsByStatus()).containsEntry("PENDING", 0L);
+        assertThat(result.getEstimatedRevenue()).isEqualByComparingTo(BigDecimal.ZERO);
     }
 
     @Test
@@ -164,4 +171,52 @@ class ClinicServiceTest {
         verify(clinicMapper).toEntity(configDTO);
         verify(clinicRepository).save(any(Clinic.class));
     }
+
+    private AppointmentStatusStatsView statusRow(AppointmentStatus status, Long count, BigDecimal revenue) {
+        return new AppointmentStatusStatsView() {
+            @Override
+            public AppointmentStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+
+            @Override
+            public BigDecimal getRevenue() {
+                return revenue;
+            }
+        };
+    }
+
+    private ClinicTotalsView totals(Long pets, Long owners, Long vets, Long records, Long services) {
+        return new ClinicTotalsView() {
+            @Override
+            public Long getTotalPets() {
+                return pets;
+            }
+
+            @Override
+            public Long getTotalOwners() {
+                return owners;
+            }
+
+            @Override
+            public Long getTotalVets() {
+                return vets;
+            }
+
+            @Override
+            public Long getTotalMedicalRecords() {
+                return records;
+            }
+
+            @Override
+            public Long getActiveServices() {
+                return services;
+            }
+        };
+    }
 }
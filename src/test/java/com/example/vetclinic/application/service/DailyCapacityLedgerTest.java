@@ -0,0 +1,138 @@
+package com.example.vetclinic.application.service;
+
+import com.example.vetclinic.domain.exception.ConflictException;
+import com.example.vetclinic.domain.model.Clinic;
+import com.example.vetclinic.infrastructure.persistence.AppointmentJpaRepository;
+import com.example.vetclinic.infrastructure.persistence.ClinicJpaRepository;
+import com.example.vetclinic.infrastructure.persistence.DailyAppointmentCountView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DailyCapacityLedgerTest {
+
+    @Mock
+    private AppointmentJpaRepository appointmentRepository;
+
+    @Mock
+    private ClinicJpaRepository clinicRepository;
+
+    @InjectMocks
+    private DailyCapacityLedger ledger;
+
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        day = LocalDate.now().plusDays(1);
+        Clinic clinic = Clinic.builder().id(1L).maxDailyAppointments(3).active(true).build();
+        when(clinicRepository.findFirstByActiveTrue()).thenReturn(Optional.of(clinic));
+    }
+
+    @Test
+    void reconcile_ShouldSeedCountsAndLimitFromDatabase() {
+        // Given
+        when(appointmentRepository.countActiveByDaySince(any())).thenReturn(List.of(count(day, 2L)));
+
+        // When
+        ledger.reconcile();
+
+        // Then
+        assertThat(ledger.getDailyLimit()).isEqualTo(3);
+        assertThat(ledger.getBooked(day)).isEqualTo(2);
+    }
+
+    @Test
+    void reserve_ShouldThrowConflict_WhenDayIsFull() {
+        // Given
+        when(appointmentRepository.countActiveByDaySince(any())).thenReturn(List.of(count(day, 3L)));
+        ledger.reconcile();
+
+        // When & Then
+        assertThatThrownBy(() -> ledger.reserve(day))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("Daily appointment limit of 3");
+        assertThat(ledger.getBooked(day)).isEqualTo(3);
+    }
+
+    @Test
+    void release_ShouldFreeCapacityForAnotherBooking() {
+        // Given
+        when(appointmentRepository.countActiveByDaySince(any())).thenReturn(List.of(count(day, 3L)));
+        ledger.reconcile();
+
+        // When
+        ledger.release(day);
+        ledger.reserve(day);
+
+        // Then
+        assertThat(ledger.getBooked(day)).isEqualTo(3);
+    }
+
+    @Test
+    void reserve_ShouldNeverExceedLimit_UnderConcurrentBurst() throws Exception {
+        // Given
+        when(appointmentRepository.countActiveByDaySince(any())).thenReturn(List.of());
+        ledger.reconcile();
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    ledger.reserve(day);
+                    accepted.incrementAndGet();
+                } catch (ConflictException ignored) {
+                    // rejected: day full
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        // Then
+        assertThat(accepted.get()).isEqualTo(3);
+        assertThat(ledger.getBooked(day)).isEqualTo(3);
+    }
+
+    private DailyAppointmentCountView count(LocalDate appointmentDay, Long count) {
+        return new DailyAppointmentCountView() {
+            @Override
+            public LocalDate getAppointmentDay() {
+                return appointmentDay;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -19,9 +19,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -102,6 +105,22 @@ class MedicalRecordServiceTest {
         verify(medicalRecordRepository).findById(1L);
     }
 
+    @Test
+    void exportRecords_ShouldPassEveryRowToSinkAndCloseCursor() {
+        // Given
+        AtomicBoolean closed = new AtomicBoolean();
+        when(medicalRecordRepository.streamAllDTOs())
+                .thenReturn(Stream.of(medicalRecordDTO, medicalRecordDTO).onClose(() -> closed.set(true)));
+        List<MedicalRecordDTO> exported = new ArrayList<>();
+
+        // When
+        medicalRecordService.exportRecords(exported::add);
+
+        // Then
+        assertThat(exported).hasSize(2);
+        assertThat(closed).isTrue();
+    }
+
     @Test
     void getRecordById_ShouldThrowException_WhenNotFound() {
         // Given
@@ -135,15 +154,16 @@ class MedicalRecordServiceTest {
     void getRecordsByPet_ShouldReturnList() {
         // Given
         when(petRepository.existsById(1L)).thenReturn(true);
-        when(medicalRecordRepository.findByPetIdOrderByRecordDateDesc(1L)).thenReturn(Arrays.asList(medicalRecord));
-        when(medicalRecordMapper.toDTO(medicalRecord)).thenReturn(medicalRecordDTO);
+        when(medicalRecordRepository.findDTOsByPetIdOrderByRecordDateDesc(1L))
+                .thenReturn(Arrays.asList(medicalRecordDTO));
 
         // When
         List<MedicalRecordDTO> result = medicalRecordService.getRecordsByPet(1L);
 
         // Then
-        assertThat(result).hasSize(1);
-        verify(medicalRecordRepository).findByPetIdOrderByRecordDateDesc(1L);
+        assertThat(result).containsExactly(medicalRecordDTO);
+        verify(medicalRecordRepository).findDTOsByPetIdOrderByRecordDateDesc(1L);
+        verifyNoInteractions(medicalRecordMapper);
     }
 
     @Test
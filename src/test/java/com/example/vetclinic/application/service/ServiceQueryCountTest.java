@@ -0,0 +1,77 @@
+package com.example.vetclinic.application.service;
+
+import com.example.vetclinic.infrastructure.persistence.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query budgets for the read paths, against the sample data. A mapper touching a lazy
+ * association makes one of these fail with the repeated statement in the message.
+ */
+@SpringBootTest
+class ServiceQueryCountTest {
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private MedicalRecordService medicalRecordService;
+
+    @Autowired
+    private OwnerService ownerService;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private VetService vetService;
+
+    @Test
+    void appointmentReads_ShouldStayWithinQueryBudget() {
+        assertStatements(1, () -> appointmentService.getAllAppointments());
+        assertStatements(1, () -> appointmentService.getAppointmentById(1L));
+        assertStatements(2, () -> appointmentService.getAppointmentsByVet(1L));
+        assertStatements(2, () -> appointmentService.getAppointmentsByPet(1L));
+        assertStatements(2, () -> appointmentService.getAppointmentChanges(LocalDateTime.now().minusDays(1)));
+    }
+
+    @Test
+    void medicalRecordReads_ShouldStayWithinQueryBudget() {
+        assertStatements(1, () -> medicalRecordService.getAllRecords());
+        assertStatements(2, () -> medicalRecordService.getRecordsByPet(1L));
+        assertStatements(2, () -> medicalRecordService.getRecordChanges(LocalDateTime.now().minusDays(1)));
+    }
+
+    @Test
+    void ownerAndPetReads_ShouldStayWithinQueryBudget() {
+        assertStatements(1, () -> ownerService.getAllOwners());
+        assertStatements(1, () -> ownerService.getOwnerById(1L));
+        assertStatements(1, () -> petService.getAllPets());
+        assertStatements(2, () -> petService.getPetsByOwnerId(1L));
+        assertStatements(2, () -> ownerService.getOwnerChanges(LocalDateTime.now().minusDays(1)));
+        assertStatements(2, () -> petService.getPetChanges(LocalDateTime.now().minusDays(1)));
+    }
+
+    @Test
+    void vetReads_ShouldLoadSpecialtiesWithTheVets() {
+        assertStatements(1, () -> vetService.getAllVets());
+        assertStatements(1, () -> vetService.getVetById(1L));
+    }
+
+    private void assertStatements(int expected, Runnable serviceCall) {
+        try (SqlStatementCounter.Recording recording = statementCounter.start()) {
+            serviceCall.run();
+            assertThat(recording.count())
+                    .as("SQL statements, most repeated: %s", recording.mostRepeated())
+                    .isEqualTo(expected);
+        }
+    }
+}
@@ -33,6 +33,9 @@ class VeterinaryServiceServiceTest {
     @Mock
     private VeterinaryServiceMapper serviceMapper;
 
+    @Mock
+    private AvailabilityService availabilityService;
+
     @InjectMocks
     private VeterinaryServiceService veterinaryServiceService;
 
@@ -0,0 +1,104 @@
+package com.example.vetclinic.config;
+
+import com.example.vetclinic.application.dto.service.UpdateVeterinaryServiceDTO;
+import com.example.vetclinic.application.service.ClinicService;
+import com.example.vetclinic.application.service.VeterinaryServiceService;
+import com.example.vetclinic.infrastructure.persistence.ClinicJpaRepository;
+import com.example.vetclinic.infrastructure.persistence.RoleJpaRepository;
+import com.example.vetclinic.infrastructure.persistence.VeterinaryServiceJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class CacheConfigTest {
+
+    @Autowired
+    private VeterinaryServiceService veterinaryServiceService;
+
+    @Autowired
+    private ClinicService clinicService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private RoleJpaRepository roleRepository;
+
+    @SpyBean
+    private VeterinaryServiceJpaRepository serviceRepository;
+
+    @SpyBean
+    private ClinicJpaRepository clinicRepository;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void getAllServices_ShouldHitDatabaseOnceUntilAServiceChanges() {
+        // When
+        veterinaryServiceService.getAllServices();
+        veterinaryServiceService.getAllServices();
+        veterinaryServiceService.updateService(1L, new UpdateVeterinaryServiceDTO());
+        veterinaryServiceService.getAllServices();
+
+        // Then
+        verify(serviceRepository, times(2)).findByActiveTrue();
+    }
+
+    @Test
+    void getClinicConfig_ShouldBeServedFromCache() {
+        // When
+        clinicService.getClinicConfig();
+        clinicService.getClinicConfig();
+
+        // Then
+        verify(clinicRepository, times(1)).findFirstByActiveTrue();
+    }
+
+    @Test
+    void findIdByName_ShouldCacheTheRoleIdRatherThanTheEntity() {
+        // When
+        Long id = roleRepository.findIdByName("ROLE_USER").orElseThrow();
+
+        // Then
+        assertThat(roleRepository.findIdByName("ROLE_USER")).contains(id);
+        assertThat(cacheManager.getCache(CacheConfig.ROLES).get("ROLE_USER").get()).isEqualTo(id);
+    }
+
+    @Test
+    void caches_ShouldPublishHitAndMissMetrics() {
+        // Given
+        double hitsBefore = gets("hit");
+        double missesBefore = gets("miss");
+
+        // When
+        veterinaryServiceService.getAllServices();
+        veterinaryServiceService.getAllServices();
+
+        // Then
+        assertThat(gets("miss") - missesBefore).isEqualTo(1);
+        assertThat(gets("hit") - hitsBefore).isEqualTo(1);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CacheConfig.SERVICES)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
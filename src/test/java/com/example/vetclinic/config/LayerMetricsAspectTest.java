@@ -0,0 +1,77 @@
+package com.example.vetclinic.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.metrics.scrape-token=" + LayerMetricsAspectTest.SCRAPE_TOKEN)
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class LayerMetricsAspectTest {
+
+    static final String SCRAPE_TOKEN = "test-scrape-token";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void prometheus_ShouldExposeLatencyHistogramsPerLayerPoolAndCacheMetrics() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/owners")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/services")).andExpect(status().isOk());
+        // Unknown owner: the JDBC repository looks it up and nothing is inserted
+        mockMvc.perform(post("/api/pets/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"name\":\"Kira\",\"species\":\"Gato\",\"ownerId\":999999}]"))
+                .andExpect(status().isOk());
+
+        // When
+        String body = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(body)
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("application_service_invocations_seconds_bucket{exception=\"none\",method=\"getAllOwners\"")
+                .contains("application_service_invocations_seconds{exception=\"none\",method=\"getAllOwners\",service=\"OwnerService\",quantile=\"0.999\"")
+                .contains("spring_data_repository_invocations_seconds_bucket{exception=\"none\",method=\"findAll\"")
+                .contains("spring_data_repository_invocations_seconds_count{exception=\"none\",method=\"findExistingOwnerIds\",repository=\"BulkInsertRepository\"")
+                .doesNotContain("exception=\"None\"")
+                .doesNotContain("repository=\"SqlStatementCounter\"")
+                .contains("hikaricp_connections_acquire_seconds_bucket{")
+                .contains("hikaricp_connections_active{")
+                .contains("cache_gets_total{cache=\"services\"");
+    }
+
+    @Test
+    void prometheus_ShouldRequireAdminOrTheScrapeToken() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus")
+                .header("Authorization", "Bearer wrong-token"))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/actuator/prometheus")
+                .header("Authorization", "Bearer " + SCRAPE_TOKEN))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(roles = "VET")
+    void prometheus_ShouldBeForbidden_WhenUserIsNotAdmin() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.vetclinic.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.sql.statement-budget=1")
+@AutoConfigureMockMvc
+class SqlStatementBudgetFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void request_ShouldBeFlagged_WhenItExceedsTheStatementBudget() throws Exception {
+        // When
+        mockMvc.perform(get("/api/appointments/vet/1")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/owners/1")).andExpect(status().isOk());
+
+        // Then
+        assertThat(meterRegistry.get("sql.statement.budget.exceeded")
+                .tag("uri", "/api/appointments/vet/{vetId}")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("sql.statement.budget.exceeded")
+                .tag("uri", "/api/owners/{id}")
+                .counter()).isNull();
+        assertThat(meterRegistry.get("sql.statements.per.request")
+                .tag("uri", "/api/owners/{id}")
+                .summary().max()).isEqualTo(1);
+    }
+}
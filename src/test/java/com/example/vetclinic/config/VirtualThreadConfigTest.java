@@ -0,0 +1,43 @@
+package com.example.vetclinic.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The throughput comparison against the platform-thread Tomcat pool is
+ * {@code VirtualThreadsBenchmark} in {@code benchmarks/}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadConfigTest {
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @Test
+    void virtualMode_ShouldRunRequestsAndAsyncTasksOnVirtualThreads() throws Exception {
+        // When
+        Thread taskThread = applicationTaskExecutor.submitCompletable(Thread::currentThread).get();
+
+        // Then
+        assertThat(taskThread.isVirtual()).isTrue();
+        assertThat(tomcatExecutor(context)).isNotInstanceOf(ThreadPoolExecutor.class);
+    }
+
+    private static Object tomcatExecutor(ServletWebServerApplicationContext context) {
+        return ((TomcatWebServer) context.getWebServer()).getTomcat().getConnector().getProtocolHandler().getExecutor();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.vetclinic.infrastructure.persistence;
+
+import com.example.vetclinic.application.dto.appointment.AppointmentDTO;
+import com.example.vetclinic.application.dto.medicalrecord.MedicalRecordDTO;
+import com.example.vetclinic.infrastructure.mapper.AppointmentMapper;
+import com.example.vetclinic.infrastructure.mapper.MedicalRecordMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The DTO constructor projections must return the same lists as the entity + MapStruct path
+ * they replace. Their timing is compared by {@code ListProjectionBenchmark} in {@code benchmarks/}.
+ */
+@SpringBootTest
+@Transactional
+class ListProjectionTest {
+
+    @Autowired
+    private AppointmentJpaRepository appointmentRepository;
+
+    @Autowired
+    private MedicalRecordJpaRepository medicalRecordRepository;
+
+    @Autowired
+    private AppointmentMapper appointmentMapper;
+
+    @Autowired
+    private MedicalRecordMapper medicalRecordMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void projections_ShouldMatchMappedEntities() {
+        entityManager.clear();
+        assertThat(appointmentRepository.findAllDTOs()).isNotEmpty()
+                .containsExactlyInAnyOrderElementsOf(mapAppointments());
+
+        entityManager.clear();
+        assertThat(medicalRecordRepository.findAllDTOs()).isNotEmpty()
+                .containsExactlyInAnyOrderElementsOf(mapRecords());
+    }
+
+    private List<AppointmentDTO> mapAppointments() {
+        return appointmentRepository.findAll().stream().map(appointmentMapper::toDTO).toList();
+    }
+
+    private List<MedicalRecordDTO> mapRecords() {
+        return medicalRecordRepository.findAll().stream().map(medicalRecordMapper::toDTO).toList();
+    }
+}
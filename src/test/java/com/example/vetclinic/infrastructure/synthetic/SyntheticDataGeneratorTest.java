@@ -0,0 +1,130 @@
+package com.example.vetclinic.infrastructure.synthetic;
+
+import com.example.vetclinic.domain.model.AppointmentStatus;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticDataGeneratorTest {
+
+    private static final SyntheticDataSpec SPEC = SyntheticDataSpec.builder()
+            .owners(250)
+            .vets(4)
+            .historyDays(60)
+            .futureDays(14)
+            .batchSize(100)
+            .build();
+
+    private static final SyntheticDataGenerator.IdBase BASE = new SyntheticDataGenerator.IdBase(10, 20, 5, 8, 30, 40);
+
+    @Test
+    void sameSeed_ShouldProduceSameRows_WhateverTheChunkSize() {
+        // Given
+        SyntheticDataGenerator small = generator(SPEC.toBuilder().batchSize(7).build());
+        SyntheticDataGenerator large = generator(SPEC.toBuilder().batchSize(5000).build());
+
+        // When & Then
+        assertThat(rows(small.ownerChunks(), small::owners)).isEqualTo(rows(large.ownerChunks(), large::owners));
+        assertThat(rows(small.ownerChunks(), small::pets)).isEqualTo(rows(large.ownerChunks(), large::pets));
+        assertThat(rows(small.appointmentChunks(), chunk -> small.appointments(chunk).appointments()))
+                .isEqualTo(rows(large.appointmentChunks(), chunk -> large.appointments(chunk).appointments()));
+        assertThat(rows(small.appointmentChunks(), chunk -> small.appointments(chunk).medicalRecords()))
+                .isEqualTo(rows(large.appointmentChunks(), chunk -> large.appointments(chunk).medicalRecords()));
+    }
+
+    @Test
+    void differentSeed_ShouldProduceDifferentRows() {
+        // Given
+        SyntheticDataGenerator first = generator(SPEC);
+        SyntheticDataGenerator second = generator(SPEC.toBuilder().seed(7).build());
+
+        // When & Then
+        assertThat(rows(first.ownerChunks(), first::owners)).isNotEqualTo(rows(second.ownerChunks(), second::owners));
+    }
+
+    @Test
+    void appointments_ShouldNotOverlapPerVetAndStayWithinOpeningHours() {
+        // Given
+        SyntheticDataGenerator generator = generator(SPEC);
+        List<List<Object>> appointments = rows(generator.appointmentChunks(), chunk -> generator.appointments(chunk).appointments());
+
+        // When
+        Map<String, List<List<Object>>> byVetAndDay = new HashMap<>();
+        for (List<Object> row : appointments) {
+            String key = row.get(6) + "@" + ((Timestamp) row.get(1)).toLocalDateTime().toLocalDate();
+            byVetAndDay.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+        }
+
+        // Then
+        assertThat(appointments).hasSize((int) generator.appointmentCount());
+        assertThat(appointments).extracting(row -> row.get(0)).doesNotHaveDuplicates();
+        for (List<List<Object>> day : byVetAndDay.values()) {
+            day.sort(Comparator.comparing(row -> (Timestamp) row.get(1)));
+            for (int i = 0; i < day.size(); i++) {
+                Timestamp start = (Timestamp) day.get(i).get(1);
+                Timestamp end = (Timestamp) day.get(i).get(2);
+                assertThat(start.toLocalDateTime().toLocalTime()).isAfterOrEqualTo(LocalTime.of(8, 0));
+                assertThat(end.toLocalDateTime().toLocalTime()).isBeforeOrEqualTo(LocalTime.of(18, 0));
+                if (i + 1 < day.size()) {
+                    assertThat(end).isBeforeOrEqualTo((Timestamp) day.get(i + 1).get(1));
+                }
+            }
+        }
+    }
+
+    @Test
+    void medicalRecords_ShouldBelongToCompletedAppointmentsAndFitTheColumns() {
+        // Given
+        SyntheticDataGenerator generator = generator(SPEC);
+        List<List<Object>> appointments = new ArrayList<>();
+        List<List<Object>> records = new ArrayList<>();
+        for (int chunk = 0; chunk < generator.appointmentChunks(); chunk++) {
+            SyntheticDataGenerator.AppointmentBatch batch = generator.appointments(chunk);
+            batch.appointments().forEach(row -> appointments.add(Arrays.asList(row)));
+            batch.medicalRecords().forEach(row -> records.add(Arrays.asList(row)));
+        }
+
+        // When
+        Set<Object> completed = appointments.stream()
+                .filter(row -> AppointmentStatus.COMPLETED.name().equals(row.get(3)))
+                .map(row -> row.get(0))
+                .collect(Collectors.toSet());
+
+        // Then
+        assertThat(records).isNotEmpty();
+        assertThat(records).extracting(row -> row.get(10)).allMatch(completed::contains);
+        assertThat(records).extracting(row -> (String) row.get(2))
+                .allMatch(text -> text.length() <= SyntheticDataGenerator.DIAGNOSIS_LENGTH);
+        assertThat(records).extracting(row -> (String) row.get(4))
+                .allMatch(text -> text == null || text.length() <= SyntheticDataGenerator.RECORD_NOTES_LENGTH);
+        assertThat(appointments).extracting(row -> (String) row.get(4))
+                .allMatch(text -> text == null || text.length() <= SyntheticDataGenerator.APPOINTMENT_NOTES_LENGTH);
+        // Most long texts sit close to the column limit
+        assertThat(records.stream().filter(row -> ((String) row.get(2)).length() >= 600).count())
+                .isGreaterThan(records.size() / 2);
+    }
+
+    private static SyntheticDataGenerator generator(SyntheticDataSpec spec) {
+        return new SyntheticDataGenerator(spec, BASE, List.of(1L, 2L, 3L, 4L));
+    }
+
+    private static List<List<Object>> rows(int chunks, IntFunction<List<Object[]>> chunk) {
+        List<List<Object>> rows = new ArrayList<>();
+        for (int i = 0; i < chunks; i++) {
+            chunk.apply(i).forEach(row -> rows.add(Arrays.asList(row)));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.vetclinic.infrastructure.synthetic;
+
+import com.example.vetclinic.domain.model.Owner;
+import com.example.vetclinic.infrastructure.persistence.OwnerJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads into its own in-memory database so the other integration tests keep the sample data.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:synthetic-data")
+class SyntheticDataLoaderTest {
+
+    @Autowired
+    private SyntheticDataLoader loader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OwnerJpaRepository ownerRepository;
+
+    @Test
+    void load_ShouldInsertGeneratedRowsInParallelOnTopOfExistingData() {
+        // Given
+        long ownersBefore = count("owners");
+        long petsBefore = count("pets");
+        long appointmentsBefore = count("appointments");
+        long recordsBefore = count("medical_records");
+        SyntheticDataSpec spec = SyntheticDataSpec.builder()
+                .owners(300)
+                .vets(3)
+                .historyDays(45)
+                .futureDays(10)
+                .threads(4)
+                .batchSize(50)
+                .build();
+
+        // When
+        SyntheticDataSummary summary = loader.load(spec);
+
+        // Then
+        assertThat(summary.getAppointments()).isPositive();
+        assertThat(summary.getMedicalRecords()).isPositive();
+        assertThat(count("owners") - ownersBefore).isEqualTo(300);
+        assertThat(count("pets") - petsBefore).isEqualTo(summary.getPets());
+        assertThat(count("appointments") - appointmentsBefore).isEqualTo(summary.getAppointments());
+        assertThat(count("medical_records") - recordsBefore).isEqualTo(summary.getMedicalRecords());
+    }
+
+    @Test
+    void load_ShouldLeaveIdentityColumnsPastTheLoadedRows() {
+        // Given
+        loader.load(SyntheticDataSpec.builder().owners(20).vets(1).historyDays(5).futureDays(0).build());
+        long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM owners", Long.class);
+
+        // When
+        Owner saved = ownerRepository.save(Owner.builder().firstName("Nuevo").lastName("Cliente").build());
+
+        // Then
+        assertThat(saved.getId()).isGreaterThan(maxId);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
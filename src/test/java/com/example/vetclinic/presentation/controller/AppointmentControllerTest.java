@@ -1,9 +1,14 @@
 package com.example.vetclinic.presentation.controller;
 
+import com.example.vetclinic.application.dto.PageQuery;
+import com.example.vetclinic.application.dto.PagedResponse;
 import com.example.vetclinic.application.dto.appointment.AppointmentDTO;
 import com.example.vetclinic.application.dto.appointment.CreateAppointmentDTO;
 import com.example.vetclinic.application.service.AppointmentService;
+import com.example.vetclinic.domain.exception.ConflictException;
 import com.example.vetclinic.domain.model.AppointmentStatus;
+import com.example.vetclinic.security.JwtTokenProvider;
+import com.example.vetclinic.security.UserPrincipal;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,13 +17,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -34,6 +47,9 @@ class AppointmentControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
     @MockBean
     private AppointmentService appointmentService;
 
@@ -68,6 +84,39 @@ class AppointmentControllerTest {
                 .andExpect(jsonPath("$[0].status").value("PENDING"));
     }
 
+    @Test
+    @WithMockUser(roles = "RECEPCIONISTA")
+    void getAppointmentsPage_ShouldReturnPage() throws Exception {
+        // Given
+        PagedResponse<AppointmentDTO> page = PagedResponse.<AppointmentDTO>builder()
+                .content(List.of(appointmentDTO))
+                .pageSize(10)
+                .first(true)
+                .last(false)
+                .nextCursor(1L)
+                .build();
+        when(appointmentService.getAppointmentsPage(any(PageQuery.class))).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/appointments/paged")
+                .param("cursor", "0")
+                .param("size", "10")
+                .param("includeTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value(1))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(roles = "RECEPCIONISTA")
+    void getAppointmentsPage_ShouldReturn400_WhenSizeTooLarge() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/appointments/paged")
+                .param("size", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(roles = "RECEPCIONISTA")
     void createAppointment_ShouldReturnCreated() throws Exception {
@@ -84,6 +133,23 @@ class AppointmentControllerTest {
                 .andExpect(jsonPath("$.id").value(1));
     }
 
+    @Test
+    @WithMockUser(roles = "RECEPCIONISTA")
+    void createAppointment_ShouldReturnConflict_WhenVetAlreadyBooked() throws Exception {
+        // Given
+        when(appointmentService.createAppointment(any(CreateAppointmentDTO.class)))
+                .thenThrow(new ConflictException("Vet 1 already has an appointment"));
+
+        // When & Then
+        mockMvc.perform(post("/api/appointments")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createAppointmentDTO)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.message").value("Vet 1 already has an appointment"));
+    }
+
     @Test
     @WithMockUser(roles = "VET")
     void confirmAppointment_ShouldReturnUpdated() throws Exception {
@@ -112,6 +178,59 @@ class AppointmentControllerTest {
                 .andExpect(jsonPath("$.status").value("CANCELLED"));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportAppointments_ShouldStreamOneJsonObjectPerLine() throws Exception {
+        // Given
+        AppointmentDTO second = new AppointmentDTO();
+        second.setId(2L);
+        second.setStatus(AppointmentStatus.CANCELLED);
+        doAnswer(invocation -> {
+            Consumer<AppointmentDTO> sink = invocation.getArgument(0);
+            sink.accept(appointmentDTO);
+            sink.accept(second);
+            return null;
+        }).when(appointmentService).exportAppointments(any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/appointments/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[1], AppointmentDTO.class).getStatus())
+                .isEqualTo(AppointmentStatus.CANCELLED);
+    }
+
+    @Test
+    void exportAppointments_ShouldCompleteAsyncDispatch_WhenAuthenticatedByBearerToken() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<AppointmentDTO> sink = invocation.getArgument(0);
+            sink.accept(appointmentDTO);
+            return null;
+        }).when(appointmentService).exportAppointments(any());
+        String authorization = bearerToken("ROLE_ADMIN");
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/appointments/export")
+                .header("Authorization", authorization))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body.split("\n")).hasSize(1);
+    }
+
     @Test
     void createAppointment_ShouldReturn401_WhenNotAuthenticated() throws Exception {
         // When & Then
@@ -121,4 +240,10 @@ class AppointmentControllerTest {
                 .content(objectMapper.writeValueAsString(createAppointmentDTO)))
                 .andExpect(status().isUnauthorized());
     }
+
+    private String bearerToken(String role) {
+        UserPrincipal principal = new UserPrincipal(1L, "admin", null, List.of(new SimpleGrantedAuthority(role)));
+        return "Bearer " + tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
 }
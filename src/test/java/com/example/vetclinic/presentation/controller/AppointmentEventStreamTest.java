@@ -0,0 +1,173 @@
+package com.example.vetclinic.presentation.controller;
+
+import com.example.vetclinic.application.dto.appointment.AppointmentDTO;
+import com.example.vetclinic.application.dto.appointment.AppointmentEvent;
+import com.example.vetclinic.domain.model.AppointmentStatus;
+import com.example.vetclinic.security.JwtTokenProvider;
+import com.example.vetclinic.security.UserPrincipal;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Flushes are triggered by the tests only, so the scheduler cannot write a frame half-way
+@SpringBootTest(properties = "app.appointment-events.flush-interval-ms=3600000")
+@AutoConfigureMockMvc
+class AppointmentEventStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AppointmentEventStream eventStream;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Test
+    @WithMockUser(roles = "RECEPCIONISTA")
+    void subscribe_ShouldPushOneCoalescedBatchForTheFilteredVet() throws Exception {
+        // Given
+        MvcResult result = mockMvc.perform(get("/api/appointments/events").param("vetId", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        eventStream.onAppointmentEvent(new AppointmentEvent(AppointmentEvent.Type.CREATED,
+                appointment(900L, 1L, AppointmentStatus.PENDING)));
+        eventStream.onAppointmentEvent(new AppointmentEvent(AppointmentEvent.Type.CONFIRMED,
+                appointment(900L, 1L, AppointmentStatus.CONFIRMED)));
+        eventStream.onAppointmentEvent(new AppointmentEvent(AppointmentEvent.Type.CREATED,
+                appointment(901L, 2L, AppointmentStatus.PENDING)));
+        eventStream.flush();
+
+        // Then
+        String body = awaitEvent(result.getResponse(), AppointmentEventStream.BATCH_EVENT);
+        assertThat(body).containsOnlyOnce("\"id\":900")
+                .contains("\"type\":\"CONFIRMED\"")
+                .doesNotContain("\"type\":\"CREATED\"")
+                .doesNotContain("\"id\":901");
+    }
+
+    @Test
+    @WithMockUser(roles = "RECEPCIONISTA")
+    void subscribe_ShouldMatchTheSlotLeftOrTakenAsAWhole_WhenFilteredByVetAndDate() throws Exception {
+        // Given
+        LocalDate day = LocalDate.now().plusDays(3);
+        LocalDate otherDay = day.plusDays(1);
+        MvcResult result = mockMvc.perform(get("/api/appointments/events")
+                .param("vetId", "1")
+                .param("date", day.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        // (vet 1, other day) -> (vet 2, day): neither slot is the subscriber's
+        eventStream.onAppointmentEvent(new AppointmentEvent(AppointmentEvent.Type.UPDATED,
+                appointment(910L, 2L, day, AppointmentStatus.PENDING), 1L, otherDay));
+        // (vet 2, other day) -> (vet 1, day): moves into the filtered slot
+        eventStream.onAppointmentEvent(new AppointmentEvent(AppointmentEvent.Type.UPDATED,
+                appointment(911L, 1L, day, AppointmentStatus.PENDING), 2L, otherDay));
+        // (vet 1, day) -> (vet 2, other day): moves out of it
+        eventStream.onAppointmentEvent(new AppointmentEvent(AppointmentEvent.Type.UPDATED,
+                appointment(912L, 2L, otherDay, AppointmentStatus.PENDING), 1L, day));
+        eventStream.flush();
+
+        // Then
+        String body = awaitEvent(result.getResponse(), AppointmentEventStream.BATCH_EVENT);
+        assertThat(body).contains("\"id\":911")
+                .contains("\"id\":912")
+                .doesNotContain("\"id\":910");
+    }
+
+    @Test
+    @WithMockUser(roles = "RECEPCIONISTA")
+    void subscribe_ShouldAskForResyncWhenTheBufferOverflows() throws Exception {
+        // Given
+        MvcResult result = mockMvc.perform(get("/api/appointments/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        for (long id = 1000; id < 1300; id++) {
+            eventStream.onAppointmentEvent(new AppointmentEvent(AppointmentEvent.Type.CREATED,
+                    appointment(id, 1L, AppointmentStatus.PENDING)));
+        }
+        eventStream.flush();
+
+        // Then
+        String body = awaitEvent(result.getResponse(), AppointmentEventStream.RESYNC_EVENT);
+        assertThat(body).doesNotContain("event:" + AppointmentEventStream.BATCH_EVENT);
+    }
+
+    @Test
+    void subscribe_ShouldCompleteAsyncDispatch_WhenAuthenticatedByBearerToken() throws Exception {
+        // Given
+        UserPrincipal principal = new UserPrincipal(1L, "admin", null,
+                List.of(new SimpleGrantedAuthority("ROLE_RECEPCIONISTA")));
+        String authorization = "Bearer " + tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        MvcResult result = mockMvc.perform(get("/api/appointments/events")
+                .header("Authorization", authorization))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+    }
+
+    private static AppointmentDTO appointment(Long id, Long vetId, AppointmentStatus status) {
+        return appointment(id, vetId, LocalDate.now().plusDays(1), status);
+    }
+
+    private static AppointmentDTO appointment(Long id, Long vetId, LocalDate day, AppointmentStatus status) {
+        AppointmentDTO dto = new AppointmentDTO();
+        dto.setId(id);
+        dto.setVetId(vetId);
+        dto.setStatus(status);
+        dto.setAppointmentDate(day.atTime(10, 0));
+        return dto;
+    }
+
+    // An event is written in several parts; it is complete once the blank line after it arrives
+    private static String awaitEvent(MockHttpServletResponse response, String name) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String body = response.getContentAsString();
+        while (!hasCompleteEvent(body, name) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = response.getContentAsString();
+        }
+        assertThat(hasCompleteEvent(body, name)).as("complete '%s' event in %s", name, body).isTrue();
+        return body;
+    }
+
+    private static boolean hasCompleteEvent(String body, String name) {
+        int start = body.indexOf("event:" + name + "\n");
+        return start >= 0 && body.indexOf("\n\n", start) >= 0;
+    }
+}
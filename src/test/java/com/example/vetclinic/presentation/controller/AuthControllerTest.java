@@ -4,6 +4,8 @@ import com.example.vetclinic.application.dto.auth.JwtAuthenticationResponse;
 import com.example.vetclinic.application.dto.auth.LoginRequest;
 import com.example.vetclinic.application.dto.auth.SignUpRequest;
 import com.example.vetclinic.application.service.AuthService;
+import com.example.vetclinic.domain.exception.BusinessException;
+import com.example.vetclinic.domain.exception.ServiceUnavailableException;
 import com.example.vetclinic.domain.model.User;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,9 +15,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -73,6 +78,20 @@ class AuthControllerTest {
                                 .andExpect(jsonPath("$.tokenType").value("Bearer"));
         }
 
+        @Test
+        void login_ShouldReturn503WithRetryAfter_WhenPasswordHashingIsSaturated() throws Exception {
+                // Given
+                when(authService.authenticateUser(any(LoginRequest.class)))
+                                .thenThrow(new ServiceUnavailableException("Authentication is temporarily overloaded", 2));
+
+                // When & Then
+                mockMvc.perform(post("/api/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(loginRequest)))
+                                .andExpect(status().isServiceUnavailable())
+                                .andExpect(header().string("Retry-After", "2"));
+        }
+
         @Test
         void login_ShouldReturn400_WhenRequestIsInvalid() throws Exception {
                 // Given
@@ -103,7 +122,7 @@ class AuthControllerTest {
         void register_ShouldReturnBadRequest_WhenUsernameIsTaken() throws Exception {
                 // Given
                 when(authService.registerUser(any(SignUpRequest.class)))
-                                .thenThrow(new RuntimeException("Username is already taken!"));
+                                .thenThrow(new BusinessException("Username is already taken!"));
 
                 // When & Then
                 mockMvc.perform(post("/api/auth/register")
@@ -117,7 +136,7 @@ class AuthControllerTest {
         void register_ShouldReturnBadRequest_WhenEmailIsTaken() throws Exception {
                 // Given
                 when(authService.registerUser(any(SignUpRequest.class)))
-                                .thenThrow(new RuntimeException("Email Address already in use!"));
+                                .thenThrow(new BusinessException("Email Address already in use!"));
 
                 // When & Then
                 mockMvc.perform(post("/api/auth/register")
@@ -127,6 +146,20 @@ class AuthControllerTest {
                                 .andExpect(content().string("Email Address already in use!"));
         }
 
+        @Test
+        void register_ShouldReturn503WithRetryAfter_WhenPasswordHashingIsSaturated() throws Exception {
+                // Given
+                when(authService.registerUser(any(SignUpRequest.class)))
+                                .thenThrow(new ServiceUnavailableException("Authentication is temporarily overloaded", 2));
+
+                // When & Then
+                mockMvc.perform(post("/api/auth/register")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(signUpRequest)))
+                                .andExpect(status().isServiceUnavailable())
+                                .andExpect(header().string("Retry-After", "2"));
+        }
+
         @Test
         void register_ShouldReturn400_WhenRequestIsInvalid() throws Exception {
                 // Given
@@ -141,4 +174,25 @@ class AuthControllerTest {
                                 .content(objectMapper.writeValueAsString(invalidRequest)))
                                 .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @WithMockUser
+        void logout_ShouldRevokeBearerToken() throws Exception {
+                // When & Then
+                mockMvc.perform(post("/api/auth/logout")
+                                .header("Authorization", "Bearer jwt-token"))
+                                .andExpect(status().isNoContent());
+
+                verify(authService).logout("jwt-token");
+        }
+
+        @Test
+        void logout_ShouldReturn401_WhenNotAuthenticated() throws Exception {
+                // When & Then
+                mockMvc.perform(post("/api/auth/logout")
+                                .header("Authorization", "Bearer jwt-token"))
+                                .andExpect(status().isUnauthorized());
+
+                verifyNoInteractions(authService);
+        }
 }
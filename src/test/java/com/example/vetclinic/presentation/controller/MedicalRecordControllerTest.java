@@ -13,11 +13,17 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -93,6 +99,40 @@ class MedicalRecordControllerTest {
                 .andExpect(jsonPath("$[0].diagnosis").value("Healthy"));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportRecords_ShouldStreamCsvWithQuotedText() throws Exception {
+        // Given
+        recordDTO.setRecordDate(LocalDateTime.of(2024, 5, 10, 9, 30));
+        recordDTO.setTreatment("Reposo, dieta blanda\ny control en \"7 días\"");
+        doAnswer(invocation -> {
+            Consumer<MedicalRecordDTO> sink = invocation.getArgument(0);
+            sink.accept(recordDTO);
+            return null;
+        }).when(medicalRecordService).exportRecords(any());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/medical-records/export").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String csv = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString("medical-records.csv")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("id,recordDate,diagnosis,treatment,");
+        assertThat(csv).contains("1,2024-05-10T09:30:00,Healthy,\"Reposo, dieta blanda\ny control en \"\"7 días\"\"\",");
+    }
+
+    @Test
+    @WithMockUser(roles = "VET")
+    void exportRecords_ShouldReturn403_WhenNotAdmin() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/medical-records/export"))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void createRecord_ShouldReturn401_WhenNotAuthenticated() throws Exception {
         // When & Then
@@ -1,7 +1,12 @@
 package com.example.vetclinic.presentation.controller;
 
+import com.example.vetclinic.application.dto.ChangeFeedResponse;
+import com.example.vetclinic.application.dto.bulk.BulkImportResultDTO;
+import com.example.vetclinic.application.dto.bulk.BulkRow;
+import com.example.vetclinic.application.dto.bulk.BulkRowErrorDTO;
 import com.example.vetclinic.application.dto.owner.CreateOwnerDTO;
 import com.example.vetclinic.application.dto.owner.OwnerDTO;
+import com.example.vetclinic.application.service.BulkImportService;
 import com.example.vetclinic.application.service.OwnerService;
 import com.example.vetclinic.security.JwtTokenProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,9 +20,13 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -38,6 +47,9 @@ class OwnerControllerTest {
     @MockBean
     private OwnerService ownerService;
 
+    @MockBean
+    private BulkImportService bulkImportService;
+
     private OwnerDTO ownerDTO;
     private CreateOwnerDTO createOwnerDTO;
 
@@ -86,6 +98,26 @@ class OwnerControllerTest {
                 .andExpect(jsonPath("$.email").value("juan@email.com"));
     }
 
+    @Test
+    @WithMockUser(roles = "RECEPCIONISTA")
+    void getOwnerChanges_ShouldPassCursorAndReturnDelta() throws Exception {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2026, 1, 5, 10, 30, 0, 123456000);
+        when(ownerService.getOwnerChanges(since)).thenReturn(ChangeFeedResponse.<OwnerDTO>builder()
+                .changes(List.of(ownerDTO))
+                .deletedIds(List.of(7L))
+                .cursor(LocalDateTime.of(2026, 1, 5, 10, 45))
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/owners/changes").param("since", "2026-01-05T10:30:00.123456"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].id").value(1))
+                .andExpect(jsonPath("$.deletedIds[0]").value(7))
+                .andExpect(jsonPath("$.cursor").value("2026-01-05T10:45:00"))
+                .andExpect(jsonPath("$.reset").value(false));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void createOwner_ShouldReturnCreatedOwner() throws Exception {
@@ -102,6 +134,56 @@ class OwnerControllerTest {
                 .andExpect(jsonPath("$.firstName").value("Juan"));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importOwners_ShouldReadNdjsonRowByRow() throws Exception {
+        // Given
+        when(bulkImportService.importOwners(any())).thenAnswer(invocation -> summarize(invocation.getArgument(0)));
+        String body = """
+                {"firstName":"Ana","lastName":"Gómez"}
+                {"firstName":{"given":"Luis"},"lastName":"Martínez"}
+                {"firstName":"Eva","lastName":"Ruiz"}
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/api/owners/bulk")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(3))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.errors[0].row").value(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importOwners_ShouldReportMalformedJsonAsLastRow() throws Exception {
+        // Given
+        when(bulkImportService.importOwners(any())).thenAnswer(invocation -> summarize(invocation.getArgument(0)));
+
+        // When & Then
+        mockMvc.perform(post("/api/owners/bulk")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"firstName\":\"Ana\",\"lastName\":\"Gómez\"}, {\"firstName\": ]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.errors[0].row").value(1))
+                .andExpect(jsonPath("$.errors[0].messages[0]").value(startsWith("Malformed JSON")));
+    }
+
+    @Test
+    @WithMockUser(roles = "RECEPCIONISTA")
+    void importOwners_ShouldReturn403_WhenNotAdmin() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/owners/bulk")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void deleteOwner_ShouldReturnNoContent() throws Exception {
@@ -117,4 +199,22 @@ class OwnerControllerTest {
         mockMvc.perform(get("/api/owners"))
                 .andExpect(status().isUnauthorized());
     }
+
+    private BulkImportResultDTO summarize(Iterator<BulkRow<CreateOwnerDTO>> rows) {
+        List<BulkRowErrorDTO> errors = new ArrayList<>();
+        int received = 0;
+        while (rows.hasNext()) {
+            BulkRow<CreateOwnerDTO> row = rows.next();
+            received++;
+            if (!row.isReadable()) {
+                errors.add(BulkRowErrorDTO.builder().row(row.index()).messages(List.of(row.error())).build());
+            }
+        }
+        return BulkImportResultDTO.builder()
+                .received(received)
+                .imported(received - errors.size())
+                .failed(errors.size())
+                .errors(errors)
+                .build();
+    }
 }
@@ -2,6 +2,8 @@ package com.example.vetclinic.presentation.controller;
 
 import com.example.vetclinic.application.dto.vet.CreateVetDTO;
 import com.example.vetclinic.application.dto.vet.UpdateVetDTO;
+import com.example.vetclinic.application.dto.vet.VetAvailabilityDTO;
+import com.example.vetclinic.application.service.AvailabilityService;
 import com.example.vetclinic.application.dto.vet.VetDTO;
 import com.example.vetclinic.application.service.VetService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -15,6 +17,8 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -39,6 +43,9 @@ class VetControllerTest {
     @MockBean
     private VetService vetService;
 
+    @MockBean
+    private AvailabilityService availabilityService;
+
     private VetDTO vetDTO;
     private CreateVetDTO createVetDTO;
     private UpdateVetDTO updateVetDTO;
@@ -197,5 +204,30 @@ class VetControllerTest {
                 .content(objectMapper.writeValueAsString(invalidDTO)))
                 .andExpect(status().isBadRequest());
     }
-}
 
+    @Test
+    @WithMockUser(roles = "RECEPCIONISTA")
+    void getVetAvailability_ShouldReturnSlots() throws Exception {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(1);
+        VetAvailabilityDTO availability = VetAvailabilityDTO.builder()
+                .vetId(1L)
+                .date(date)
+                .serviceId(2L)
+                .durationMinutes(30)
+                .openingTime(LocalTime.of(9, 0))
+                .closingTime(LocalTime.of(18, 0))
+                .availableSlots(List.of(LocalTime.of(9, 0), LocalTime.of(9, 30)))
+                .build();
+        when(availabilityService.getAvailability(1L, date, 2L, null)).thenReturn(availability);
+
+        // When & Then
+        mockMvc.perform(get("/api/vets/1/availability")
+                .param("date", date.toString())
+                .param("serviceId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.vetId").value(1))
+                .andExpect(jsonPath("$.durationMinutes").value(30))
+                .andExpect(jsonPath("$.availableSlots.length()").value(2));
+    }
+}
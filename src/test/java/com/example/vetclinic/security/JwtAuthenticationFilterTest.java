@@ -0,0 +1,127 @@
+package com.example.vetclinic.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private TokenRevocationList revocationList;
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+
+    private UserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider("SecretKeyMustBeAtLeast256BitsLongForSecurityReasons1234567890", 60000, 100);
+        filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, revocationList);
+
+        principal = new UserPrincipal(7L, "maria", "hash", List.of(
+                new SimpleGrantedAuthority("ROLE_VET"), new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void claimsMode_ShouldAuthenticateFromTokenWithoutLoadingUser() throws Exception {
+        // Given
+        String token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        // When
+        Authentication authentication = authenticate(token);
+
+        // Then
+        assertThat(authentication.getPrincipal()).isInstanceOf(UserPrincipal.class);
+        assertThat(((UserPrincipal) authentication.getPrincipal()).getId()).isEqualTo(7L);
+        assertThat(authentication.getName()).isEqualTo("maria");
+        assertThat(authentication.getAuthorities()).extracting(Object::toString)
+                .containsExactlyInAnyOrder("ROLE_VET", "ROLE_USER");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void claimsMode_ShouldLoadUser_WhenTokenHasNoUserId() throws Exception {
+        // Given
+        User legacy = new User("maria", "hash", principal.getAuthorities());
+        String token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(legacy, null, legacy.getAuthorities()));
+        when(userDetailsService.loadUserByUsername("maria")).thenReturn(principal);
+
+        // When
+        Authentication authentication = authenticate(token);
+
+        // Then
+        assertThat(authentication.getPrincipal()).isSameAs(principal);
+        verify(userDetailsService).loadUserByUsername("maria");
+    }
+
+    @Test
+    void databaseMode_ShouldLoadUserOnEveryRequest() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(filter, "authMode", JwtAuthMode.DATABASE);
+        String token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        when(userDetailsService.loadUserByUsername("maria")).thenReturn(principal);
+
+        // When
+        authenticate(token);
+        authenticate(token);
+
+        // Then
+        verify(userDetailsService, times(2)).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void revokedToken_ShouldNotAuthenticate() throws Exception {
+        // Given
+        String token = tokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        when(revocationList.isRevoked(any())).thenReturn(true);
+
+        // When
+        Authentication authentication = authenticate(token);
+
+        // Then
+        assertThat(authentication).isNull();
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.vetclinic.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "SecretKeyMustBeAtLeast256BitsLongForSecurityReasons1234567890";
+
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, 60000, 100);
+
+    @Test
+    void verify_ShouldReturnClaimsOfValidToken() {
+        // Given
+        String token = token(tokenProvider);
+
+        // When
+        Claims claims = tokenProvider.verify(token);
+
+        // Then
+        assertThat(claims.getSubject()).isEqualTo("maria");
+        assertThat(tokenProvider.getPrincipal(claims).getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void verify_ShouldReturnNull_WhenTokenIsTamperedOrExpired() {
+        // Given
+        String token = token(tokenProvider);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        String expired = token(new JwtTokenProvider(SECRET, -1000, 100));
+
+        // When & Then
+        assertThat(tokenProvider.verify(tampered)).isNull();
+        assertThat(tokenProvider.verify(expired)).isNull();
+        assertThat(tokenProvider.verify("not-a-token")).isNull();
+        assertThat(tokenProvider.verify(null)).isNull();
+    }
+
+    @Test
+    void verify_ShouldReuseVerifiedClaims_WhenTokenIsRepeated() {
+        // Given
+        String token = token(tokenProvider);
+
+        // When
+        Claims first = tokenProvider.verify(token);
+        Claims second = tokenProvider.verify(token);
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void verify_ShouldParseEveryTime_WhenCacheIsDisabled() {
+        // Given
+        JwtTokenProvider uncached = new JwtTokenProvider(SECRET, 60000, 0);
+        String token = token(uncached);
+
+        // When & Then
+        assertThat(uncached.verify(token)).isNotSameAs(uncached.verify(token));
+    }
+
+    private static String token(JwtTokenProvider provider) {
+        UserPrincipal principal = new UserPrincipal(7L, "maria", null, List.of(
+                new SimpleGrantedAuthority("ROLE_VET"), new SimpleGrantedAuthority("ROLE_USER")));
+        return provider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.vetclinic.security;
+
+import com.example.vetclinic.domain.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void encoder_ShouldHashAndMatchOnTheExecutor() {
+        // Given
+        executor = new PasswordHashingExecutor(2, 4, 5000, 2, meterRegistry);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), executor);
+
+        // When
+        String hash = encoder.encode("password123");
+
+        // Then
+        assertThat(encoder.matches("password123", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("executor.pool.size").tag("name", "password.hashing")
+                .gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void call_ShouldFailFast_WhenQueueIsFull() throws Exception {
+        // Given
+        executor = new PasswordHashingExecutor(1, 1, 5000, 3, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        CompletableFuture<Object> busy = CompletableFuture.supplyAsync(() -> executor.call(() -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        running.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> executor.call(() -> "queued"));
+        while (meterRegistry.get("executor.queued").tag("name", "password.hashing").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> executor.call(() -> "rejected"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .satisfies(ex -> assertThat(((ServiceUnavailableException) ex).getRetryAfterSeconds()).isEqualTo(3));
+        assertThat(meterRegistry.get("executor.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo(true);
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    @Test
+    void call_ShouldFail_WhenTaskWaitsTooLong() {
+        // Given
+        executor = new PasswordHashingExecutor(1, 1, 50, 2, meterRegistry);
+
+        // When & Then
+        assertThatThrownBy(() -> executor.call(() -> {
+            Thread.sleep(1000);
+            return "late";
+        })).isInstanceOf(ServiceUnavailableException.class);
+    }
+}
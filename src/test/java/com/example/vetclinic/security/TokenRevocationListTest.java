@@ -0,0 +1,109 @@
+package com.example.vetclinic.security;
+
+import com.example.vetclinic.domain.model.RevokedToken;
+import com.example.vetclinic.infrastructure.persistence.RevokedTokenJpaRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    @Mock
+    private RevokedTokenJpaRepository revokedTokenRepository;
+
+    @InjectMocks
+    private TokenRevocationList revocationList;
+
+    @Test
+    void revoke_ShouldPersistAndRejectTokenUntilItExpires() {
+        // Given
+        Claims revoked = claims(UUID.randomUUID().toString(), 60_000);
+        Claims other = claims(UUID.randomUUID().toString(), 60_000);
+
+        // When
+        revocationList.revoke(revoked);
+
+        // Then
+        ArgumentCaptor<RevokedToken> saved = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getTokenId()).isEqualTo(revoked.getId());
+        assertThat(saved.getValue().getExpiresAt()).isAfter(LocalDateTime.now());
+        assertThat(revocationList.isRevoked(revoked)).isTrue();
+        assertThat(revocationList.isRevoked(other)).isFalse();
+    }
+
+    @Test
+    void revoke_ShouldIgnoreTokensWithoutIdOrAlreadyExpired() {
+        // Given
+        Claims withoutId = claims(null, 60_000);
+        Claims expired = claims(UUID.randomUUID().toString(), -1_000);
+
+        // When
+        revocationList.revoke(withoutId);
+        revocationList.revoke(expired);
+
+        // Then
+        verifyNoInteractions(revokedTokenRepository);
+        assertThat(revocationList.bucketCount()).isZero();
+    }
+
+    @Test
+    void refresh_ShouldLoadPersistedRevocationsAndPurgeExpiredRows() {
+        // Given
+        String tokenId = UUID.randomUUID().toString();
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(List.of(RevokedToken.builder()
+                .tokenId(tokenId)
+                .expiresAt(LocalDateTime.now().plusHours(3))
+                .revokedAt(LocalDateTime.now())
+                .build()));
+
+        // When
+        revocationList.refresh();
+        revocationList.refresh();
+
+        // Then
+        assertThat(revocationList.isRevoked(claims(tokenId, 3 * 3_600_000))).isTrue();
+        verify(revokedTokenRepository, times(2)).deleteExpired(any());
+        verify(revokedTokenRepository).findByExpiresAtAfter(any());
+        verify(revokedTokenRepository).findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any());
+    }
+
+    @Test
+    void bloomFilter_ShouldHaveNoFalseNegativesAndFewFalsePositives() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        List<String> added = java.util.stream.Stream.generate(() -> UUID.randomUUID().toString())
+                .limit(10_000).toList();
+        added.forEach(filter::put);
+
+        // When
+        long falsePositives = java.util.stream.Stream.generate(() -> UUID.randomUUID().toString())
+                .limit(10_000).filter(filter::mightContain).count();
+
+        // Then
+        assertThat(added).allMatch(filter::mightContain);
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    private Claims claims(String tokenId, long expiresInMs) {
+        Claims claims = Jwts.claims().setSubject("maria");
+        claims.setId(tokenId);
+        claims.setExpiration(new Date(System.currentTimeMillis() + expiresInMs));
+        return claims;
+    }
+}